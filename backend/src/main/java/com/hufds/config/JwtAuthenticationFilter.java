@@ -48,14 +48,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            final String userEmail = jwtService.extractEmail(jwt);
+            // Signature and expiry are checked here, once per token while it stays cached
+            final JwtService.TokenPrincipal principal = jwtService.verify(jwt);
+            final String userEmail = principal.email();
             System.out.println("Extracted email: " + userEmail);
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String userType = jwtService.extractUserType(jwt);
+                String userType = principal.userType();
                 System.out.println("Extracted user type: " + userType);
 
-                if (jwtService.isTokenValid(jwt, userEmail)) {
+                if (userType != null && !principal.isExpired()) {
                     System.out.println("Token is valid");
 
                     // Role'ü küçük harfle kullan
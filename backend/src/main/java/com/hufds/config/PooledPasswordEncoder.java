@@ -0,0 +1,112 @@
+package com.hufds.config;
+
+import com.hufds.exception.CustomException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs password hashing on a small bounded pool so a burst of logins cannot occupy every
+ * request thread with BCrypt work. When the pool and its queue are full the call fails
+ * fast with 429 instead of piling up behind the hashes already waiting.
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledPasswordEncoder.class);
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Pool usage and hashing latency, measured from submission so queueing time is included
+     */
+    public record Stats(int active, int queued, long completed, long rejected, long averageMillis, long maxMillis) {
+    }
+
+    public PooledPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        this.delegate = delegate;
+        BlockingQueue<Runnable> queue = queueCapacity > 0
+                ? new ArrayBlockingQueue<>(queueCapacity)
+                : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only parses the stored hash, cheap enough to stay on the caller's thread
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public Stats getStats() {
+        long done = completed.get();
+        return new Stats(executor.getActiveCount(), executor.getQueue().size(), done, rejected.get(),
+                done == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / done),
+                TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> hashing) {
+        long started = System.nanoTime();
+        try {
+            T result = executor.submit(hashing).get();
+            record(System.nanoTime() - started);
+            return result;
+        } catch (RejectedExecutionException e) {
+            long count = rejected.incrementAndGet();
+            if (count % 100 == 1) {
+                log.warn("Password hashing pool saturated, {} requests rejected so far", count);
+            }
+            throw new CustomException("Too many login attempts right now, please try again shortly",
+                    HttpStatus.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException("Password check was interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private void record(long nanos) {
+        completed.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+}
@@ -1,14 +1,15 @@
 package com.hufds.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -28,10 +29,22 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserExistenceFilter userExistenceFilter;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Value("${password.bcrypt.strength:10}")
+    private int bcryptStrength;
+
+    @Value("${password.hashing.threads:0}")
+    private int hashingThreads;
+
+    @Value("${password.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    @Bean(destroyMethod = "shutdown")
+    public PooledPasswordEncoder passwordEncoder() {
+        // Hashing is CPU-bound, more threads than cores would only queue inside the CPU
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new PooledPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), threads, hashingQueueCapacity);
     }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
@@ -76,6 +89,9 @@ public class SecurityConfig {
                         // Customer and Courier listing endpoints for admin
                         .requestMatchers("/api/customers").hasRole("admin")
                         .requestMatchers("/api/couriers").hasRole("admin")
+                        // Event streams check the role themselves, a browser EventSource authenticates with a ticket
+                        .requestMatchers(HttpMethod.GET, "/api/customer/events", "/api/restaurant/events",
+                                "/api/courier/events").permitAll()
                         // Role-restricted endpoints
                         .requestMatchers("/api/customer/**").hasRole("customer")
                         .requestMatchers("/api/restaurant/**").hasRole("restaurant")
@@ -1,14 +1,7 @@
 package com.hufds.config;
 
-import com.hufds.entity.AdminUser;
-import com.hufds.entity.Customer;
-import com.hufds.entity.Restaurant;
-import com.hufds.entity.Courier;
-import com.hufds.repository.AdminRepository;
-import com.hufds.repository.CustomerRepository;
-import com.hufds.repository.RestaurantRepository;
-import com.hufds.repository.CourierRepository;
 import com.hufds.service.JwtService;
+import com.hufds.service.UserStatusCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,17 +12,13 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class UserExistenceFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final CustomerRepository customerRepository;
-    private final RestaurantRepository restaurantRepository;
-    private final CourierRepository courierRepository;
-    private final AdminRepository adminRepository;
+    private final UserStatusCache userStatusCache;
 
     @Override
     protected void doFilterInternal(
@@ -46,8 +35,9 @@ public class UserExistenceFilter extends OncePerRequestFilter {
             }
 
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractEmail(jwt);
-            final String userType = jwtService.extractUserType(jwt);
+            final JwtService.TokenPrincipal principal = jwtService.verify(jwt);
+            final String userEmail = principal.email();
+            final String userType = principal.userType();
             
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() != null) {
                 boolean userExists = checkUserExists(userEmail, userType);
@@ -68,29 +58,8 @@ public class UserExistenceFilter extends OncePerRequestFilter {
     }
     
     private boolean checkUserExists(String email, String userType) {
-        if (userType == null) {
-            return false;
-        }
-        
-        switch (userType.toLowerCase()) {
-            case "customer":
-                Optional<Customer> customer = customerRepository.findByEmail(email);
-                return customer.isPresent() && customer.get().getDeletedAt() == null;
-                
-            case "restaurant":
-                Optional<Restaurant> restaurant = restaurantRepository.findByEmail(email);
-                return restaurant.isPresent() && restaurant.get().getDeletedAt() == null;
-                
-            case "courier":
-                Optional<Courier> courier = courierRepository.findByEmail(email);
-                return courier.isPresent() && courier.get().getDeletedAt() == null;
-                
-            case "admin":
-                Optional<AdminUser> admin = adminRepository.findByEmail(email);
-                return admin.isPresent() && admin.get().getDeletedAt() == null;
-                
-            default:
-                return false;
-        }
+        return userStatusCache.getStatus(userType, email)
+                .map(status -> !status.isDeleted())
+                .orElse(false);
     }
-} 
\ No newline at end of file
+}
@@ -1,17 +1,12 @@
 package com.hufds.config;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // for all endpoints
@@ -20,10 +15,4 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*") // allow all targets
                 .maxAge(3600); // take in ram for 1 hour
     }
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadDir + "/");
-    }
 }
\ No newline at end of file
@@ -1,31 +0,0 @@
-package com.hufds.config;
-
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-import java.nio.file.Path;
-import java.nio.file.Paths;
-
-@Configuration
-public class WebMvcConfig implements WebMvcConfigurer {
-    @Value("${file.upload-dir}")
-    private String uploadDir;
-
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        Path uploadPath = Paths.get(uploadDir);
-        String uploadAbsolutePath = uploadPath.toFile().getAbsolutePath();
-        
-        // Ensure the directory exists
-        if (!uploadPath.toFile().exists()) {
-            uploadPath.toFile().mkdirs();
-        }
-
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:" + uploadAbsolutePath + "/")
-                .setCachePeriod(3600) // Cache for 1 hour
-                .resourceChain(true);
-    }
-} 
\ No newline at end of file
@@ -1,14 +1,19 @@
 package com.hufds.controller;
 
 import com.hufds.dto.CustomerAnalyticsDTO;
+import com.hufds.dto.DailyOrderAnalyticsDTO;
 import com.hufds.dto.RestaurantAnalyticsDTO;
 import com.hufds.service.AnalyticsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -27,4 +32,20 @@ public class AdminAnalyticsController {
     public ResponseEntity<List<CustomerAnalyticsDTO>> getCustomerAnalytics() {
         return ResponseEntity.ok(analyticsService.getCustomerAnalytics());
     }
-} 
\ No newline at end of file
+
+    @GetMapping("/restaurants/{restaurantId}/daily")
+    public ResponseEntity<List<DailyOrderAnalyticsDTO>> getRestaurantDailyAnalytics(
+            @PathVariable Integer restaurantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getRestaurantDailyAnalytics(restaurantId, from, to));
+    }
+
+    @GetMapping("/customers/{customerId}/daily")
+    public ResponseEntity<List<DailyOrderAnalyticsDTO>> getCustomerDailyAnalytics(
+            @PathVariable Integer customerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.getCustomerDailyAnalytics(customerId, from, to));
+    }
+}
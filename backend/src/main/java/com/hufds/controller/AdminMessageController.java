@@ -0,0 +1,54 @@
+package com.hufds.controller;
+
+import com.hufds.dto.BroadcastMessageRequestDTO;
+import com.hufds.exception.CustomException;
+import com.hufds.service.BroadcastMessageService;
+import com.hufds.service.JwtService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/messages")
+@RequiredArgsConstructor
+public class AdminMessageController {
+
+    private final BroadcastMessageService broadcastMessageService;
+    private final JwtService jwtService;
+
+    /**
+     * Sends an announcement from the authenticated admin to a whole audience; the messages are written in the background
+     */
+    @PostMapping("/broadcast")
+    public ResponseEntity<Map<String, String>> broadcast(
+            @Valid @RequestBody BroadcastMessageRequestDTO dto,
+            HttpServletRequest request) {
+        validateUserRole("admin");
+        Integer adminId = jwtService.extractUserId(extractToken(request));
+        String broadcastId = broadcastMessageService.broadcast(adminId, dto);
+        return new ResponseEntity<>(Map.of("broadcastId", broadcastId), HttpStatus.ACCEPTED);
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        throw new CustomException("Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+    }
+
+    private void validateUserRole(String requiredRole) {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean hasRole = auth != null && auth.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_" + requiredRole));
+        if (!hasRole) {
+            throw new CustomException("Access denied. Required role: " + requiredRole, HttpStatus.FORBIDDEN);
+        }
+    }
+}
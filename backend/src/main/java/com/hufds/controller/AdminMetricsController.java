@@ -0,0 +1,38 @@
+package com.hufds.controller;
+
+import com.hufds.config.PooledPasswordEncoder;
+import com.hufds.service.LoginMetrics;
+import com.hufds.service.TokenBlacklistService;
+import com.hufds.service.UploadedFileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runtime figures kept by the in-memory services, gathered in one place for operators
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+@RequiredArgsConstructor
+public class AdminMetricsController {
+
+    private final PooledPasswordEncoder passwordEncoder;
+    private final LoginMetrics loginMetrics;
+    private final TokenBlacklistService tokenBlacklistService;
+    private final UploadedFileService uploadedFileService;
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("logins", loginMetrics.getStats());
+        metrics.put("passwordHashing", passwordEncoder.getStats());
+        metrics.put("tokenBlacklist", tokenBlacklistService.getStats());
+        metrics.put("uploadedFiles", uploadedFileService.getStats());
+        return ResponseEntity.ok(metrics);
+    }
+}
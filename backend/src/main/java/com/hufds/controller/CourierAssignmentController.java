@@ -1,6 +1,7 @@
 package com.hufds.controller;
 
 import com.hufds.dto.CourierOrderHistoryDTO;
+import com.hufds.dto.CursorPageDTO;
 import com.hufds.entity.CourierAssignment;
 import com.hufds.dto.CourierAssignmentDTO;
 import com.hufds.service.CourierAssignmentService;
@@ -196,6 +197,24 @@ public class CourierAssignmentController {
         return ResponseEntity.ok(history);
     }
 
+    /**
+     * Get one page of the delivery history for the authenticated courier, newest first.
+     * @param cursor The nextCursor of the previous page, omitted for the first page
+     * @param size Requested page size
+     * @return The page of courier order history DTOs
+     */
+    @GetMapping("/courier/history/page")
+    public ResponseEntity<CursorPageDTO<CourierOrderHistoryDTO>> getCourierOrderHistoryPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        validateUserRole("courier");
+        String token = extractToken(request);
+        Integer courierId = jwtService.extractUserId(token);
+
+        return ResponseEntity.ok(assignmentService.getCourierOrderHistoryPage(courierId, cursor, size));
+    }
+
     /**
      * Get all pending delivery requests for the authenticated courier.
      * These are assignments with status REQUESTED that the courier can accept or reject.
@@ -1,11 +1,13 @@
 package com.hufds.controller;
 
+import com.hufds.dto.CourierLocationDTO;
 import com.hufds.entity.Courier;
 import com.hufds.entity.Order;
 import com.hufds.service.CourierService;
 import com.hufds.service.OrderService;
 import com.hufds.service.JwtService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -66,6 +68,21 @@ public class CourierController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Report the authenticated courier's current position, used to dispatch nearby orders.
+     * The courier app is expected to call this periodically while it is open.
+     */
+    @PutMapping("/location")
+    public ResponseEntity<Void> updateCourierLocation(
+            HttpServletRequest request,
+            @Valid @RequestBody CourierLocationDTO locationDTO) {
+        validateUserRole("courier");
+        String token = extractToken(request);
+        Integer courierId = jwtService.extractUserId(token);
+        courierService.updateCourierLocation(courierId, locationDTO);
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * Get active delivery orders for a courier with restaurant and customer details.
      * These are orders with status OUT_FOR_DELIVERY that are assigned to the courier.
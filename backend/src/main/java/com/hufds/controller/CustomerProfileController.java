@@ -67,4 +67,11 @@ public class CustomerProfileController {
     public ResponseEntity<?> getOrders() {
         return ResponseEntity.ok(profileService.getCurrentUserOrders());
     }
+
+    @GetMapping("/orders/history")
+    public ResponseEntity<?> getOrderHistory(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(profileService.getCurrentUserOrderPage(cursor, size));
+    }
 } 
\ No newline at end of file
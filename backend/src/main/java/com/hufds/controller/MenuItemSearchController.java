@@ -24,7 +24,9 @@ public class MenuItemSearchController {
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Boolean isAvailable,
-            @RequestParam(required = false) Integer restaurantId) {
+            @RequestParam(required = false) Integer restaurantId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
         
         MenuItemSearchDTO searchDTO = MenuItemSearchDTO.builder()
                 .name(name)
@@ -33,6 +35,8 @@ public class MenuItemSearchController {
                 .maxPrice(maxPrice)
                 .isAvailable(isAvailable)
                 .restaurantId(restaurantId)
+                .page(page)
+                .size(size)
                 .build();
 
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
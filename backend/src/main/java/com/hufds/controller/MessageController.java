@@ -1,14 +1,21 @@
 package com.hufds.controller;
 
+import com.hufds.dto.BulkMessageRequestDTO;
+import com.hufds.dto.CursorPageDTO;
 import com.hufds.dto.MessageDTO;
 import com.hufds.entity.Message;
+import com.hufds.exception.CustomException;
+import com.hufds.service.JwtService;
 import com.hufds.service.MessageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/messages")
@@ -17,6 +24,7 @@ import java.util.List;
 public class MessageController {
 
     private final MessageService messageService;
+    private final JwtService jwtService;
     
     /**
      * Yeni bir mesaj oluştur
@@ -103,6 +111,29 @@ public class MessageController {
         return ResponseEntity.ok(messages);
     }
     
+    /**
+     * Gelen kutusunu sayfa sayfa getir, en yeni mesaj önce
+     */
+    @GetMapping("/inbox/{userId}/{userType}")
+    public ResponseEntity<CursorPageDTO<MessageDTO>> getInboxPage(
+            @PathVariable Long userId,
+            @PathVariable String userType,
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(messageService.getInboxPage(userId, userType, unreadOnly, cursor, size));
+    }
+    
+    /**
+     * Okunmamış mesaj sayısını getir
+     */
+    @GetMapping("/unread-count/{userId}/{userType}")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(
+            @PathVariable Long userId,
+            @PathVariable String userType) {
+        return ResponseEntity.ok(Map.of("unreadCount", messageService.getUnreadCount(userId, userType)));
+    }
+    
     /**
      * Admin için özel olarak okunmamış mesajları getir (sadece receiverType=ADMIN olanlar)
      */
@@ -157,6 +188,32 @@ public class MessageController {
         return ResponseEntity.noContent().build();
     }
     
+    /**
+     * Giriş yapan kullanıcının mesajlarını toplu olarak okundu işaretle (id listesi ya da bir zamandan öncekiler)
+     */
+    @PutMapping("/bulk/read")
+    public ResponseEntity<Map<String, Integer>> markAllAsRead(
+            @Valid @RequestBody BulkMessageRequestDTO request,
+            HttpServletRequest httpRequest) {
+        String token = extractToken(httpRequest);
+        int affected = messageService.markAllAsRead(
+                jwtService.extractUserId(token).longValue(), jwtService.extractUserType(token), request);
+        return ResponseEntity.ok(Map.of("affected", affected));
+    }
+    
+    /**
+     * Giriş yapan kullanıcının mesajlarını toplu olarak sil (id listesi ya da bir zamandan öncekiler)
+     */
+    @PutMapping("/bulk/delete")
+    public ResponseEntity<Map<String, Integer>> deleteAll(
+            @Valid @RequestBody BulkMessageRequestDTO request,
+            HttpServletRequest httpRequest) {
+        String token = extractToken(httpRequest);
+        int affected = messageService.deleteAll(
+                jwtService.extractUserId(token).longValue(), jwtService.extractUserType(token), request);
+        return ResponseEntity.ok(Map.of("affected", affected));
+    }
+    
     /**
      * Kullanıcı tipine göre mesajları getir
      */
@@ -188,4 +245,12 @@ public class MessageController {
         List<MessageDTO> messages = messageService.getCustomerUnreadMessages(customerId);
         return ResponseEntity.ok(messages);
     }
-} 
\ No newline at end of file
+    
+    private String extractToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        throw new CustomException("Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,112 @@
+package com.hufds.controller;
+
+import com.hufds.exception.CustomException;
+import com.hufds.service.EventStreamTicketService;
+import com.hufds.service.JwtService;
+import com.hufds.service.OrderEventStreamService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+/**
+ * Server-Sent Events streams that replace polling for order status and courier requests.
+ * Clients that can send headers open a stream with the Authorization header. A browser
+ * EventSource first posts to the matching /ticket endpoint and opens the stream with ?ticket=.
+ */
+@RestController
+public class OrderEventStreamController {
+
+    @Autowired
+    private OrderEventStreamService orderEventStreamService;
+
+    @Autowired
+    private EventStreamTicketService eventStreamTicketService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    /**
+     * Status changes of the authenticated customer's orders
+     */
+    @GetMapping(value = "/api/customer/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCustomerEvents(@RequestParam(required = false) String ticket, HttpServletRequest request) {
+        return subscribe(ticket, request, "customer", OrderEventStreamService.Audience.CUSTOMER);
+    }
+
+    @PostMapping("/api/customer/events/ticket")
+    public ResponseEntity<Map<String, String>> issueCustomerTicket(HttpServletRequest request) {
+        return issueTicket(request, "customer", OrderEventStreamService.Audience.CUSTOMER);
+    }
+
+    /**
+     * Order status and courier assignment changes of the authenticated restaurant's orders
+     */
+    @GetMapping(value = "/api/restaurant/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRestaurantEvents(@RequestParam(required = false) String ticket, HttpServletRequest request) {
+        return subscribe(ticket, request, "restaurant", OrderEventStreamService.Audience.RESTAURANT);
+    }
+
+    @PostMapping("/api/restaurant/events/ticket")
+    public ResponseEntity<Map<String, String>> issueRestaurantTicket(HttpServletRequest request) {
+        return issueTicket(request, "restaurant", OrderEventStreamService.Audience.RESTAURANT);
+    }
+
+    /**
+     * Delivery requests and order status changes for the authenticated courier
+     */
+    @GetMapping(value = "/api/courier/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamCourierEvents(@RequestParam(required = false) String ticket, HttpServletRequest request) {
+        return subscribe(ticket, request, "courier", OrderEventStreamService.Audience.COURIER);
+    }
+
+    @PostMapping("/api/courier/events/ticket")
+    public ResponseEntity<Map<String, String>> issueCourierTicket(HttpServletRequest request) {
+        return issueTicket(request, "courier", OrderEventStreamService.Audience.COURIER);
+    }
+
+    private SseEmitter subscribe(String ticket, HttpServletRequest request, String role,
+                                 OrderEventStreamService.Audience audience) {
+        Integer userId;
+        if (ticket != null) {
+            userId = eventStreamTicketService.redeem(ticket, audience);
+        } else {
+            validateUserRole(role);
+            userId = jwtService.extractUserId(extractToken(request));
+        }
+        return orderEventStreamService.subscribe(audience, userId);
+    }
+
+    private ResponseEntity<Map<String, String>> issueTicket(HttpServletRequest request, String role,
+                                                            OrderEventStreamService.Audience audience) {
+        validateUserRole(role);
+        Integer userId = jwtService.extractUserId(extractToken(request));
+        return ResponseEntity.ok(Map.of("ticket", eventStreamTicketService.issue(audience, userId)));
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header == null || !header.startsWith("Bearer ")) {
+            throw new CustomException("Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+        }
+        return header.substring(7);
+    }
+
+    private void validateUserRole(String requiredRole) {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean hasRole = auth != null && auth.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_" + requiredRole));
+        if (!hasRole) {
+            throw new CustomException("Access denied. Required role: " + requiredRole, HttpStatus.FORBIDDEN);
+        }
+    }
+}
@@ -11,11 +11,16 @@ import com.hufds.service.OrderService;
 import com.hufds.service.RestaurantConfigService;
 import com.hufds.dto.CourierAssignmentDTO;
 import com.hufds.dto.CourierAssignmentRequestDTO;
+import com.hufds.dto.CursorPageDTO;
 import com.hufds.dto.OrderResponseDTO;
+import com.hufds.exception.CustomException;
+import com.hufds.service.JwtService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -42,6 +47,9 @@ public class RestaurantController {
     @Autowired
     private RestaurantConfigService restaurantConfigService;
 
+    @Autowired
+    private JwtService jwtService;
+
     @GetMapping("/verify")
     public ResponseEntity<Void> verifyRestaurantExists() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -100,14 +108,33 @@ public class RestaurantController {
         return ResponseEntity.ok(restaurantService.getAvailableCouriers(restaurantId));
     }
 
+    /**
+     * Request the nearest available courier for an order
+     */
+    @PostMapping("/{restaurantId}/orders/{orderId}/request-courier")
+    public ResponseEntity<?> requestNearestCourierForOrder(
+            @PathVariable Integer restaurantId,
+            @PathVariable Integer orderId,
+            HttpServletRequest request) {
+        validateRestaurant(restaurantId, request);
+        CourierAssignmentRequestDTO assignmentDTO = CourierAssignmentRequestDTO.builder()
+            .orderId(orderId)
+            .restaurantId(restaurantId)
+            .build();
+        return ResponseEntity.ok(courierAssignmentService.assignOrderToCourier(assignmentDTO));
+    }
+
     @PostMapping("/{restaurantId}/orders/{orderId}/request-courier/{courierId}")
     public ResponseEntity<?> requestCourierForOrder(
             @PathVariable Integer restaurantId,
             @PathVariable Integer orderId,
-            @PathVariable Integer courierId) {
+            @PathVariable Integer courierId,
+            HttpServletRequest request) {
+        validateRestaurant(restaurantId, request);
         CourierAssignmentRequestDTO assignmentDTO = CourierAssignmentRequestDTO.builder()
             .orderId(orderId)
             .courierId(courierId)
+            .restaurantId(restaurantId)
             .build();
         return ResponseEntity.ok(courierAssignmentService.assignOrderToCourier(assignmentDTO));
     }
@@ -132,6 +159,16 @@ public class RestaurantController {
         return ResponseEntity.ok(orderDTOs);
     }
 
+    @GetMapping("/{restaurantId}/orders/history")
+    public ResponseEntity<CursorPageDTO<OrderResponseDTO>> getRestaurantOrderHistory(
+            @PathVariable Integer restaurantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            HttpServletRequest request) {
+        validateRestaurant(restaurantId, request);
+        return ResponseEntity.ok(orderService.getRestaurantOrderPage(restaurantId, cursor, size));
+    }
+
     @PostMapping(value = "/{restaurantId}/profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Restaurant> uploadProfileImage(
             @PathVariable Integer restaurantId,
@@ -148,4 +185,26 @@ public class RestaurantController {
                 "approvalStatus", restaurant.getApprovalStatus()
         ));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Only the restaurant itself may act on its orders
+     */
+    private void validateRestaurant(Integer restaurantId, HttpServletRequest request) {
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        boolean isRestaurant = auth != null && auth.getAuthorities().contains(new SimpleGrantedAuthority("ROLE_restaurant"));
+        if (!isRestaurant) {
+            throw new CustomException("Access denied. Required role: restaurant", HttpStatus.FORBIDDEN);
+        }
+        if (!restaurantId.equals(jwtService.extractUserId(extractToken(request)))) {
+            throw new CustomException("Access denied", HttpStatus.FORBIDDEN);
+        }
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")) {
+            return header.substring(7);
+        }
+        throw new CustomException("Missing or invalid Authorization header", HttpStatus.UNAUTHORIZED);
+    }
+}
@@ -19,32 +19,17 @@ public class RestaurantSearchController {
 
     @GetMapping
     public ResponseEntity<List<RestaurantSearchResultDTO>> getAllRestaurants(
-            @RequestParam(required = false, defaultValue = "") String sortBy) {
-        // Boş bir search DTO oluşturarak tüm restoranları getiriyoruz
-        RestaurantSearchDTO searchDTO = RestaurantSearchDTO.builder().build();
+            @RequestParam(required = false, defaultValue = "") String sortBy,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        // Boş bir search DTO oluşturarak tüm restoranları getiriyoruz; sıralama veritabanında yapılır.
+        // page ve size verilmezse sayfalama yapılmaz, tüm restoranlar döner
+        RestaurantSearchDTO searchDTO = RestaurantSearchDTO.builder()
+            .sortBy(sortBy.isEmpty() ? null : sortBy)
+            .page(page)
+            .size(size)
+            .build();
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
-        
-        // Eğer sıralama parametresi varsa, sonuçları sırala
-        if (sortBy != null && !sortBy.isEmpty()) {
-            switch (sortBy) {
-                case "rating":
-                    results.sort((r1, r2) -> Float.compare(r2.getRating(), r1.getRating())); // Büyükten küçüğe
-                    break;
-                case "name":
-                    results.sort((r1, r2) -> r1.getName().compareToIgnoreCase(r2.getName())); // A-Z
-                    break;
-                case "cuisine":
-                    results.sort((r1, r2) -> {
-                        if (r1.getCuisineType() == null) return 1;
-                        if (r2.getCuisineType() == null) return -1;
-                        return r1.getCuisineType().compareToIgnoreCase(r2.getCuisineType());
-                    });
-                    break;
-                default:
-                    break;
-            }
-        }
-        
         return ResponseEntity.ok(results);
     }
 
@@ -60,7 +45,11 @@ public class RestaurantSearchController {
             @RequestParam(required = false) String deliveryTime,
             @RequestParam(required = false) Double latitude,
             @RequestParam(required = false) Double longitude,
-            @RequestParam(required = false) Integer maxDistanceKm
+            @RequestParam(required = false) Integer maxDistanceKm,
+            @RequestParam(required = false) RestaurantSearchDTO.MatchMode matchMode,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
     ) {
         RestaurantSearchDTO searchDTO = RestaurantSearchDTO.builder()
             .name(name)
@@ -74,6 +63,10 @@ public class RestaurantSearchController {
             .latitude(latitude)
             .longitude(longitude)
             .maxDistanceKm(maxDistanceKm)
+            .matchMode(matchMode)
+            .sortBy(sortBy)
+            .page(page)
+            .size(size)
             .build();
 
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
@@ -0,0 +1,103 @@
+package com.hufds.controller;
+
+import com.hufds.exception.ResourceNotFoundException;
+import com.hufds.service.FileStorageService;
+import com.hufds.service.UploadedFileService;
+import com.hufds.util.ImageVariant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Serves uploaded images straight from disk. Bodies are streamed from the file rather than
+ * loaded into memory, conditional and range requests are answered here, and files with
+ * UUID names, which are never overwritten, are cached by clients for a year. A resized
+ * variant that has not been generated yet is answered with the original image.
+ */
+@RestController
+@RequiredArgsConstructor
+public class UploadController {
+
+    private static final Pattern UUID_FILENAME =
+            Pattern.compile("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}(-[a-z]+)?\\.[A-Za-z0-9]+");
+
+    private final FileStorageService fileStorageService;
+    private final UploadedFileService uploadedFileService;
+
+    @GetMapping("/uploads/{directory}/{filename:.+}")
+    public ResponseEntity<?> getUpload(@PathVariable String directory,
+                                       @PathVariable String filename,
+                                       @RequestHeader HttpHeaders requestHeaders) throws IOException {
+        Resource resource;
+        CacheControl cacheControl = cacheControlFor(filename);
+        try {
+            resource = fileStorageService.getFile(directory + "/" + filename);
+        } catch (ResourceNotFoundException e) {
+            // Variants are written in the background, serve the original until this one exists
+            String original = ImageVariant.originalNameOf(filename).orElseThrow(() -> e);
+            resource = fileStorageService.getFile(directory + "/" + original);
+            cacheControl = CacheControl.maxAge(1, TimeUnit.MINUTES).cachePublic();
+        }
+        String etag = uploadedFileService.etagOf(resource);
+        long length = resource.contentLength();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(cacheControl);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match uses weak comparison, so a W/ prefix still matches
+        boolean notModified = requestHeaders.getIfNoneMatch().stream()
+                .anyMatch(tag -> tag.equals("*") || tag.replaceFirst("^W/", "").equals(etag));
+        if (notModified) {
+            uploadedFileService.recordNotModified();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        MediaType mediaType = MediaTypeFactory.getMediaType(resource).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        // A Range with a stale If-Range validator gets the whole, current file
+        String ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+        if (requestHeaders.containsKey(HttpHeaders.RANGE) && (ifRange == null || ifRange.equals(etag))) {
+            List<ResourceRegion> regions;
+            try {
+                regions = HttpRange.toResourceRegions(requestHeaders.getRange(), resource);
+            } catch (IllegalArgumentException e) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            uploadedFileService.recordServed(regions.stream().mapToLong(ResourceRegion::getCount).sum());
+            if (regions.size() == 1) {
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers)
+                        .contentType(mediaType).body(regions.get(0));
+            }
+            // Multiple ranges are written as multipart/byteranges, which sets its own content type
+            return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers).body(regions);
+        }
+
+        uploadedFileService.recordServed(length);
+        return ResponseEntity.ok().headers(headers).contentType(mediaType).contentLength(length).body(resource);
+    }
+
+    private static CacheControl cacheControlFor(String filename) {
+        if (UUID_FILENAME.matcher(filename).matches()) {
+            return CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+        }
+        return CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+    }
+}
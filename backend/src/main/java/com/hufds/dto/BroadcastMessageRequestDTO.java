@@ -0,0 +1,34 @@
+package com.hufds.dto;
+
+import com.hufds.entity.Message;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A message an admin sends to every user of one type, optionally only restaurants in one city.
+ * The sender is the authenticated admin, never taken from the request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastMessageRequestDTO {
+    @NotNull(message = "Audience is required")
+    private Audience audience;
+
+    private String city;
+
+    @NotBlank(message = "Message content is required")
+    private String messageContent;
+
+    @NotNull(message = "Message type is required")
+    private Message.MessageType messageType;
+
+    public enum Audience {
+        CUSTOMERS, COURIERS, RESTAURANTS
+    }
+}
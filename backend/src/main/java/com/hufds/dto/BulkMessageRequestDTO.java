@@ -0,0 +1,25 @@
+package com.hufds.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Selects the caller's messages for a bulk operation, either by id or everything created before a time.
+ * The receiver is always the authenticated user.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMessageRequestDTO {
+    @Size(max = 1000, message = "At most 1000 message ids can be given at once")
+    private List<Long> messageIds;
+
+    private LocalDateTime before;
+}
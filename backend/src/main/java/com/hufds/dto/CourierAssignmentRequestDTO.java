@@ -8,4 +8,6 @@ import lombok.Data;
 public class CourierAssignmentRequestDTO {
     private Integer orderId;
     private Integer courierId;
+    // When set, the order must belong to this restaurant
+    private Integer restaurantId;
 } 
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.hufds.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list; nextCursor is null on the last page
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+    private List<T> items;
+    private String nextCursor;
+
+    /**
+     * Builds a page from rows fetched with one extra row to tell whether another page follows
+     */
+    public static <R, T> CursorPageDTO<T> of(List<R> rows, int pageSize,
+                                             Function<R, String> cursorOf, Function<R, T> mapper) {
+        boolean hasMore = rows.size() > pageSize;
+        List<R> page = hasMore ? rows.subList(0, pageSize) : rows;
+        return CursorPageDTO.<T>builder()
+                .items(page.stream().map(mapper).filter(Objects::nonNull).toList())
+                .nextCursor(hasMore ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.hufds.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyOrderAnalyticsDTO {
+    private LocalDate date;
+    private Integer totalOrders;
+    private BigDecimal totalRevenue;
+    private Float averageOrderValue;
+}
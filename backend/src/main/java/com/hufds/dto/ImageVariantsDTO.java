@@ -0,0 +1,32 @@
+package com.hufds.dto;
+
+import com.hufds.util.ImageVariant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * URLs of the resized copies of an uploaded image. Until a copy has been generated
+ * its URL serves the original image.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariantsDTO {
+    private String thumbnailUrl;
+    private String cardUrl;
+    private String detailUrl;
+
+    public static ImageVariantsDTO of(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return null;
+        }
+        return ImageVariantsDTO.builder()
+                .thumbnailUrl(ImageVariant.THUMBNAIL.nameFor(imageUrl))
+                .cardUrl(ImageVariant.CARD.nameFor(imageUrl))
+                .detailUrl(ImageVariant.DETAIL.nameFor(imageUrl))
+                .build();
+    }
+}
@@ -18,4 +18,6 @@ public class MenuItemSearchDTO {
     private Boolean isAvailable;
     @Builder.Default
     private Integer restaurantId = null;
+    private Integer page;
+    private Integer size;
 } 
\ No newline at end of file
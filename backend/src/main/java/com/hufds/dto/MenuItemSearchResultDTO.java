@@ -17,6 +17,7 @@ public class MenuItemSearchResultDTO {
     private BigDecimal price;
     private String category;
     private String imageUrl;
+    private ImageVariantsDTO imageVariants;
     private Boolean isAvailable;
     private Integer restaurantId;
     private String restaurantName;
@@ -0,0 +1,32 @@
+package com.hufds.dto;
+
+import com.hufds.entity.CourierAssignment;
+import com.hufds.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEventDTO {
+
+    public enum EventType {
+        ORDER_STATUS_CHANGED,
+        ASSIGNMENT_STATUS_CHANGED
+    }
+
+    private EventType type;
+    private Integer orderId;
+    private Order.OrderStatus orderStatus;
+    private Integer assignmentId;
+    private CourierAssignment.AssignmentStatus assignmentStatus;
+    private Integer customerId;
+    private Integer restaurantId;
+    private Integer courierId;
+    private LocalDateTime occurredAt;
+}
@@ -35,6 +35,7 @@ public class RestaurantProfileDTO {
     private Integer deliveryRangeKm;
 
     private String profileImageUrl;
+    private ImageVariantsDTO profileImageVariants;
 
     @Data
     @Builder
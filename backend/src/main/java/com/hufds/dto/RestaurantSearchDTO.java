@@ -21,4 +21,17 @@ public class RestaurantSearchDTO {
     private Double latitude;
     private Double longitude;
     private Integer maxDistanceKm;
-} 
\ No newline at end of file
+
+    // How the name/cuisine/location filters combine; null means ALL
+    private MatchMode matchMode;
+
+    // Sorting (rating, name, cuisine) and paging; without page and size every match is returned.
+    // A page shorter than the requested size is the last one.
+    private String sortBy;
+    private Integer page;
+    private Integer size;
+
+    public enum MatchMode {
+        ALL, ANY
+    }
+}
@@ -28,6 +28,10 @@ public class RestaurantSearchResultDTO {
     private Integer deliveryRangeKm;
     private LocalTime estimatedDeliveryTime;
     private Double averagePrice;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private Integer menuItemCount;
     private boolean isOpen;
     private String profileImageUrl;
+    private ImageVariantsDTO profileImageVariants;
 } 
\ No newline at end of file
@@ -12,7 +12,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "courierassignment")
+@Table(name = "courierassignment", indexes = {
+        @Index(name = "idx_courierassignment_courier_assigned", columnList = "courier_id, assigned_at, assignment_id")
+})
 public class CourierAssignment {
 
     @Id
@@ -16,7 +16,9 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "menuitem")
+@Table(name = "menuitem", indexes = {
+        @Index(name = "idx_menuitem_restaurant_deleted", columnList = "restaurant_id, deleted_at")
+})
 @JsonIgnoreProperties({"restaurant.menuItems", "restaurant.orders", "restaurant.businessHours", "restaurant.favoritedByCustomers", "orderItems.order"})
 public class MenuItem {
 
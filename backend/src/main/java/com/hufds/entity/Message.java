@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "message")
+@Table(name = "message", indexes = {
+        @Index(name = "idx_message_receiver_unread", columnList = "receiver_type, receiver_id, is_read, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,29 +15,32 @@ import java.util.Set;
 @AllArgsConstructor
 
 @Entity
-@Table(name = "orders") // Using "orders" since "order" is a reserved word in SQL
+@Table(name = "orders", indexes = { // Using "orders" since "order" is a reserved word in SQL
+        @Index(name = "idx_orders_customer_created", columnList = "customer_id, created_at, order_id"),
+        @Index(name = "idx_orders_restaurant_created", columnList = "restaurant_id, created_at, order_id")
+})
 @JsonIgnoreProperties({"customer.addresses", "address.customer", "restaurant.businessHours"})
 public class Order {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer orderId;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "customer_id", nullable = false)
     @JsonBackReference(value = "order-customer")
     private Customer customer;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurant_id", nullable = false)
     @JsonBackReference(value = "restaurant-orders")
     private Restaurant restaurant;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "courier_id")
     @JsonBackReference(value = "courier-orders")
     private Courier courier;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "address_id", nullable = false)
     @JsonBackReference(value = "order-address")
     private Address address;
@@ -59,11 +62,11 @@ public class Order {
     @JsonManagedReference(value = "order-payment")
     private Payment payment;
 
-    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference(value = "order-items")
     private Set<OrderItem> orderItems = new HashSet<>();
 
-    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference(value = "order-assignments")
     private Set<CourierAssignment> courierAssignments = new HashSet<>();
     
@@ -0,0 +1,43 @@
+package com.hufds.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Delivered order count and revenue of one restaurant or customer on one day
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "order_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"scope", "owner_id", "rollup_date"})
+})
+public class OrderDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Integer rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private OrderRollup.Scope scope;
+
+    @Column(name = "owner_id", nullable = false)
+    private Integer ownerId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+
+    @Column(precision = 14, scale = 2, nullable = false)
+    private BigDecimal revenue;
+}
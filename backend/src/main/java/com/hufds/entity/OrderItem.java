@@ -23,7 +23,7 @@ public class OrderItem {
     @JsonBackReference(value = "order-items")
     private Order order;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "menu_item_id", nullable = false)
     @JsonBackReference(value = "menu-item-orders")
     private MenuItem menuItem;
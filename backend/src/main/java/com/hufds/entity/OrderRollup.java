@@ -0,0 +1,44 @@
+package com.hufds.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+/**
+ * All-time delivered order count and revenue of one restaurant or customer
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "order_rollup", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"scope", "owner_id"})
+})
+public class OrderRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Integer rollupId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private Scope scope;
+
+    @Column(name = "owner_id", nullable = false)
+    private Integer ownerId;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount;
+
+    @Column(precision = 14, scale = 2, nullable = false)
+    private BigDecimal revenue;
+
+    public enum Scope {
+        RESTAURANT,
+        CUSTOMER
+    }
+}
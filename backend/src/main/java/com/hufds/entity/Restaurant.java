@@ -86,6 +86,22 @@ public class Restaurant {
     @Column(name = "ban_open_date")
     private LocalDateTime banOpenDate;
 
+    // Menu price statistics over non-deleted items, kept up to date by RestaurantMenuStatsService
+    @Column(name = "menu_item_count")
+    private Integer menuItemCount = 0;
+
+    @Column(name = "available_menu_item_count")
+    private Integer availableMenuItemCount = 0;
+
+    @Column(name = "average_menu_price", precision = 10, scale = 2)
+    private BigDecimal averageMenuPrice;
+
+    @Column(name = "min_menu_price", precision = 10, scale = 2)
+    private BigDecimal minMenuPrice;
+
+    @Column(name = "max_menu_price", precision = 10, scale = 2)
+    private BigDecimal maxMenuPrice;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
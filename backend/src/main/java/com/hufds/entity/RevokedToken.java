@@ -0,0 +1,26 @@
+package com.hufds.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Logged-out token, stored by digest until it would have expired anyway
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "revoked_token")
+public class RevokedToken {
+
+    @Id
+    @Column(name = "token_digest", length = 64)
+    private String tokenDigest;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
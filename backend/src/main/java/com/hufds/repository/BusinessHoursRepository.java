@@ -2,11 +2,31 @@ package com.hufds.repository;
 
 import com.hufds.entity.BusinessHours;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface BusinessHoursRepository extends JpaRepository<BusinessHours, Integer> {
     List<BusinessHours> findByRestaurantRestaurantId(Integer restaurantId);
+
+    /**
+     * Opening hours of several restaurants in one query, without loading the restaurants themselves
+     */
+    @Query("SELECT bh.restaurant.restaurantId AS restaurantId, bh.dayOfWeek AS dayOfWeek, " +
+           "bh.openTime AS openTime, bh.closeTime AS closeTime, bh.isClosed AS isClosed " +
+           "FROM BusinessHours bh WHERE bh.restaurant.restaurantId IN :restaurantIds")
+    List<HoursRow> findHoursByRestaurantIds(@Param("restaurantIds") Collection<Integer> restaurantIds);
+
+    interface HoursRow {
+        Integer getRestaurantId();
+        String getDayOfWeek();
+        LocalTime getOpenTime();
+        LocalTime getCloseTime();
+        Boolean getIsClosed();
+    }
 } 
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.hufds.repository;
 
 import com.hufds.entity.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -26,4 +27,16 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
            "AND c.deletedAt IS NULL AND (c.endDate IS NULL OR c.endDate >= :today) " +
            "AND (c.quota > c.usageCount OR c.quota = -1)")
     Optional<Coupon> findActiveByName(@Param("name") String name, @Param("today") LocalDate today);
-} 
\ No newline at end of file
+
+    /**
+     * Uses one redemption of the coupon if it is still redeemable. The quota check and the
+     * increment happen in the same statement, so concurrent checkouts cannot over-redeem.
+     * @return 1 if the coupon was redeemed, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE Coupon c SET c.usageCount = COALESCE(c.usageCount, 0) + 1 " +
+           "WHERE c.id = :id AND c.isActive = true AND c.deletedAt IS NULL " +
+           "AND (c.endDate IS NULL OR c.endDate > :today) " +
+           "AND (c.quota = -1 OR COALESCE(c.usageCount, 0) < c.quota)")
+    int redeem(@Param("id") Long id, @Param("today") LocalDate today);
+}
\ No newline at end of file
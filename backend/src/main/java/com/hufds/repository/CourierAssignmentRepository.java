@@ -1,16 +1,35 @@
 package com.hufds.repository;
 
 import com.hufds.entity.CourierAssignment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CourierAssignmentRepository extends JpaRepository<CourierAssignment, Integer> {
     boolean existsByOrderOrderId(Integer orderId);
     List<CourierAssignment> findByCourierCourierIdAndStatusIn(Integer courierId, List<CourierAssignment.AssignmentStatus> statuses);
+    @EntityGraph(attributePaths = {"order", "order.restaurant", "order.customer", "order.address"})
     List<CourierAssignment> findByCourierCourierId(Integer courierId);
+
+    /**
+     * A page of the courier's assignments older than the (assignedAt, assignmentId) cursor, newest first
+     */
+    @EntityGraph(attributePaths = {"order", "order.restaurant", "order.customer", "order.address"})
+    @Query("SELECT ca FROM CourierAssignment ca WHERE ca.courier.courierId = :courierId " +
+           "AND (ca.assignedAt < :assignedAt OR (ca.assignedAt = :assignedAt AND ca.assignmentId < :assignmentId)) " +
+           "ORDER BY ca.assignedAt DESC, ca.assignmentId DESC")
+    List<CourierAssignment> findHistoryPage(@Param("courierId") Integer courierId,
+                                            @Param("assignedAt") LocalDateTime assignedAt,
+                                            @Param("assignmentId") Integer assignmentId,
+                                            Pageable pageable);
     boolean existsByOrderOrderIdAndStatusNot(Integer orderId, CourierAssignment.AssignmentStatus status);
     List<CourierAssignment> findByOrderOrderIdAndStatus(Integer orderId, CourierAssignment.AssignmentStatus status);
     
@@ -35,4 +54,43 @@ public interface CourierAssignmentRepository extends JpaRepository<CourierAssign
         @Param("courierId") Integer courierId,
         @Param("status") CourierAssignment.AssignmentStatus status
     );
-} 
\ No newline at end of file
+
+    /**
+     * Id, order, restaurant, courier and request time of every assignment in the given status,
+     * without loading the entities
+     */
+    @Query("SELECT ca.assignmentId AS assignmentId, ca.order.orderId AS orderId, " +
+           "ca.order.restaurant.restaurantId AS restaurantId, ca.courier.courierId AS courierId, " +
+           "ca.assignedAt AS assignedAt " +
+           "FROM CourierAssignment ca WHERE ca.status = :status")
+    List<PendingAssignment> findPendingByStatus(@Param("status") CourierAssignment.AssignmentStatus status);
+
+    /**
+     * Expires the given assignments in one statement and returns the rows it changed.
+     * Assignments that were accepted, rejected, cancelled or already expired in the meantime
+     * are left untouched and not returned, so each expiry is reported exactly once.
+     */
+    @Transactional
+    @Query(value = "UPDATE courierassignment ca SET status = 'EXPIRED' FROM orders o " +
+                   "WHERE o.order_id = ca.order_id AND ca.assignment_id IN (:assignmentIds) " +
+                   "AND ca.status = 'REQUESTED' " +
+                   "RETURNING ca.assignment_id AS \"assignmentId\", ca.order_id AS \"orderId\", " +
+                   "o.restaurant_id AS \"restaurantId\", ca.courier_id AS \"courierId\"",
+           nativeQuery = true)
+    List<ExpiredAssignment> expireRequested(@Param("assignmentIds") Collection<Integer> assignmentIds);
+
+    interface PendingAssignment {
+        Integer getAssignmentId();
+        Integer getOrderId();
+        Integer getRestaurantId();
+        Integer getCourierId();
+        LocalDateTime getAssignedAt();
+    }
+
+    interface ExpiredAssignment {
+        Integer getAssignmentId();
+        Integer getOrderId();
+        Integer getRestaurantId();
+        Integer getCourierId();
+    }
+}
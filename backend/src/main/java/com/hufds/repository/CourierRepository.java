@@ -2,7 +2,11 @@ package com.hufds.repository;
 
 import com.hufds.entity.Courier;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,6 +15,11 @@ import java.util.Optional;
 @Repository
 public interface CourierRepository extends JpaRepository<Courier, Integer> {
     Optional<Courier> findByEmail(String email);
+
+    @Query("SELECT c.deletedAt AS deletedAt, c.isBanned AS banned, c.banOpenDate AS banOpenDate " +
+           "FROM Courier c WHERE c.email = :email")
+    Optional<UserStatusView> findStatusByEmail(@Param("email") String email);
+
     List<Courier> findByStatus(Courier.CourierStatus status);
     
     // Find all non-deleted couriers
@@ -18,11 +27,24 @@ public interface CourierRepository extends JpaRepository<Courier, Integer> {
     
     // Find active couriers (not deleted and with specific status)
     List<Courier> findByStatusAndDeletedAtIsNull(Courier.CourierStatus status);
+
+    // Small batch of dispatchable couriers, used when no nearby courier has a known position
+    List<Courier> findTop10ByStatusAndIsBannedFalseAndDeletedAtIsNullOrderByCourierIdAsc(Courier.CourierStatus status);
     
     // Search by name or email
     List<Courier> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
 
     List<Courier> findByApprovalStatus(Courier.ApprovalStatus status);
     
-    List<Courier> findByIsBannedTrueAndBanOpenDateLessThan(LocalDateTime date);
+    @Query("SELECT MIN(c.banOpenDate) FROM Courier c WHERE c.isBanned = true")
+    LocalDateTime findEarliestBanOpenDate();
+
+    @Query("SELECT c.email FROM Courier c WHERE c.isBanned = true AND c.banOpenDate <= :time")
+    List<String> findEmailsWithBanEndedBy(@Param("time") LocalDateTime time);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Courier c SET c.isBanned = false, c.banOpenDate = null " +
+           "WHERE c.isBanned = true AND c.banOpenDate <= :time")
+    int releaseBansEndedBy(@Param("time") LocalDateTime time);
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package com.hufds.repository;
 
 import com.hufds.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -11,6 +15,11 @@ import java.util.Optional;
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Integer> {
     Optional<Customer> findByEmail(String email);
+
+    @Query("SELECT c.deletedAt AS deletedAt, c.isBanned AS banned, c.banOpenDate AS banOpenDate " +
+           "FROM Customer c WHERE c.email = :email")
+    Optional<UserStatusView> findStatusByEmail(@Param("email") String email);
+
     Optional<Customer> findByEmailAndDeletedAtIsNull(String email);
     
     // Find all non-deleted customers
@@ -19,5 +28,15 @@ public interface CustomerRepository extends JpaRepository<Customer, Integer> {
     // Search customers by name or email
     List<Customer> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
 
-    List<Customer> findByIsBannedTrueAndBanOpenDateLessThan(LocalDateTime date);
+    @Query("SELECT MIN(c.banOpenDate) FROM Customer c WHERE c.isBanned = true")
+    LocalDateTime findEarliestBanOpenDate();
+
+    @Query("SELECT c.email FROM Customer c WHERE c.isBanned = true AND c.banOpenDate <= :time")
+    List<String> findEmailsWithBanEndedBy(@Param("time") LocalDateTime time);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Customer c SET c.isBanned = false, c.banOpenDate = null " +
+           "WHERE c.isBanned = true AND c.banOpenDate <= :time")
+    int releaseBansEndedBy(@Param("time") LocalDateTime time);
 } 
\ No newline at end of file
@@ -15,13 +15,22 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Integer> {
     List<MenuItem> findByRestaurantRestaurantIdAndDeletedAtIsNull(Integer restaurantId);
     List<MenuItem> findByRestaurantRestaurantIdAndAvailabilityTrueAndDeletedAtIsNull(Integer restaurantId);
     List<MenuItem> findByRestaurantRestaurantIdAndCategoryAndDeletedAtIsNull(Integer restaurantId, String category);
-    List<MenuItem> findByNameContainingIgnoreCase(String name);
-    List<MenuItem> findByCategoryContainingIgnoreCase(String category);
-    List<MenuItem> findByPriceBetween(BigDecimal minPrice, BigDecimal maxPrice);
-    List<MenuItem> findByRestaurantRestaurantIdAndNameContainingIgnoreCase(Integer restaurantId, String name);
-    List<MenuItem> findByRestaurantRestaurantIdAndCategoryContainingIgnoreCase(Integer restaurantId, String category);
-    List<MenuItem> findByRestaurantRestaurantIdAndPriceBetween(Integer restaurantId, BigDecimal minPrice, BigDecimal maxPrice);
-    List<MenuItem> findByRestaurantRestaurantId(Integer restaurantId);
-    List<MenuItem> findByAvailability(Boolean availability);
-    List<MenuItem> findByRestaurantRestaurantIdAndAvailability(Integer restaurantId, Boolean availability);
+    List<MenuItem> findByDeletedAtIsNull();
+
+    /**
+     * Price statistics over a restaurant's non-deleted menu items, computed in a single aggregate query
+     */
+    @Query("SELECT COUNT(m) AS itemCount, " +
+           "COALESCE(SUM(CASE WHEN m.availability = true THEN 1 ELSE 0 END), 0) AS availableItemCount, " +
+           "AVG(m.price) AS averagePrice, MIN(m.price) AS minPrice, MAX(m.price) AS maxPrice " +
+           "FROM MenuItem m WHERE m.restaurant.restaurantId = :restaurantId AND m.deletedAt IS NULL")
+    PriceStats calculatePriceStats(@Param("restaurantId") Integer restaurantId);
+
+    interface PriceStats {
+        Long getItemCount();
+        Long getAvailableItemCount();
+        Double getAveragePrice();
+        BigDecimal getMinPrice();
+        BigDecimal getMaxPrice();
+    }
 }
@@ -1,11 +1,15 @@
 package com.hufds.repository;
 
 import com.hufds.entity.Message;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -19,41 +23,82 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     @Query("SELECT m FROM Message m WHERE m.receiverId = :userId AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
     List<Message> findReceivedMessagesByUserId(@Param("userId") Long userId);
     
-    // Admin için özel olarak alınan mesajları getir (sadece receiverType ADMIN olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :adminId AND m.receiverType = 'ADMIN' AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findAdminReceivedMessages(@Param("adminId") Long adminId);
-
-    // Restaurant için özel olarak alınan mesajları getir (sadece receiverType RESTAURANT olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :restaurantId AND m.receiverType = 'RESTAURANT' AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findRestaurantReceivedMessages(@Param("restaurantId") Long restaurantId);
-    
-    // Courier için özel olarak alınan mesajları getir (sadece receiverType COURIER olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :courierId AND m.receiverType = 'COURIER' AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findCourierReceivedMessages(@Param("courierId") Long courierId);
-    
-    // Customer için özel olarak alınan mesajları getir (sadece receiverType CUSTOMER olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :customerId AND m.receiverType = 'CUSTOMER' AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findCustomerReceivedMessages(@Param("customerId") Long customerId);
-    
     // Kullanıcının okunmamış mesajlarını getir
     @Query("SELECT m FROM Message m WHERE m.receiverId = :userId AND m.isRead = false AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
     List<Message> findUnreadMessagesByUserId(@Param("userId") Long userId);
     
-    // Admin için özel olarak okunmamış mesajları getir (sadece receiverType ADMIN olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :adminId AND m.receiverType = 'ADMIN' AND m.isRead = false AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findAdminUnreadMessages(@Param("adminId") Long adminId);
+    // Alıcının gelen kutusu, en yeni mesaj önce; (createdAt, messageId) imlecinden sonraki sayfa
+    @Query("SELECT m FROM Message m WHERE m.receiverType = :receiverType AND m.receiverId = :receiverId " +
+           "AND (:unreadOnly = false OR m.isRead = false) AND m.deletedAt IS NULL " +
+           "AND (m.createdAt < :cursorTime OR (m.createdAt = :cursorTime AND m.messageId < :cursorId)) " +
+           "ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<Message> findInboxPage(@Param("receiverType") Message.UserType receiverType,
+                                @Param("receiverId") Long receiverId,
+                                @Param("unreadOnly") boolean unreadOnly,
+                                @Param("cursorTime") LocalDateTime cursorTime,
+                                @Param("cursorId") Long cursorId,
+                                Pageable pageable);
 
-    // Restaurant için özel olarak okunmamış mesajları getir (sadece receiverType RESTAURANT olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :restaurantId AND m.receiverType = 'RESTAURANT' AND m.isRead = false AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findRestaurantUnreadMessages(@Param("restaurantId") Long restaurantId);
-    
-    // Courier için özel olarak okunmamış mesajları getir (sadece receiverType COURIER olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :courierId AND m.receiverType = 'COURIER' AND m.isRead = false AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findCourierUnreadMessages(@Param("courierId") Long courierId);
+    // Alıcının okunmamış mesaj sayısı
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.receiverType = :receiverType AND m.receiverId = :receiverId " +
+           "AND m.isRead = false AND m.deletedAt IS NULL")
+    long countUnread(@Param("receiverType") Message.UserType receiverType, @Param("receiverId") Long receiverId);
+
+    // Okunmamış ve silinmemişse okundu işaretle; sayaç yalnızca 1 dönerse azalır
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.messageId = :messageId AND m.isRead = false AND m.deletedAt IS NULL")
+    int markRead(@Param("messageId") Long messageId);
+
+    // Okunmamış ve silinmemişse sil; sayaç yalnızca 1 dönerse azalır
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.deletedAt = :deletedAt WHERE m.messageId = :messageId AND m.isRead = false AND m.deletedAt IS NULL")
+    int softDeleteUnread(@Param("messageId") Long messageId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Okunmuş ya da zaten silinmiş mesajı sil
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.deletedAt = :deletedAt WHERE m.messageId = :messageId")
+    int softDelete(@Param("messageId") Long messageId, @Param("deletedAt") LocalDateTime deletedAt);
     
-    // Customer için özel olarak okunmamış mesajları getir (sadece receiverType CUSTOMER olanlar)
-    @Query("SELECT m FROM Message m WHERE m.receiverId = :customerId AND m.receiverType = 'CUSTOMER' AND m.isRead = false AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
-    List<Message> findCustomerUnreadMessages(@Param("customerId") Long customerId);
+    // Alıcının verilen okunmamış mesajlarını tek sorguda okundu işaretle
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.receiverType = :receiverType AND m.receiverId = :receiverId " +
+           "AND m.messageId IN :messageIds AND m.isRead = false AND m.deletedAt IS NULL")
+    int markReadByIds(@Param("receiverType") Message.UserType receiverType,
+                      @Param("receiverId") Long receiverId,
+                      @Param("messageIds") List<Long> messageIds);
+
+    // Alıcının verilen zamandan önceki okunmamış mesajlarını tek sorguda okundu işaretle
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.isRead = true WHERE m.receiverType = :receiverType AND m.receiverId = :receiverId " +
+           "AND m.createdAt < :before AND m.isRead = false AND m.deletedAt IS NULL")
+    int markReadBefore(@Param("receiverType") Message.UserType receiverType,
+                       @Param("receiverId") Long receiverId,
+                       @Param("before") LocalDateTime before);
+
+    // Alıcının verilen mesajlarını tek sorguda sil (soft delete)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.deletedAt = :deletedAt WHERE m.receiverType = :receiverType AND m.receiverId = :receiverId " +
+           "AND m.messageId IN :messageIds AND m.deletedAt IS NULL")
+    int softDeleteByIds(@Param("receiverType") Message.UserType receiverType,
+                        @Param("receiverId") Long receiverId,
+                        @Param("messageIds") List<Long> messageIds,
+                        @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Alıcının verilen zamandan önceki mesajlarını tek sorguda sil (soft delete)
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE Message m SET m.deletedAt = :deletedAt WHERE m.receiverType = :receiverType AND m.receiverId = :receiverId " +
+           "AND m.createdAt < :before AND m.deletedAt IS NULL")
+    int softDeleteBefore(@Param("receiverType") Message.UserType receiverType,
+                         @Param("receiverId") Long receiverId,
+                         @Param("before") LocalDateTime before,
+                         @Param("deletedAt") LocalDateTime deletedAt);
     
     // Kullanıcı tipine göre mesajları getir
     @Query("SELECT m FROM Message m WHERE m.receiverType = :userType AND m.deletedAt IS NULL ORDER BY m.createdAt DESC")
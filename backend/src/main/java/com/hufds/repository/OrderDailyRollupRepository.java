@@ -0,0 +1,58 @@
+package com.hufds.repository;
+
+import com.hufds.entity.OrderDailyRollup;
+import com.hufds.entity.OrderRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface OrderDailyRollupRepository extends JpaRepository<OrderDailyRollup, Integer> {
+    List<OrderDailyRollup> findByScopeAndOwnerIdAndRollupDateBetweenOrderByRollupDateAsc(
+            OrderRollup.Scope scope, Integer ownerId, LocalDate from, LocalDate to);
+
+    /**
+     * Adds one delivered order to the owner's day, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_daily_rollup (scope, owner_id, rollup_date, order_count, revenue) " +
+                   "VALUES (:scope, :ownerId, :day, 1, :amount) " +
+                   "ON CONFLICT (scope, owner_id, rollup_date) DO UPDATE SET " +
+                   "order_count = order_daily_rollup.order_count + 1, " +
+                   "revenue = order_daily_rollup.revenue + EXCLUDED.revenue",
+           nativeQuery = true)
+    void addDeliveredOrder(@Param("scope") String scope,
+                           @Param("ownerId") Integer ownerId,
+                           @Param("day") LocalDate day,
+                           @Param("amount") BigDecimal amount);
+
+    /**
+     * Rolls up every delivered order per restaurant and day
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_daily_rollup (scope, owner_id, rollup_date, order_count, revenue) " +
+                   "SELECT 'RESTAURANT', restaurant_id, CAST(COALESCE(delivered_at, created_at) AS date), " +
+                   "COUNT(*), SUM(total_price) " +
+                   "FROM orders WHERE status = 'DELIVERED' " +
+                   "GROUP BY restaurant_id, CAST(COALESCE(delivered_at, created_at) AS date)",
+           nativeQuery = true)
+    void insertRestaurantRollupsFromOrders();
+
+    /**
+     * Rolls up every delivered order per customer and day
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_daily_rollup (scope, owner_id, rollup_date, order_count, revenue) " +
+                   "SELECT 'CUSTOMER', customer_id, CAST(COALESCE(delivered_at, created_at) AS date), " +
+                   "COUNT(*), SUM(total_price) " +
+                   "FROM orders WHERE status = 'DELIVERED' " +
+                   "GROUP BY customer_id, CAST(COALESCE(delivered_at, created_at) AS date)",
+           nativeQuery = true)
+    void insertCustomerRollupsFromOrders();
+}
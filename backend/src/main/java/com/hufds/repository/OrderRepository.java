@@ -1,17 +1,92 @@
 package com.hufds.repository;
 
 import com.hufds.entity.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Integer> {
+    /**
+     * Customer order history rows, with everything the history page renders
+     */
+    @EntityGraph(attributePaths = {"restaurant", "address", "courier", "payment", "orderItems", "orderItems.menuItem"})
     List<Order> findByCustomerCustomerId(Integer customerId);
+
+    /**
+     * A page of the customer's orders older than the (createdAt, orderId) cursor, newest first
+     */
+    @EntityGraph(attributePaths = {"restaurant", "address", "courier", "payment"})
+    @Query("SELECT o FROM Order o WHERE o.customer.customerId = :customerId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+           "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Order> findCustomerHistoryPage(@Param("customerId") Integer customerId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("orderId") Integer orderId,
+                                        Pageable pageable);
+
     List<Order> findByCustomerCustomerIdAndRestaurantRestaurantId(Integer customerId, Integer restaurantId);
     List<Order> findByStatus(Order.OrderStatus status);
+    boolean existsByStatus(Order.OrderStatus status);
+
+    /**
+     * Order detail: the entity plus the payment and items it is serialized with
+     */
+    @EntityGraph(attributePaths = {"payment", "orderItems"})
+    Optional<Order> findWithDetailsByOrderId(Integer orderId);
+
+    /**
+     * Courier delivery list rows
+     */
+    @EntityGraph(attributePaths = {"restaurant", "customer", "address", "payment", "orderItems"})
     List<Order> findByCourierCourierIdAndStatus(Integer courierId, Order.OrderStatus status);
+
+    @Query("SELECT COALESCE(SUM(o.totalPrice), 0) FROM Order o " +
+           "WHERE o.courier.courierId = :courierId AND o.status = :status")
+    BigDecimal sumTotalPriceByCourierAndStatus(@Param("courierId") Integer courierId,
+                                               @Param("status") Order.OrderStatus status);
+
+    /**
+     * Restaurant dashboard rows, with the columns OrderResponseDTO renders
+     */
+    @EntityGraph(attributePaths = {"customer", "address", "payment", "orderItems"})
     List<Order> findByRestaurantRestaurantId(Integer restaurantId);
+
+    @EntityGraph(attributePaths = {"customer", "address", "payment", "orderItems"})
     List<Order> findByRestaurantRestaurantIdAndStatus(Integer restaurantId, Order.OrderStatus status);
+
+    /**
+     * A page of the restaurant's orders older than the (createdAt, orderId) cursor, newest first.
+     * Collections are left to batch fetching since fetch-joining them would break the row limit.
+     */
+    @EntityGraph(attributePaths = {"customer", "address", "payment"})
+    @Query("SELECT o FROM Order o WHERE o.restaurant.restaurantId = :restaurantId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.orderId < :orderId)) " +
+           "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<Order> findRestaurantHistoryPage(@Param("restaurantId") Integer restaurantId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("orderId") Integer orderId,
+                                          Pageable pageable);
+
+    /**
+     * Ids of the restaurant's PROCESSING orders that have no active courier assignment,
+     * i.e. every assignment so far was rejected, expired or cancelled
+     */
+    @Query("SELECT o.orderId FROM Order o " +
+           "WHERE o.restaurant.restaurantId = :restaurantId " +
+           "AND o.status = com.hufds.entity.Order.OrderStatus.PROCESSING " +
+           "AND NOT EXISTS (SELECT ca.assignmentId FROM CourierAssignment ca WHERE ca.order = o " +
+           "AND ca.status NOT IN (com.hufds.entity.CourierAssignment.AssignmentStatus.REJECTED, " +
+           "com.hufds.entity.CourierAssignment.AssignmentStatus.EXPIRED, " +
+           "com.hufds.entity.CourierAssignment.AssignmentStatus.CANCELLED)) " +
+           "ORDER BY o.orderId")
+    List<Integer> findOrderIdsNeedingCourier(@Param("restaurantId") Integer restaurantId);
 }
@@ -0,0 +1,40 @@
+package com.hufds.repository;
+
+import com.hufds.entity.OrderRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface OrderRollupRepository extends JpaRepository<OrderRollup, Integer> {
+    List<OrderRollup> findByScope(OrderRollup.Scope scope);
+
+    /**
+     * Adds one delivered order to the owner's totals, creating the row on first use
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_rollup (scope, owner_id, order_count, revenue) " +
+                   "VALUES (:scope, :ownerId, 1, :amount) " +
+                   "ON CONFLICT (scope, owner_id) DO UPDATE SET " +
+                   "order_count = order_rollup.order_count + 1, " +
+                   "revenue = order_rollup.revenue + EXCLUDED.revenue",
+           nativeQuery = true)
+    void addDeliveredOrder(@Param("scope") String scope,
+                           @Param("ownerId") Integer ownerId,
+                           @Param("amount") BigDecimal amount);
+
+    /**
+     * Recomputes every total from the daily rollups
+     */
+    @Modifying
+    @Query(value = "INSERT INTO order_rollup (scope, owner_id, order_count, revenue) " +
+                   "SELECT scope, owner_id, SUM(order_count), SUM(revenue) " +
+                   "FROM order_daily_rollup GROUP BY scope, owner_id",
+           nativeQuery = true)
+    void insertTotalsFromDailyRollups();
+}
@@ -1,19 +1,32 @@
 package com.hufds.repository;
 
 import com.hufds.entity.Restaurant;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RestaurantRepository extends JpaRepository<Restaurant, Integer> {
+public interface RestaurantRepository extends JpaRepository<Restaurant, Integer>, JpaSpecificationExecutor<Restaurant> {
     Optional<Restaurant> findByEmail(String email);
+
+    @Query("SELECT r.deletedAt AS deletedAt, r.isBanned AS banned, r.banOpenDate AS banOpenDate " +
+           "FROM Restaurant r WHERE r.email = :email")
+    Optional<UserStatusView> findStatusByEmail(@Param("email") String email);
+
+    // Row lock taken before recomputing menu statistics so concurrent menu edits aggregate one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Restaurant r WHERE r.restaurantId = :restaurantId")
+    Optional<Restaurant> findByIdForUpdate(@Param("restaurantId") Integer restaurantId);
     
     // Find all non-deleted restaurants
     List<Restaurant> findAllByDeletedAtIsNull();
@@ -21,29 +34,23 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Integer>
     // Find all approved and non-deleted restaurants
     List<Restaurant> findByApprovalStatusAndDeletedAtIsNull(Restaurant.ApprovalStatus approvalStatus);
     
-    // Search methods
-    List<Restaurant> findByNameContainingIgnoreCase(String name);
-    List<Restaurant> findByCuisineTypeContainingIgnoreCase(String cuisineType);
-    List<Restaurant> findByCityContainingIgnoreCase(String city);
-    List<Restaurant> findByStateContainingIgnoreCase(String state);
-    List<Restaurant> findByCountryContainingIgnoreCase(String country);
-    
     // Search by name or email
     List<Restaurant> findByNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
     
-    // Location-based search
-    @Query("SELECT r FROM Restaurant r WHERE " +
-           "6371 * acos(cos(radians(:latitude)) * cos(radians(r.latitude)) * " +
-           "cos(radians(r.longitude) - radians(:longitude)) + " +
-           "sin(radians(:latitude)) * sin(radians(r.latitude))) <= :maxDistance " +
-           "AND r.deletedAt IS NULL")
-    List<Restaurant> findByLocationWithinDistance(
-        @Param("latitude") BigDecimal latitude,
-        @Param("longitude") BigDecimal longitude,
-        @Param("maxDistance") double maxDistance
-    );
-
     List<Restaurant> findByApprovalStatus(Restaurant.ApprovalStatus status);
 
-    List<Restaurant> findByIsBannedTrueAndBanOpenDateLessThan(LocalDateTime date);
+    @Query("SELECT MIN(r.banOpenDate) FROM Restaurant r WHERE r.isBanned = true")
+    LocalDateTime findEarliestBanOpenDate();
+
+    @Query("SELECT r.email FROM Restaurant r WHERE r.isBanned = true AND r.banOpenDate <= :time")
+    List<String> findEmailsWithBanEndedBy(@Param("time") LocalDateTime time);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Restaurant r SET r.isBanned = false, r.banOpenDate = null " +
+           "WHERE r.isBanned = true AND r.banOpenDate <= :time")
+    int releaseBansEndedBy(@Param("time") LocalDateTime time);
+
+    // Restaurants whose menu price statistics have never been computed
+    List<Restaurant> findByMenuItemCountIsNull();
 }
@@ -0,0 +1,110 @@
+package com.hufds.repository;
+
+import com.hufds.dto.RestaurantSearchDTO;
+import com.hufds.entity.Restaurant;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Criteria building blocks for restaurant search, combined into a single SQL statement
+ */
+public final class RestaurantSpecifications {
+
+    private RestaurantSpecifications() {
+    }
+
+    /**
+     * Approved and not deleted; always applied to customer-facing searches
+     */
+    public static Specification<Restaurant> isSearchable() {
+        return (root, query, cb) -> cb.and(
+                cb.equal(root.get("approvalStatus"), Restaurant.ApprovalStatus.ACCEPTED),
+                cb.isNull(root.get("deletedAt")));
+    }
+
+    public static Specification<Restaurant> attributeContains(String attribute, String value) {
+        String pattern = "%" + escapeLike(value.toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, '\\');
+    }
+
+    /**
+     * Average menu price within the given bounds; restaurants without items count as 0
+     */
+    public static Specification<Restaurant> averagePriceBetween(Double minPrice, Double maxPrice) {
+        return (root, query, cb) -> {
+            Expression<BigDecimal> averagePrice = cb.coalesce(root.get("averageMenuPrice"), BigDecimal.ZERO);
+            List<Predicate> predicates = new ArrayList<>();
+            if (minPrice != null) {
+                predicates.add(cb.greaterThanOrEqualTo(averagePrice, BigDecimal.valueOf(minPrice)));
+            }
+            if (maxPrice != null) {
+                predicates.add(cb.lessThanOrEqualTo(averagePrice, BigDecimal.valueOf(maxPrice)));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    public static Specification<Restaurant> idIn(Collection<Integer> restaurantIds) {
+        return (root, query, cb) -> restaurantIds.isEmpty()
+                ? cb.disjunction()
+                : root.get("restaurantId").in(restaurantIds);
+    }
+
+    /**
+     * Builds the search statement. Name, cuisine, city, state, country and the nearby
+     * restaurant ids are combined with AND or OR depending on the match mode; the
+     * approval, deleted and price range checks are always ANDed on top.
+     *
+     * @param nearbyIds ids within the requested distance, or null if no distance filter applies
+     */
+    public static Specification<Restaurant> fromSearch(RestaurantSearchDTO searchDTO, Collection<Integer> nearbyIds) {
+        List<Specification<Restaurant>> criteria = new ArrayList<>();
+
+        if (searchDTO.getName() != null) {
+            criteria.add(attributeContains("name", searchDTO.getName()));
+        }
+        if (searchDTO.getCuisineType() != null) {
+            criteria.add(attributeContains("cuisineType", searchDTO.getCuisineType()));
+        }
+        if (searchDTO.getCity() != null) {
+            criteria.add(attributeContains("city", searchDTO.getCity()));
+        }
+        if (searchDTO.getState() != null) {
+            criteria.add(attributeContains("state", searchDTO.getState()));
+        }
+        if (searchDTO.getCountry() != null) {
+            criteria.add(attributeContains("country", searchDTO.getCountry()));
+        }
+        if (nearbyIds != null) {
+            criteria.add(idIn(nearbyIds));
+        }
+
+        Specification<Restaurant> base = isSearchable();
+        if (searchDTO.getMinPrice() != null || searchDTO.getMaxPrice() != null) {
+            base = base.and(averagePriceBetween(searchDTO.getMinPrice(), searchDTO.getMaxPrice()));
+        }
+
+        if (criteria.isEmpty()) {
+            return base;
+        }
+
+        boolean matchAny = searchDTO.getMatchMode() == RestaurantSearchDTO.MatchMode.ANY;
+        Specification<Restaurant> filters = (root, query, cb) -> {
+            Predicate[] predicates = criteria.stream()
+                    .map(spec -> spec.toPredicate(root, query, cb))
+                    .toArray(Predicate[]::new);
+            return matchAny ? cb.or(predicates) : cb.and(predicates);
+        };
+        return base.and(filters);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
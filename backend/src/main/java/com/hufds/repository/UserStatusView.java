@@ -0,0 +1,12 @@
+package com.hufds.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Account status columns of a customer, restaurant or courier, without loading the entity
+ */
+public interface UserStatusView {
+    LocalDateTime getDeletedAt();
+    Boolean getBanned();
+    LocalDateTime getBanOpenDate();
+}
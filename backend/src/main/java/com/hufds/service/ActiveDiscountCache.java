@@ -0,0 +1,172 @@
+package com.hufds.service;
+
+import com.hufds.entity.Coupon;
+import com.hufds.entity.Promotion;
+import com.hufds.repository.CouponRepository;
+import com.hufds.repository.PromotionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache of the active coupons (by upper-case code) and active promotions.
+ * Each set is loaded with one query on first use and dropped when an admin changes it,
+ * so validating a code while the customer types it no longer reaches the database.
+ * Coupons past their end date or out of quota are filtered out on every read.
+ */
+@Service
+@RequiredArgsConstructor
+public class ActiveDiscountCache {
+
+    private final CouponRepository couponRepository;
+    private final PromotionRepository promotionRepository;
+
+    @Value("${discount.cache.ttl:5m}")
+    private Duration ttl = Duration.ofMinutes(5);
+
+    private record CouponSnapshot(Map<String, Coupon> byName, Map<Long, Coupon> byId, Instant loadedAt) {
+    }
+
+    private record PromotionSnapshot(List<Promotion> promotions, Map<Long, Promotion> byId, Instant loadedAt) {
+    }
+
+    private volatile CouponSnapshot coupons;
+    private volatile PromotionSnapshot promotions;
+    private final AtomicLong couponGeneration = new AtomicLong();
+    private final AtomicLong promotionGeneration = new AtomicLong();
+
+    // Redemptions made since the coupons were loaded, so quota checks stay current
+    private final Map<Long, AtomicInteger> redemptionsSinceLoad = new ConcurrentHashMap<>();
+
+    /**
+     * Active coupon with the given code that has not ended and still has quota left
+     */
+    public Optional<Coupon> findActiveCoupon(String code) {
+        return Optional.ofNullable(couponSnapshot().byName().get(code.toUpperCase()))
+                .filter(this::isRedeemable);
+    }
+
+    /**
+     * Active coupon with the given id that has not ended and still has quota left
+     */
+    public Optional<Coupon> findActiveCoupon(Long couponId) {
+        return Optional.ofNullable(couponSnapshot().byId().get(couponId))
+                .filter(this::isRedeemable);
+    }
+
+    /**
+     * Active promotions, including ones past their end date that have not been deactivated
+     */
+    public List<Promotion> getActivePromotions() {
+        return promotionSnapshot().promotions();
+    }
+
+    public Optional<Promotion> findActivePromotion(Long promotionId) {
+        return Optional.ofNullable(promotionSnapshot().byId().get(promotionId));
+    }
+
+    /**
+     * Counts a redemption against the cached coupon's quota
+     */
+    public void recordRedemption(Long couponId) {
+        afterCommit(() -> redemptionsSinceLoad.computeIfAbsent(couponId, id -> new AtomicInteger()).incrementAndGet());
+    }
+
+    public void invalidateCoupons() {
+        couponGeneration.incrementAndGet();
+        afterCommit(() -> {
+            couponGeneration.incrementAndGet();
+            coupons = null;
+        });
+    }
+
+    public void invalidatePromotions() {
+        promotionGeneration.incrementAndGet();
+        afterCommit(() -> {
+            promotionGeneration.incrementAndGet();
+            promotions = null;
+        });
+    }
+
+    private boolean isRedeemable(Coupon coupon) {
+        LocalDate today = LocalDate.now();
+        if (coupon.getEndDate() != null && coupon.getEndDate().isBefore(today)) {
+            return false;
+        }
+        AtomicInteger redeemed = redemptionsSinceLoad.get(coupon.getId());
+        int usage = (coupon.getUsageCount() != null ? coupon.getUsageCount() : 0)
+                + (redeemed != null ? redeemed.get() : 0);
+        return coupon.getQuota() == -1 || coupon.getQuota() > usage;
+    }
+
+    private CouponSnapshot couponSnapshot() {
+        CouponSnapshot snapshot = coupons;
+        if (snapshot != null && !isStale(snapshot.loadedAt())) {
+            return snapshot;
+        }
+        long generation = couponGeneration.get();
+        Map<String, Coupon> byName = new HashMap<>();
+        Map<Long, Coupon> byId = new HashMap<>();
+        for (Coupon coupon : couponRepository.findAllActive()) {
+            byName.put(coupon.getName().toUpperCase(), coupon);
+            byId.put(coupon.getId(), coupon);
+        }
+        snapshot = new CouponSnapshot(byName, byId, Instant.now());
+        synchronized (this) {
+            // Keep the snapshot only if nothing was invalidated while it was loading
+            if (couponGeneration.get() == generation) {
+                redemptionsSinceLoad.clear();
+                coupons = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private PromotionSnapshot promotionSnapshot() {
+        PromotionSnapshot snapshot = promotions;
+        if (snapshot != null && !isStale(snapshot.loadedAt())) {
+            return snapshot;
+        }
+        long generation = promotionGeneration.get();
+        List<Promotion> active = List.copyOf(promotionRepository.findByIsActiveAndDeletedAtIsNull(true));
+        Map<Long, Promotion> byId = new HashMap<>();
+        active.forEach(promotion -> byId.put(promotion.getId(), promotion));
+        snapshot = new PromotionSnapshot(active, byId, Instant.now());
+        synchronized (this) {
+            if (promotionGeneration.get() == generation) {
+                promotions = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private boolean isStale(Instant loadedAt) {
+        return loadedAt.plus(ttl).isBefore(Instant.now());
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.hufds.service;
 
 import com.hufds.dto.CustomerAnalyticsDTO;
+import com.hufds.dto.DailyOrderAnalyticsDTO;
 import com.hufds.dto.RestaurantAnalyticsDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface AnalyticsService {
     List<RestaurantAnalyticsDTO> getRestaurantAnalytics();
     List<CustomerAnalyticsDTO> getCustomerAnalytics();
-} 
\ No newline at end of file
+    List<DailyOrderAnalyticsDTO> getRestaurantDailyAnalytics(Integer restaurantId, LocalDate from, LocalDate to);
+    List<DailyOrderAnalyticsDTO> getCustomerDailyAnalytics(Integer customerId, LocalDate from, LocalDate to);
+}
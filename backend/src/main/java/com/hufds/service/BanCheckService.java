@@ -1,25 +1,37 @@
 package com.hufds.service;
 
-import com.hufds.entity.Courier;
-import com.hufds.entity.Customer;
-import com.hufds.entity.Restaurant;
 import com.hufds.repository.CourierRepository;
 import com.hufds.repository.CustomerRepository;
 import com.hufds.repository.RestaurantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
- * Service for automatically checking and removing expired bans
+ * Service for automatically removing expired bans. Instead of polling, it keeps a single
+ * task scheduled for the earliest ban end, seeded at startup and moved forward whenever
+ * a ban that ends sooner is stored.
  */
 @Service
 public class BanCheckService {
 
+    private static final Logger log = LoggerFactory.getLogger(BanCheckService.class);
+
     @Autowired
     private CustomerRepository customerRepository;
 
@@ -29,47 +41,90 @@ public class BanCheckService {
     @Autowired
     private CourierRepository courierRepository;
 
+    @Autowired
+    private UserStatusCache userStatusCache;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${ban.release.retry-delay:1m}")
+    private Duration retryDelay = Duration.ofMinutes(1);
+
+    private LocalDateTime nextRelease;
+    private ScheduledFuture<?> pendingRelease;
+
     /**
-     * Scheduled task that runs every 5 seconds to check for expired bans
-     * and removes them automatically. This frequent checking is especially useful
-     * for short ban durations (e.g., 10 seconds for testing).
+     * Releases bans that ended while the application was down and schedules the next one
      */
-    @Scheduled(fixedRate = 5000) // 5 seconds in milliseconds
-    @Transactional
-    public void checkExpiredBans() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Check customer bans
-        List<Customer> bannedCustomers = customerRepository.findByIsBannedTrueAndBanOpenDateLessThan(now);
-        if (!bannedCustomers.isEmpty()) {
-            System.out.println("Removing expired bans for " + bannedCustomers.size() + " customers");
-            bannedCustomers.forEach(customer -> {
-                customer.setIsBanned(false);
-                customer.setBanOpenDate(null);
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedBanReleases() {
+        releaseExpiredBans();
+    }
+
+    /**
+     * Makes sure bans are checked again by the given end time, once the ban has been committed
+     */
+    public void banScheduled(LocalDateTime banUntil) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleAt(banUntil);
+                }
             });
-            customerRepository.saveAll(bannedCustomers);
+        } else {
+            scheduleAt(banUntil);
         }
-        
-        // Check restaurant bans
-        List<Restaurant> bannedRestaurants = restaurantRepository.findByIsBannedTrueAndBanOpenDateLessThan(now);
-        if (!bannedRestaurants.isEmpty()) {
-            System.out.println("Removing expired bans for " + bannedRestaurants.size() + " restaurants");
-            bannedRestaurants.forEach(restaurant -> {
-                restaurant.setIsBanned(false);
-                restaurant.setBanOpenDate(null);
-            });
-            restaurantRepository.saveAll(bannedRestaurants);
+    }
+
+    /**
+     * Lifts every ban whose end date has passed with one bulk update per user type,
+     * then schedules the next run for the earliest remaining ban end.
+     */
+    public void releaseExpiredBans() {
+        synchronized (this) {
+            nextRelease = null;
+            pendingRelease = null;
         }
-        
-        // Check courier bans
-        List<Courier> bannedCouriers = courierRepository.findByIsBannedTrueAndBanOpenDateLessThan(now);
-        if (!bannedCouriers.isEmpty()) {
-            System.out.println("Removing expired bans for " + bannedCouriers.size() + " couriers");
-            bannedCouriers.forEach(courier -> {
-                courier.setIsBanned(false);
-                courier.setBanOpenDate(null);
-            });
-            courierRepository.saveAll(bannedCouriers);
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            release("customer", now, customerRepository::findEmailsWithBanEndedBy, customerRepository::releaseBansEndedBy);
+            release("restaurant", now, restaurantRepository::findEmailsWithBanEndedBy, restaurantRepository::releaseBansEndedBy);
+            release("courier", now, courierRepository::findEmailsWithBanEndedBy, courierRepository::releaseBansEndedBy);
+
+            Stream.of(customerRepository.findEarliestBanOpenDate(),
+                            restaurantRepository.findEarliestBanOpenDate(),
+                            courierRepository.findEarliestBanOpenDate())
+                    .filter(time -> time != null)
+                    .min(LocalDateTime::compareTo)
+                    .ifPresent(this::scheduleAt);
+        } catch (RuntimeException e) {
+            log.warn("Failed to release expired bans, retrying in {}", retryDelay, e);
+            scheduleAt(now.plus(retryDelay));
+        }
+    }
+
+    private void release(String userType, LocalDateTime now,
+                         Function<LocalDateTime, List<String>> findEmails,
+                         Function<LocalDateTime, Integer> releaseBans) {
+        List<String> emails = findEmails.apply(now);
+        if (emails.isEmpty()) {
+            return;
+        }
+        int released = releaseBans.apply(now);
+        log.info("Removed expired bans for {} {} accounts", released, userType);
+        emails.forEach(email -> userStatusCache.invalidate(userType, email));
+    }
+
+    private synchronized void scheduleAt(LocalDateTime time) {
+        if (time == null || (nextRelease != null && !time.isBefore(nextRelease))) {
+            return;
+        }
+        if (pendingRelease != null) {
+            pendingRelease.cancel(false);
         }
+        nextRelease = time;
+        pendingRelease = taskScheduler.schedule(this::releaseExpiredBans, time.atZone(ZoneId.systemDefault()).toInstant());
     }
-} 
\ No newline at end of file
+}
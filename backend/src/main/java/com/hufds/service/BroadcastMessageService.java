@@ -0,0 +1,163 @@
+package com.hufds.service;
+
+import com.hufds.dto.BroadcastMessageRequestDTO;
+import com.hufds.entity.AdminUser;
+import com.hufds.entity.Message;
+import com.hufds.exception.CustomException;
+import com.hufds.repository.AdminRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sends one admin message to every user of an audience. The fan-out runs on a single
+ * background thread that walks the recipients by id and writes each chunk with one JDBC
+ * batch insert in its own transaction, so a large announcement neither blocks the request
+ * nor holds more than one pooled connection at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class BroadcastMessageService {
+
+    private static final Logger log = LoggerFactory.getLogger(BroadcastMessageService.class);
+
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO message (sender_id, receiver_id, sender_name, receiver_name, sender_type, receiver_type, " +
+            "message_content, message_type, is_read, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, false, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UnreadMessageCounter unreadMessageCounter;
+    private final AdminRepository adminRepository;
+
+    @Value("${messages.broadcast.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${messages.broadcast.queue-capacity:4}")
+    private int queueCapacity = 4;
+
+    private ThreadPoolExecutor executor;
+
+    private record Target(String table, String idColumn, Message.UserType receiverType) {
+    }
+
+    private record Recipient(long id, String name) {
+    }
+
+    record Sender(long id, String name) {
+    }
+
+    @PostConstruct
+    void start() {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "message-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queues the broadcast from the given admin and returns its id right away,
+     * the messages are written in the background
+     */
+    public String broadcast(Integer adminId, BroadcastMessageRequestDTO request) {
+        targetOf(request);
+        AdminUser admin = adminRepository.findById(adminId)
+                .orElseThrow(() -> new CustomException("Admin not found", HttpStatus.NOT_FOUND));
+        Sender sender = new Sender(admin.getAdminId().longValue(), admin.getName());
+        String broadcastId = UUID.randomUUID().toString();
+        try {
+            executor.execute(() -> fanOut(broadcastId, sender, request));
+        } catch (RejectedExecutionException e) {
+            throw new CustomException("Too many broadcasts in progress, please try again later",
+                    HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return broadcastId;
+    }
+
+    void fanOut(String broadcastId, Sender sender, BroadcastMessageRequestDTO request) {
+        Target target = targetOf(request);
+        LocalDateTime createdAt = LocalDateTime.now();
+        long afterId = 0;
+        int sent = 0;
+        try {
+            while (true) {
+                List<Recipient> recipients = nextRecipients(target, request.getCity(), afterId);
+                if (recipients.isEmpty()) {
+                    break;
+                }
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(INSERT_MESSAGE, rowsOf(sender, request, target, recipients, createdAt)));
+                unreadMessageCounter.invalidateAll(target.receiverType());
+                sent += recipients.size();
+                afterId = recipients.get(recipients.size() - 1).id();
+                if (recipients.size() < chunkSize) {
+                    break;
+                }
+            }
+            log.info("Broadcast {} to {} delivered to {} recipients", broadcastId, request.getAudience(), sent);
+        } catch (RuntimeException e) {
+            // Chunks written so far stay, each one committed on its own
+            log.error("Broadcast {} to {} failed after {} recipients", broadcastId, request.getAudience(), sent, e);
+        }
+    }
+
+    private List<Recipient> nextRecipients(Target target, String city, long afterId) {
+        String sql = "SELECT " + target.idColumn() + ", name FROM " + target.table() +
+                " WHERE deleted_at IS NULL AND " + target.idColumn() + " > ?" +
+                (city != null ? " AND LOWER(city) = LOWER(?)" : "") +
+                " ORDER BY " + target.idColumn() + " LIMIT ?";
+        Object[] args = city != null
+                ? new Object[]{afterId, city, chunkSize}
+                : new Object[]{afterId, chunkSize};
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Recipient(rs.getLong(1), rs.getString(2)), args);
+    }
+
+    private List<Object[]> rowsOf(Sender sender, BroadcastMessageRequestDTO request, Target target,
+                                  List<Recipient> recipients, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        List<Object[]> rows = new ArrayList<>(recipients.size());
+        for (Recipient recipient : recipients) {
+            rows.add(new Object[]{
+                    sender.id(), recipient.id(), sender.name(), recipient.name(),
+                    Message.UserType.ADMIN.name(), target.receiverType().name(),
+                    request.getMessageContent(), request.getMessageType().name(), timestamp
+            });
+        }
+        return rows;
+    }
+
+    private Target targetOf(BroadcastMessageRequestDTO request) {
+        if (request.getCity() != null && request.getAudience() != BroadcastMessageRequestDTO.Audience.RESTAURANTS) {
+            throw new CustomException("City can only be used for restaurant broadcasts", HttpStatus.BAD_REQUEST);
+        }
+        return switch (request.getAudience()) {
+            case CUSTOMERS -> new Target("customer", "customer_id", Message.UserType.CUSTOMER);
+            case COURIERS -> new Target("courier", "courier_id", Message.UserType.COURIER);
+            case RESTAURANTS -> new Target("restaurant", "restaurant_id", Message.UserType.RESTAURANT);
+        };
+    }
+}
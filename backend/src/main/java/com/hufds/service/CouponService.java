@@ -16,4 +16,10 @@ public interface CouponService {
     void deleteCoupon(Long id);
     CouponDTO toggleCouponStatus(Long id);
     CouponValidationResponse validateCouponByName(String couponName, Double orderTotal);
+
+    /**
+     * Atomically uses one redemption of an active, unexpired coupon with quota left
+     * @return true if the coupon was redeemed
+     */
+    boolean redeemCoupon(Long couponId);
 } 
\ No newline at end of file
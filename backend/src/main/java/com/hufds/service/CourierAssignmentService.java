@@ -3,6 +3,7 @@ package com.hufds.service;
 import com.hufds.dto.CourierAssignmentDTO;
 import com.hufds.dto.CourierAssignmentRequestDTO;
 import com.hufds.dto.CourierOrderHistoryDTO;
+import com.hufds.dto.CursorPageDTO;
 import com.hufds.entity.CourierAssignment;
 
 import java.util.List;
@@ -14,6 +15,13 @@ public interface CourierAssignmentService {
     CourierAssignment updateAssignmentStatus(Integer assignmentId, CourierAssignment.AssignmentStatus status);
     CourierAssignment getAssignmentById(Integer assignmentId);
     List<CourierOrderHistoryDTO> getCourierOrderHistory(Integer courierId);
+
+    /**
+     * Get one page of the courier's assignment history, newest first.
+     * @param cursor The nextCursor of the previous page, or null for the first page
+     * @param size Requested page size, capped by orders.history.max-page-size
+     */
+    CursorPageDTO<CourierOrderHistoryDTO> getCourierOrderHistoryPage(Integer courierId, String cursor, Integer size);
     
     /**
      * Get all pending delivery requests for a courier.
@@ -33,7 +41,7 @@ public interface CourierAssignmentService {
     List<CourierAssignmentDTO> getAllAssignmentsForCourier(Integer courierId);
     
     /**
-     * Check if a delivery request has expired (older than 5 minutes).
+     * Check if a delivery request has expired (older than the configured request timeout).
      * 
      * @param assignmentId The assignment ID to check
      * @return true if the assignment is expired and was handled, false otherwise
@@ -49,7 +57,7 @@ public interface CourierAssignmentService {
     boolean checkAndHandleExpiredAssignmentsForOrder(Integer orderId);
     
     /**
-     * Find and return a list of orders that have all their courier assignments expired or rejected.
+     * Find and return a list of orders that have all their courier assignments expired, rejected or cancelled.
      * These orders can have new courier assignments created.
      * 
      * @param restaurantId The restaurant ID to check orders for
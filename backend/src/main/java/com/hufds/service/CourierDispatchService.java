@@ -0,0 +1,95 @@
+package com.hufds.service;
+
+import com.hufds.entity.Courier;
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.CourierRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Picks couriers for an order by proximity to the restaurant, using the live
+ * positions in {@link CourierLocationIndex}. Candidates from the index are
+ * re-checked against the database before one is chosen.
+ */
+@Service
+@RequiredArgsConstructor
+public class CourierDispatchService {
+
+    // How many nearest couriers to load and re-check per dispatch
+    private static final int NEAREST_CANDIDATES = 5;
+
+    private final CourierLocationIndex courierLocationIndex;
+    private final CourierRepository courierRepository;
+
+    /**
+     * Finds the nearest dispatchable courier for a restaurant, skipping the excluded ones.
+     * Falls back to any available courier when nobody nearby has reported a position.
+     */
+    public Optional<Courier> findNearestAvailableCourier(Restaurant restaurant, Collection<Integer> excludedCourierIds) {
+        if (restaurant.getLatitude() != null && restaurant.getLongitude() != null) {
+            List<Integer> candidateIds = courierLocationIndex.findNearest(
+                            restaurant.getLatitude().doubleValue(),
+                            restaurant.getLongitude().doubleValue(),
+                            NEAREST_CANDIDATES + excludedCourierIds.size())
+                    .stream()
+                    .map(CourierLocationIndex.Candidate::courierId)
+                    .filter(courierId -> !excludedCourierIds.contains(courierId))
+                    .collect(Collectors.toList());
+
+            if (!candidateIds.isEmpty()) {
+                Map<Integer, Courier> couriers = courierRepository.findAllById(candidateIds).stream()
+                        .collect(Collectors.toMap(Courier::getCourierId, Function.identity()));
+                for (Integer courierId : candidateIds) {
+                    Courier courier = couriers.get(courierId);
+                    if (courier != null && isDispatchable(courier)) {
+                        return Optional.of(courier);
+                    }
+                    // The index was out of date for this one
+                    courierLocationIndex.setAvailable(courierId, false);
+                }
+            }
+        }
+
+        return courierRepository.findTop10ByStatusAndIsBannedFalseAndDeletedAtIsNullOrderByCourierIdAsc(
+                        Courier.CourierStatus.AVAILABLE)
+                .stream()
+                .filter(courier -> !excludedCourierIds.contains(courier.getCourierId()))
+                .findFirst();
+    }
+
+    /**
+     * Orders couriers nearest-first relative to a restaurant; couriers without a known position go last
+     */
+    public List<Courier> sortByDistance(Restaurant restaurant, List<Courier> couriers) {
+        if (restaurant.getLatitude() == null || restaurant.getLongitude() == null) {
+            return couriers;
+        }
+        double latitude = restaurant.getLatitude().doubleValue();
+        double longitude = restaurant.getLongitude().doubleValue();
+
+        Map<Integer, OptionalDouble> distances = couriers.stream()
+                .collect(Collectors.toMap(Courier::getCourierId,
+                        courier -> courierLocationIndex.distanceTo(courier.getCourierId(), latitude, longitude)));
+        return couriers.stream()
+                .sorted(Comparator.comparingDouble(courier -> {
+                    OptionalDouble distance = distances.get(courier.getCourierId());
+                    return distance.isPresent() ? distance.getAsDouble() : Double.MAX_VALUE;
+                }))
+                .collect(Collectors.toList());
+    }
+
+    private boolean isDispatchable(Courier courier) {
+        return courier.getStatus() == Courier.CourierStatus.AVAILABLE
+                && courier.getDeletedAt() == null
+                && !Boolean.TRUE.equals(courier.getIsBanned());
+    }
+}
@@ -0,0 +1,132 @@
+package com.hufds.service;
+
+import com.hufds.util.GeoGrid;
+import com.hufds.util.GeolocationUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last reported position of every courier, with the AVAILABLE ones kept in a spatial
+ * grid for nearest-courier lookups. Positions are only held in memory; couriers
+ * re-report them periodically while the app is open.
+ */
+@Service
+public class CourierLocationIndex {
+
+    // ~2 km per cell in latitude; couriers are dense and searches are short-range
+    private static final double CELL_SIZE_DEGREES = 0.02;
+    private static final double[] SEARCH_RADII_KM = {2, 5, 10, 25, 50};
+
+    @Value("${courier.location.max-age:10m}")
+    private Duration maxLocationAge = Duration.ofMinutes(10);
+
+    private final GeoGrid<Integer> availableCouriers = new GeoGrid<>(CELL_SIZE_DEGREES);
+    private final Map<Integer, Position> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Courier id with its distance (km) from the pickup point
+     */
+    public record Candidate(Integer courierId, double distanceKm) {
+    }
+
+    private record Position(double latitude, double longitude, Instant reportedAt, boolean available) {
+    }
+
+    public synchronized void updateLocation(Integer courierId, double latitude, double longitude, boolean available) {
+        Position position = new Position(latitude, longitude, Instant.now(), available);
+        positions.put(courierId, position);
+        place(courierId, position);
+    }
+
+    /**
+     * Moves a courier in or out of the dispatch grid after a status change, keeping its last position.
+     * Inside a transaction the change is applied once it commits.
+     */
+    public void setAvailable(Integer courierId, boolean available) {
+        afterCommit(() -> applyAvailable(courierId, available));
+    }
+
+    public synchronized void remove(Integer courierId) {
+        positions.remove(courierId);
+        availableCouriers.remove(courierId);
+    }
+
+    /**
+     * Finds up to k available couriers with a fresh position, nearest first. The search
+     * radius grows step by step so that busy areas only touch a few cells.
+     */
+    public List<Candidate> findNearest(double latitude, double longitude, int k) {
+        Instant staleBefore = Instant.now().minus(maxLocationAge);
+        List<Candidate> candidates = new ArrayList<>();
+        for (double radiusKm : SEARCH_RADII_KM) {
+            candidates.clear();
+            for (GeoGrid.Match<Integer> match : availableCouriers.findWithinDistance(latitude, longitude, radiusKm)) {
+                Position position = positions.get(match.key());
+                if (position != null && position.reportedAt().isAfter(staleBefore)) {
+                    candidates.add(new Candidate(match.key(), match.distanceKm()));
+                }
+            }
+            if (candidates.size() >= k) {
+                break;
+            }
+        }
+        return candidates.size() > k ? new ArrayList<>(candidates.subList(0, k)) : candidates;
+    }
+
+    /**
+     * Distance (km) from a point to a courier's last known position, or empty if none was reported
+     */
+    public OptionalDouble distanceTo(Integer courierId, double latitude, double longitude) {
+        Position position = positions.get(courierId);
+        if (position == null) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of(GeolocationUtil.calculateDistance(
+                latitude, longitude, position.latitude(), position.longitude()));
+    }
+
+    public int size() {
+        return availableCouriers.size();
+    }
+
+    private synchronized void applyAvailable(Integer courierId, boolean available) {
+        Position previous = positions.get(courierId);
+        if (previous == null) {
+            return;
+        }
+        Position position = new Position(previous.latitude(), previous.longitude(), previous.reportedAt(), available);
+        positions.put(courierId, position);
+        place(courierId, position);
+    }
+
+    private void place(Integer courierId, Position position) {
+        if (position.available()) {
+            availableCouriers.put(courierId, position.latitude(), position.longitude());
+        } else {
+            availableCouriers.remove(courierId);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.hufds.service;
 
+import com.hufds.dto.CourierLocationDTO;
 import com.hufds.entity.Courier;
 import com.hufds.entity.Order;
 import com.hufds.dto.PasswordUpdateDTO;
@@ -12,6 +13,7 @@ public interface CourierService {
     Courier getCourierProfile(Integer courierId);
     Courier updateCourierProfile(Integer courierId, Courier courier);
     void updateCourierStatus(Integer courierId, Courier.CourierStatus status);
+    void updateCourierLocation(Integer courierId, CourierLocationDTO locationDTO);
     
     // Availability operations
     boolean isCourierAvailable(Integer courierId);
@@ -0,0 +1,64 @@
+package com.hufds.service;
+
+import com.hufds.exception.CustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived, single-use tickets for opening an event stream. A browser EventSource cannot
+ * send an Authorization header, so the client first requests a ticket with its token and then
+ * passes the ticket as a query parameter, keeping the JWT itself out of URLs and access logs.
+ */
+@Service
+public class EventStreamTicketService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Value("${events.stream.ticket-ttl:30s}")
+    private Duration ticketTtl = Duration.ofSeconds(30);
+
+    private record Ticket(OrderEventStreamService.Audience audience, Integer userId, Instant expiresAt) {
+    }
+
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    /**
+     * Issues a ticket that opens one stream of the given audience for the user
+     */
+    public String issue(OrderEventStreamService.Audience audience, Integer userId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, new Ticket(audience, userId, Instant.now().plus(ticketTtl)));
+        return ticket;
+    }
+
+    /**
+     * Consumes a ticket and returns the user it was issued to
+     */
+    public Integer redeem(String ticket, OrderEventStreamService.Audience audience) {
+        Ticket issued = tickets.remove(ticket);
+        if (issued == null || issued.audience() != audience || issued.expiresAt().isBefore(Instant.now())) {
+            throw new CustomException("Invalid or expired stream ticket", HttpStatus.UNAUTHORIZED);
+        }
+        return issued.userId();
+    }
+
+    /**
+     * Drops tickets that were issued but never used
+     */
+    @Scheduled(fixedDelayString = "${events.stream.ticket-sweep-interval-ms:60000}")
+    public void removeExpired() {
+        Instant now = Instant.now();
+        tickets.values().removeIf(ticket -> ticket.expiresAt().isBefore(now));
+    }
+}
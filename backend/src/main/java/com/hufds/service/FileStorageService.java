@@ -1,5 +1,6 @@
 package com.hufds.service;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -25,11 +26,11 @@ public interface FileStorageService {
     void deleteFile(String fileUrl);
 
     /**
-     * Retrieves a file from storage.
+     * Retrieves a file from storage without reading it into memory.
      *
-     * @param fileUrl The URL/path of the file to retrieve
-     * @return The file as a byte array
-     * @throws RuntimeException if file retrieval fails
+     * @param filePath The path of the file relative to the upload directory (e.g., "menu-items/{uuid}.jpg")
+     * @return The file as a resource that can be streamed
+     * @throws com.hufds.exception.ResourceNotFoundException if the file does not exist or lies outside the upload directory
      */
-    byte[] getFile(String fileUrl);
+    Resource getFile(String filePath);
 } 
\ No newline at end of file
@@ -0,0 +1,224 @@
+package com.hufds.service;
+
+import com.hufds.util.ImageVariant;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the resized variants of an uploaded image on a small bounded pool, so the upload
+ * request returns as soon as the original is stored. Decoding a large photo takes tens of
+ * megabytes, the pool size caps how many are held at once. Variants that are missing, because
+ * they are not written yet or the pool was full, are served as the original image.
+ * Only JPEG and PNG originals get variants, and images above the pixel limit are skipped
+ * before they are decoded.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    @Value("${uploads.derivatives.threads:2}")
+    private int threads = 2;
+
+    @Value("${uploads.derivatives.queue-capacity:32}")
+    private int queueCapacity = 32;
+
+    @Value("${uploads.derivatives.jpeg-quality:0.8}")
+    private float jpegQuality = 0.8f;
+
+    @Value("${uploads.derivatives.max-pixels:40000000}")
+    private long maxPixels = 40_000_000L;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "image-derivatives-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Queues the variants of the stored image, returns right away
+     */
+    public void generateAsync(Path original) {
+        try {
+            executor.execute(() -> generate(original));
+        } catch (RejectedExecutionException e) {
+            log.warn("Image variant queue is full, {} will be served at full size", original.getFileName());
+        }
+    }
+
+    /**
+     * Deletes the variants of an image that is being removed
+     */
+    public void deleteDerivatives(Path original) throws IOException {
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(variantPath(original, variant));
+        }
+    }
+
+    void generate(Path original) {
+        String format = formatOf(original);
+        if (format == null) {
+            // Variants keep the original extension, other formats are served as uploaded
+            return;
+        }
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                write(resize(source, variant.getMaxWidth()), format, variantPath(original, variant));
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Could not create image variants for {}", original.getFileName(), e);
+        }
+    }
+
+    /**
+     * Decodes the image, or returns null when it cannot be decoded or is larger than the pixel limit.
+     * The size comes from the header, so an oversized image is never decoded.
+     */
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                // Not a format ImageIO can decode, the original is served for every variant
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("{} has {} pixels, above the limit of {}, it will be served at full size",
+                            original.getFileName(), pixels, maxPixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static Path variantPath(Path original, ImageVariant variant) {
+        return original.resolveSibling(variant.nameFor(original.getFileName().toString()));
+    }
+
+    private static String formatOf(Path original) {
+        String name = original.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".png")) {
+            return "png";
+        }
+        if (name.endsWith(".jpg") || name.endsWith(".jpeg")) {
+            return "jpg";
+        }
+        return null;
+    }
+
+    private static BufferedImage resize(BufferedImage source, int maxWidth) {
+        if (source.getWidth() <= maxWidth) {
+            return source;
+        }
+        int targetHeight = Math.max(1, Math.round(source.getHeight() * (maxWidth / (float) source.getWidth())));
+        // Halve in steps, a single bilinear pass from a large photo skips most source pixels
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(maxWidth, width / 2);
+            height = width == maxWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            current = scale(current, width, height, source.getColorModel().hasAlpha());
+        } while (width > maxWidth);
+        return current;
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height, boolean alpha) {
+        BufferedImage scaled = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private void write(BufferedImage image, String format, Path target) throws IOException {
+        // Written next to the target and moved into place, so a half-written file is never served
+        Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+        try {
+            if ("png".equals(format)) {
+                ImageIO.write(image, "png", temp.toFile());
+            } else {
+                writeJpeg(toRgb(image), temp);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        // The JPEG writer rejects images with an alpha channel
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        return scale(image, image.getWidth(), image.getHeight(), false);
+    }
+}
@@ -1,6 +1,7 @@
 package com.hufds.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -9,12 +10,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import io.jsonwebtoken.JwtException;
 import com.hufds.exception.CustomException;
+import com.hufds.util.TokenDigest;
 import org.springframework.http.HttpStatus;
 
 
@@ -27,16 +31,69 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long jwtExpiration;
 
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxCachedTokens = 10000;
+
+    // Built on first use from secretKey, then shared by every request
+    private volatile Key signingKey;
+    private volatile JwtParser parser;
+
+    // Verified tokens keyed by the SHA-256 of the token, dropped once they expire
+    private final Map<String, TokenPrincipal> verifiedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * Identity carried by a verified token
+     */
+    public record TokenPrincipal(String email, Integer userId, String userType, Instant expiresAt) {
+
+        public boolean isExpired() {
+            return expiresAt != null && !expiresAt.isAfter(Instant.now());
+        }
+    }
+
+    /**
+     * Verifies the token signature and expiry, at most once per token while it is cached
+     *
+     * @throws CustomException if the token is malformed, badly signed or expired
+     */
+    public TokenPrincipal verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new CustomException("Invalid or expired token", HttpStatus.UNAUTHORIZED);
+        }
+        String cacheKey = TokenDigest.of(token);
+        TokenPrincipal cached = verifiedTokens.get(cacheKey);
+        if (cached != null) {
+            if (cached.isExpired()) {
+                verifiedTokens.remove(cacheKey);
+                throw new CustomException("Invalid or expired token", HttpStatus.UNAUTHORIZED);
+            }
+            return cached;
+        }
+
+        Claims claims = extractAllClaims(token);
+        TokenPrincipal principal = new TokenPrincipal(
+                claims.getSubject(),
+                claims.get("user_id", Integer.class),
+                claims.get("user_type", String.class),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+
+        if (verifiedTokens.size() >= maxCachedTokens) {
+            evictCachedTokens();
+        }
+        verifiedTokens.put(cacheKey, principal);
+        return principal;
+    }
+
     public String extractEmail(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).email();
     }
 
     public Integer extractUserId(String token) {
-        return extractClaim(token, claims -> claims.get("user_id", Integer.class));
+        return verify(token).userId();
     }
 
     public String extractUserType(String token) {
-        return extractClaim(token, claims -> claims.get("user_type", String.class));
+        return verify(token).userType();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -67,32 +124,51 @@ public class JwtService {
     }
 
     public boolean isTokenValid(String token, String email) {
-        final String extractedEmail = extractEmail(token);
-        return (extractedEmail.equals(email)) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        TokenPrincipal principal = verify(token);
+        return principal.email().equals(email) && !principal.isExpired();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        Instant expiresAt = verify(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
+            return getParser()
                     .parseClaimsJws(token)
                     .getBody();
-        } catch (JwtException e) {
+        } catch (JwtException | IllegalArgumentException e) {
             throw new CustomException("Invalid or expired token", HttpStatus.UNAUTHORIZED);
         }
     }
 
+    private JwtParser getParser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
+
     private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        Key current = signingKey;
+        if (current == null) {
+            byte[] keyBytes = Decoders.BASE64.decode(secretKey);
+            current = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = current;
+        }
+        return current;
+    }
+
+    private void evictCachedTokens() {
+        verifiedTokens.values().removeIf(TokenPrincipal::isExpired);
+        if (verifiedTokens.size() >= maxCachedTokens) {
+            // Still full of live tokens; start over rather than track recency
+            verifiedTokens.clear();
+        }
     }
-}
\ No newline at end of file
+}
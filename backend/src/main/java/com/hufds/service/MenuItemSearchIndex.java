@@ -0,0 +1,340 @@
+package com.hufds.service;
+
+import com.hufds.entity.MenuItem;
+import com.hufds.repository.MenuItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over non-deleted menu items.
+ *
+ * Names and descriptions are tokenized and folded (case, Turkish dotted/dotless i and
+ * diacritics), and every query token is prefix-matched against the term dictionary.
+ * Category, restaurant and availability are kept as bitset facets; price is checked
+ * on the remaining candidates. Matches are ranked by where and how well they hit.
+ * Changes made inside a transaction are applied once it commits, so a rolled back
+ * edit never shows up in search results.
+ */
+@Service
+@RequiredArgsConstructor
+public class MenuItemSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuItemSearchIndex.class);
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
+
+    private final MenuItemRepository menuItemRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Document slots; a removed item's slot is recycled for the next insert
+    private final List<IndexedItem> documents = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Integer, Integer> slotByMenuItemId = new HashMap<>();
+    private final BitSet liveDocuments = new BitSet();
+
+    // Postings and facets
+    private final NavigableMap<String, BitSet> nameTerms = new TreeMap<>();
+    private final NavigableMap<String, BitSet> descriptionTerms = new TreeMap<>();
+    private final Map<String, BitSet> categories = new HashMap<>();
+    private final Map<Integer, BitSet> restaurants = new HashMap<>();
+    private final BitSet availableDocuments = new BitSet();
+
+    private record IndexedItem(Integer menuItemId, Integer restaurantId, String foldedName,
+                               Set<String> nameTokens, Set<String> descriptionTokens, String category,
+                               BigDecimal price, boolean available) {
+    }
+
+    /**
+     * Search criteria understood by the index; null fields are not filtered on
+     */
+    public record Query(String text, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                        Boolean available, Integer restaurantId) {
+    }
+
+    /**
+     * One page of ranked menu item ids plus the number of matches (capped at maxResults)
+     */
+    public record Result(List<Integer> menuItemIds, int totalMatches) {
+    }
+
+    private record ScoredDocument(int slot, int score) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<MenuItem> menuItems = menuItemRepository.findByDeletedAtIsNull();
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            freeSlots.clear();
+            slotByMenuItemId.clear();
+            liveDocuments.clear();
+            nameTerms.clear();
+            descriptionTerms.clear();
+            categories.clear();
+            restaurants.clear();
+            availableDocuments.clear();
+            menuItems.forEach(this::indexLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Menu item search index built with {} items", menuItems.size());
+    }
+
+    /**
+     * Adds or replaces a menu item; deleted items are removed from the index
+     */
+    public void index(MenuItem menuItem) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                indexLocked(menuItem);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Integer menuItemId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeLocked(menuItemId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByMenuItemId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs a query and returns the requested page of ranked ids. Ranking considers at most
+     * maxResults matches, so deep pages past that window come back empty.
+     */
+    public Result search(Query query, int page, int size, int maxResults) {
+        List<String> queryTokens = query.text() != null ? tokenize(query.text()) : List.of();
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = (BitSet) liveDocuments.clone();
+
+            if (query.restaurantId() != null) {
+                candidates.and(restaurants.getOrDefault(query.restaurantId(), new BitSet()));
+            }
+            if (query.available() != null) {
+                if (query.available()) {
+                    candidates.and(availableDocuments);
+                } else {
+                    candidates.andNot(availableDocuments);
+                }
+            }
+            if (query.category() != null) {
+                String categoryQuery = fold(query.category());
+                BitSet categoryMatches = new BitSet();
+                categories.forEach((category, slots) -> {
+                    if (category.contains(categoryQuery)) {
+                        categoryMatches.or(slots);
+                    }
+                });
+                candidates.and(categoryMatches);
+            }
+            for (String token : queryTokens) {
+                BitSet tokenMatches = prefixMatches(nameTerms, token);
+                tokenMatches.or(prefixMatches(descriptionTerms, token));
+                candidates.and(tokenMatches);
+            }
+
+            List<ScoredDocument> scored = new ArrayList<>();
+            String foldedQuery = query.text() != null ? fold(query.text()).trim() : "";
+            for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+                IndexedItem item = documents.get(slot);
+                if (query.minPrice() != null && item.price().compareTo(query.minPrice()) < 0) {
+                    continue;
+                }
+                if (query.maxPrice() != null && item.price().compareTo(query.maxPrice()) > 0) {
+                    continue;
+                }
+                scored.add(new ScoredDocument(slot, score(item, queryTokens, foldedQuery)));
+            }
+
+            int totalMatches = Math.min(scored.size(), maxResults);
+            scored.sort(Comparator.comparingInt(ScoredDocument::score).reversed()
+                    .thenComparing(document -> documents.get(document.slot()).foldedName())
+                    .thenComparing(document -> documents.get(document.slot()).menuItemId()));
+
+            int from = Math.min(page * size, totalMatches);
+            int to = Math.min(from + size, totalMatches);
+            List<Integer> menuItemIds = scored.subList(from, to).stream()
+                    .map(document -> documents.get(document.slot()).menuItemId())
+                    .toList();
+            return new Result(menuItemIds, totalMatches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cases and strips diacritics so that "İskender", "ISKENDER" and "iskender",
+     * or "Çiğ Köfte" and "cig kofte", fold to the same term.
+     */
+    static String fold(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("")
+                .toLowerCase(Locale.ROOT)
+                .replace('ı', 'i');
+    }
+
+    static List<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(fold(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private int score(IndexedItem item, List<String> queryTokens, String foldedQuery) {
+        int score = 0;
+        for (String token : queryTokens) {
+            if (item.nameTokens().contains(token)) {
+                score += 4;
+            } else if (item.nameTokens().stream().anyMatch(nameToken -> nameToken.startsWith(token))) {
+                score += 3;
+            } else if (item.descriptionTokens().contains(token)) {
+                score += 2;
+            } else {
+                score += 1;
+            }
+        }
+        if (!foldedQuery.isEmpty() && item.foldedName().startsWith(foldedQuery)) {
+            score += 5;
+        }
+        if (item.available()) {
+            score += 1;
+        }
+        return score;
+    }
+
+    private BitSet prefixMatches(NavigableMap<String, BitSet> terms, String prefix) {
+        BitSet matches = new BitSet();
+        for (BitSet slots : terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            matches.or(slots);
+        }
+        return matches;
+    }
+
+    private void indexLocked(MenuItem menuItem) {
+        removeLocked(menuItem.getMenuItemId());
+        if (menuItem.getDeletedAt() != null || menuItem.getRestaurant() == null || menuItem.getPrice() == null) {
+            return;
+        }
+
+        String name = menuItem.getName() != null ? menuItem.getName() : "";
+        IndexedItem item = new IndexedItem(
+                menuItem.getMenuItemId(),
+                menuItem.getRestaurant().getRestaurantId(),
+                fold(name),
+                new LinkedHashSet<>(tokenize(name)),
+                menuItem.getDescription() != null ? new LinkedHashSet<>(tokenize(menuItem.getDescription())) : Set.of(),
+                menuItem.getCategory() != null ? fold(menuItem.getCategory()) : "",
+                menuItem.getPrice(),
+                Boolean.TRUE.equals(menuItem.getAvailability())
+        );
+
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = documents.size();
+            documents.add(item);
+        } else {
+            slot = freeSlots.pop();
+            documents.set(slot, item);
+        }
+        slotByMenuItemId.put(item.menuItemId(), slot);
+        liveDocuments.set(slot);
+
+        item.nameTokens().forEach(token -> nameTerms.computeIfAbsent(token, key -> new BitSet()).set(slot));
+        item.descriptionTokens().forEach(token -> descriptionTerms.computeIfAbsent(token, key -> new BitSet()).set(slot));
+        categories.computeIfAbsent(item.category(), key -> new BitSet()).set(slot);
+        restaurants.computeIfAbsent(item.restaurantId(), key -> new BitSet()).set(slot);
+        if (item.available()) {
+            availableDocuments.set(slot);
+        }
+    }
+
+    private void removeLocked(Integer menuItemId) {
+        Integer slot = slotByMenuItemId.remove(menuItemId);
+        if (slot == null) {
+            return;
+        }
+        IndexedItem item = documents.get(slot);
+
+        item.nameTokens().forEach(token -> clearPosting(nameTerms, token, slot));
+        item.descriptionTokens().forEach(token -> clearPosting(descriptionTerms, token, slot));
+        clearPosting(categories, item.category(), slot);
+        clearPosting(restaurants, item.restaurantId(), slot);
+        availableDocuments.clear(slot);
+        liveDocuments.clear(slot);
+
+        documents.set(slot, null);
+        freeSlots.push(slot);
+    }
+
+    private static <K> void clearPosting(Map<K, BitSet> postings, K key, int slot) {
+        BitSet slots = postings.get(key);
+        if (slots == null) {
+            return;
+        }
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.hufds.service;
 
+import com.hufds.dto.BulkMessageRequestDTO;
+import com.hufds.dto.CursorPageDTO;
 import com.hufds.dto.MessageDTO;
 import com.hufds.entity.Message;
+import com.hufds.exception.CustomException;
 import com.hufds.repository.MessageRepository;
+import com.hufds.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +24,13 @@ import java.util.stream.Collectors;
 public class MessageService {
 
     private final MessageRepository messageRepository;
+    private final UnreadMessageCounter unreadMessageCounter;
+
+    @Value("${messages.inbox.page-size:20}")
+    private int defaultInboxPageSize = 20;
+
+    @Value("${messages.inbox.max-page-size:100}")
+    private int maxInboxPageSize = 100;
     
     /**
      * Yeni bir mesaj oluştur
@@ -26,6 +41,7 @@ public class MessageService {
         message.setCreatedAt(LocalDateTime.now());
         message.setIsRead(false);
         message = messageRepository.save(message);
+        unreadMessageCounter.increment(message.getReceiverType(), message.getReceiverId());
         return MessageDTO.fromEntity(message);
     }
     
@@ -49,35 +65,12 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getReceivedMessages(Long userId, String userType) {
-        List<Message> messages;
-        
-        System.out.println("getReceivedMessages called with userId: " + userId + ", userType: " + userType);
-        
-        if ("ADMIN".equalsIgnoreCase(userType)) {
-            // Admin kullanıcısı için özel sorgu
-            messages = messageRepository.findAdminReceivedMessages(userId);
-            System.out.println("Admin messages found: " + messages.size());
-        } else if ("RESTAURANT".equalsIgnoreCase(userType)) {
-            // Restaurant kullanıcısı için özel sorgu
-            messages = messageRepository.findRestaurantReceivedMessages(userId);
-            System.out.println("Restaurant messages found: " + messages.size());
-        } else if ("COURIER".equalsIgnoreCase(userType)) {
-            // Courier kullanıcısı için özel sorgu
-            messages = messageRepository.findCourierReceivedMessages(userId);
-            System.out.println("Courier messages found: " + messages.size());
-        } else if ("CUSTOMER".equalsIgnoreCase(userType)) {
-            // Customer kullanıcısı için özel sorgu
-            messages = messageRepository.findCustomerReceivedMessages(userId);
-            System.out.println("Customer messages found: " + messages.size());
-        } else {
+        Message.UserType receiverType = parseUserType(userType);
+        if (receiverType == null) {
             // Diğer kullanıcılar için standart sorgu
-            messages = messageRepository.findReceivedMessagesByUserId(userId);
-            System.out.println("Standard messages found: " + messages.size());
+            return toDTOs(messageRepository.findReceivedMessagesByUserId(userId));
         }
-        
-        return messages.stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(receiverType, userId, false));
     }
     
     /**
@@ -89,35 +82,39 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getUnreadMessages(Long userId, String userType) {
-        List<Message> messages;
-        
-        System.out.println("getUnreadMessages called with userId: " + userId + ", userType: " + userType);
-        
-        if ("ADMIN".equalsIgnoreCase(userType)) {
-            // Admin kullanıcısı için özel sorgu
-            messages = messageRepository.findAdminUnreadMessages(userId);
-            System.out.println("Admin unread messages found: " + messages.size());
-        } else if ("RESTAURANT".equalsIgnoreCase(userType)) {
-            // Restaurant kullanıcısı için özel sorgu
-            messages = messageRepository.findRestaurantUnreadMessages(userId);
-            System.out.println("Restaurant unread messages found: " + messages.size());
-        } else if ("COURIER".equalsIgnoreCase(userType)) {
-            // Courier kullanıcısı için özel sorgu
-            messages = messageRepository.findCourierUnreadMessages(userId);
-            System.out.println("Courier unread messages found: " + messages.size());
-        } else if ("CUSTOMER".equalsIgnoreCase(userType)) {
-            // Customer kullanıcısı için özel sorgu
-            messages = messageRepository.findCustomerUnreadMessages(userId);
-            System.out.println("Customer unread messages found: " + messages.size());
-        } else {
+        Message.UserType receiverType = parseUserType(userType);
+        if (receiverType == null) {
             // Diğer kullanıcılar için standart sorgu
-            messages = messageRepository.findUnreadMessagesByUserId(userId);
-            System.out.println("Standard unread messages found: " + messages.size());
+            return toDTOs(messageRepository.findUnreadMessagesByUserId(userId));
         }
-        
-        return messages.stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(receiverType, userId, true));
+    }
+    
+    /**
+     * Alıcının gelen kutusunun bir sayfası, en yeni mesaj önce
+     *
+     * @param unreadOnly Sadece okunmamış mesajlar
+     * @param cursor Önceki sayfanın nextCursor değeri, ilk sayfa için boş
+     * @param size İstenen sayfa boyutu, messages.inbox.max-page-size ile sınırlı
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDTO<MessageDTO> getInboxPage(Long userId, String userType, boolean unreadOnly,
+                                                  String cursor, Integer size) {
+        Message.UserType receiverType = requireUserType(userType);
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size, defaultInboxPageSize, maxInboxPageSize);
+        List<Message> messages = messageRepository.findInboxPage(receiverType, userId, unreadOnly,
+                after.time(), after.id(), PageRequest.of(0, pageSize + 1));
+        return CursorPageDTO.of(messages, pageSize,
+                message -> new KeysetCursor(message.getCreatedAt(), message.getMessageId()).encode(),
+                MessageDTO::fromEntity);
+    }
+    
+    /**
+     * Alıcının okunmamış mesaj sayısı, mesajları yüklemeden
+     */
+    public long getUnreadCount(Long userId, String userType) {
+        return unreadMessageCounter.getUnreadCount(requireUserType(userType), userId);
     }
     
     /**
@@ -153,10 +150,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getRestaurantReceivedMessages(Long restaurantId) {
-        return messageRepository.findRestaurantReceivedMessages(restaurantId)
-                .stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(Message.UserType.RESTAURANT, restaurantId, false));
     }
     
     /**
@@ -164,10 +158,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getRestaurantUnreadMessages(Long restaurantId) {
-        return messageRepository.findRestaurantUnreadMessages(restaurantId)
-                .stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(Message.UserType.RESTAURANT, restaurantId, true));
     }
     
     /**
@@ -175,10 +166,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getCourierReceivedMessages(Long courierId) {
-        return messageRepository.findCourierReceivedMessages(courierId)
-                .stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(Message.UserType.COURIER, courierId, false));
     }
     
     /**
@@ -186,10 +174,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getCourierUnreadMessages(Long courierId) {
-        return messageRepository.findCourierUnreadMessages(courierId)
-                .stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(Message.UserType.COURIER, courierId, true));
     }
     
     /**
@@ -197,12 +182,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getCustomerReceivedMessages(Long customerId) {
-        System.out.println("getCustomerReceivedMessages called with customerId: " + customerId);
-        List<Message> messages = messageRepository.findCustomerReceivedMessages(customerId);
-        System.out.println("Customer specific messages found: " + messages.size());
-        return messages.stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(Message.UserType.CUSTOMER, customerId, false));
     }
     
     /**
@@ -210,12 +190,7 @@ public class MessageService {
      */
     @Transactional(readOnly = true)
     public List<MessageDTO> getCustomerUnreadMessages(Long customerId) {
-        System.out.println("getCustomerUnreadMessages called with customerId: " + customerId);
-        List<Message> messages = messageRepository.findCustomerUnreadMessages(customerId);
-        System.out.println("Customer specific unread messages found: " + messages.size());
-        return messages.stream()
-                .map(MessageDTO::fromEntity)
-                .collect(Collectors.toList());
+        return toDTOs(findInbox(Message.UserType.CUSTOMER, customerId, true));
     }
     
     /**
@@ -235,8 +210,11 @@ public class MessageService {
     public MessageDTO markAsRead(Long messageId) {
         Message message = messageRepository.findById(messageId)
                 .orElseThrow(() -> new RuntimeException("Message not found with ID: " + messageId));
+        // Koşullu güncelleme; aynı mesaj eşzamanlı okunursa sayaç yalnızca bir kez azalır
+        if (messageRepository.markRead(messageId) == 1) {
+            unreadMessageCounter.decrement(message.getReceiverType(), message.getReceiverId());
+        }
         message.setIsRead(true);
-        message = messageRepository.save(message);
         return MessageDTO.fromEntity(message);
     }
     
@@ -247,8 +225,48 @@ public class MessageService {
     public void deleteMessage(Long messageId) {
         Message message = messageRepository.findById(messageId)
                 .orElseThrow(() -> new RuntimeException("Message not found with ID: " + messageId));
-        message.setDeletedAt(LocalDateTime.now());
-        messageRepository.save(message);
+        LocalDateTime now = LocalDateTime.now();
+        if (messageRepository.softDeleteUnread(messageId, now) == 1) {
+            unreadMessageCounter.decrement(message.getReceiverType(), message.getReceiverId());
+        } else {
+            messageRepository.softDelete(messageId, now);
+        }
+    }
+    
+    /**
+     * Alıcının mesajlarını tek bir UPDATE ile okundu işaretle
+     *
+     * @return Okundu işaretlenen mesaj sayısı
+     */
+    @Transactional
+    public int markAllAsRead(Long receiverId, String userType, BulkMessageRequestDTO request) {
+        Message.UserType receiverType = requireUserType(userType);
+        int updated = hasMessageIds(request)
+                ? messageRepository.markReadByIds(receiverType, receiverId, request.getMessageIds())
+                : messageRepository.markReadBefore(receiverType, receiverId, request.getBefore());
+        if (updated > 0) {
+            unreadMessageCounter.decrement(receiverType, receiverId, updated);
+        }
+        return updated;
+    }
+    
+    /**
+     * Alıcının mesajlarını tek bir UPDATE ile sil (soft delete)
+     *
+     * @return Silinen mesaj sayısı
+     */
+    @Transactional
+    public int deleteAll(Long receiverId, String userType, BulkMessageRequestDTO request) {
+        Message.UserType receiverType = requireUserType(userType);
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = hasMessageIds(request)
+                ? messageRepository.softDeleteByIds(receiverType, receiverId, request.getMessageIds(), now)
+                : messageRepository.softDeleteBefore(receiverType, receiverId, request.getBefore(), now);
+        if (deleted > 0) {
+            // Silinenlerin kaçının okunmamış olduğu bilinmiyor, sayaç bir sonraki okumada yeniden yüklenir
+            unreadMessageCounter.invalidate(receiverType, receiverId);
+        }
+        return deleted;
     }
     
     /**
@@ -261,4 +279,40 @@ public class MessageService {
                 .map(MessageDTO::fromEntity)
                 .collect(Collectors.toList());
     }
-} 
\ No newline at end of file
+    
+    private List<Message> findInbox(Message.UserType receiverType, Long receiverId, boolean unreadOnly) {
+        return messageRepository.findInboxPage(receiverType, receiverId, unreadOnly,
+                KeysetCursor.FIRST.time(), KeysetCursor.FIRST.id(), Pageable.unpaged());
+    }
+    
+    private boolean hasMessageIds(BulkMessageRequestDTO request) {
+        boolean hasIds = request.getMessageIds() != null && !request.getMessageIds().isEmpty();
+        if (hasIds == (request.getBefore() != null)) {
+            throw new CustomException("Either messageIds or before must be given", HttpStatus.BAD_REQUEST);
+        }
+        return hasIds;
+    }
+    
+    private List<MessageDTO> toDTOs(List<Message> messages) {
+        return messages.stream()
+                .map(MessageDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+    
+    private Message.UserType parseUserType(String userType) {
+        for (Message.UserType type : Message.UserType.values()) {
+            if (type.name().equalsIgnoreCase(userType)) {
+                return type;
+            }
+        }
+        return null;
+    }
+    
+    private Message.UserType requireUserType(String userType) {
+        Message.UserType type = parseUserType(userType);
+        if (type == null) {
+            throw new CustomException("Invalid user type: " + userType, HttpStatus.BAD_REQUEST);
+        }
+        return type;
+    }
+}
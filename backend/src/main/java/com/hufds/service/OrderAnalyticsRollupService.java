@@ -0,0 +1,66 @@
+package com.hufds.service;
+
+import com.hufds.entity.Order;
+import com.hufds.entity.OrderRollup;
+import com.hufds.repository.OrderDailyRollupRepository;
+import com.hufds.repository.OrderRepository;
+import com.hufds.repository.OrderRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Maintains the delivered order rollups per restaurant and per customer (all-time and
+ * by day) that back the admin analytics, so they never have to scan the orders table.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderAnalyticsRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderAnalyticsRollupService.class);
+
+    private final OrderRollupRepository orderRollupRepository;
+    private final OrderDailyRollupRepository orderDailyRollupRepository;
+    private final OrderRepository orderRepository;
+
+    /**
+     * Counts an order that has just become DELIVERED. Called once per order, inside the
+     * transaction that changes its status, so the rollups commit or roll back with it.
+     */
+    @Transactional
+    public void recordDelivered(Order order) {
+        LocalDate day = order.getDeliveredAt() != null ? order.getDeliveredAt().toLocalDate() : LocalDate.now();
+        BigDecimal amount = order.getTotalPrice() != null ? order.getTotalPrice() : BigDecimal.ZERO;
+
+        add(OrderRollup.Scope.RESTAURANT, order.getRestaurant().getRestaurantId(), day, amount);
+        add(OrderRollup.Scope.CUSTOMER, order.getCustomer().getCustomerId(), day, amount);
+    }
+
+    /**
+     * Builds the rollups from the existing orders the first time the application starts with them
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (orderRollupRepository.count() > 0 || !orderRepository.existsByStatus(Order.OrderStatus.DELIVERED)) {
+            return;
+        }
+        orderDailyRollupRepository.deleteAllInBatch();
+        orderDailyRollupRepository.insertRestaurantRollupsFromOrders();
+        orderDailyRollupRepository.insertCustomerRollupsFromOrders();
+        orderRollupRepository.insertTotalsFromDailyRollups();
+        log.info("Built delivered order rollups from existing orders");
+    }
+
+    private void add(OrderRollup.Scope scope, Integer ownerId, LocalDate day, BigDecimal amount) {
+        orderRollupRepository.addDeliveredOrder(scope.name(), ownerId, amount);
+        orderDailyRollupRepository.addDeliveredOrder(scope.name(), ownerId, day, amount);
+    }
+}
@@ -0,0 +1,167 @@
+package com.hufds.service;
+
+import com.hufds.dto.OrderEventDTO;
+import com.hufds.entity.CourierAssignment;
+import com.hufds.entity.Order;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process pub/sub bus that pushes order and courier assignment changes to the
+ * Server-Sent Events streams of the customer, restaurant and courier involved.
+ * Events are sent once the change has committed; a user may have several streams open.
+ */
+@Service
+public class OrderEventStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventStreamService.class);
+
+    private static final String EVENT_NAME = "order-event";
+
+    public enum Audience {
+        CUSTOMER,
+        RESTAURANT,
+        COURIER
+    }
+
+    private record Subscriber(Audience audience, Integer userId) {
+    }
+
+    @Value("${events.stream.timeout:30m}")
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    private final Map<Subscriber, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    /**
+     * Opens a stream for a user; the client reconnects when it times out
+     */
+    public SseEmitter subscribe(Audience audience, Integer userId) {
+        return subscribe(audience, userId, new SseEmitter(streamTimeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Audience audience, Integer userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(audience, userId);
+        emitters.computeIfAbsent(subscriber, key -> new CopyOnWriteArrayList<>()).add(emitter);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber, emitter));
+        emitter.onTimeout(() -> unsubscribe(subscriber, emitter));
+        emitter.onError(error -> unsubscribe(subscriber, emitter));
+        return emitter;
+    }
+
+    /**
+     * Notifies the customer, the restaurant and the assigned courier of an order status change
+     */
+    public void publishOrderStatus(Order order) {
+        publish(OrderEventDTO.builder()
+                .type(OrderEventDTO.EventType.ORDER_STATUS_CHANGED)
+                .orderId(order.getOrderId())
+                .orderStatus(order.getStatus())
+                .customerId(order.getCustomer() != null ? order.getCustomer().getCustomerId() : null)
+                .restaurantId(order.getRestaurant() != null ? order.getRestaurant().getRestaurantId() : null)
+                .courierId(order.getCourier() != null ? order.getCourier().getCourierId() : null)
+                .build());
+    }
+
+    /**
+     * Notifies the restaurant and the requested courier of an assignment status change
+     */
+    public void publishAssignmentStatus(CourierAssignment assignment) {
+        Order order = assignment.getOrder();
+        publish(OrderEventDTO.builder()
+                .type(OrderEventDTO.EventType.ASSIGNMENT_STATUS_CHANGED)
+                .orderId(order != null ? order.getOrderId() : null)
+                .orderStatus(order != null ? order.getStatus() : null)
+                .assignmentId(assignment.getAssignmentId())
+                .assignmentStatus(assignment.getStatus())
+                .restaurantId(order != null && order.getRestaurant() != null
+                        ? order.getRestaurant().getRestaurantId() : null)
+                .courierId(assignment.getCourier() != null ? assignment.getCourier().getCourierId() : null)
+                .build());
+    }
+
+    /**
+     * Sends an event to every party named in it once the current transaction commits
+     */
+    public void publish(OrderEventDTO event) {
+        if (event.getOccurredAt() == null) {
+            event.setOccurredAt(LocalDateTime.now());
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deliver(event);
+                }
+            });
+        } else {
+            deliver(event);
+        }
+    }
+
+    /**
+     * Keeps idle streams open through proxies and drops the ones whose client went away
+     */
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        emitters.forEach((subscriber, list) -> list.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(subscriber, emitter);
+            }
+        }));
+    }
+
+    public int subscriberCount() {
+        return emitters.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void deliver(OrderEventDTO event) {
+        // Assignment events are internal to dispatch, customers follow the order status instead
+        if (event.getType() == OrderEventDTO.EventType.ORDER_STATUS_CHANGED) {
+            send(new Subscriber(Audience.CUSTOMER, event.getCustomerId()), event);
+        }
+        send(new Subscriber(Audience.RESTAURANT, event.getRestaurantId()), event);
+        send(new Subscriber(Audience.COURIER, event.getCourierId()), event);
+    }
+
+    private void send(Subscriber subscriber, OrderEventDTO event) {
+        if (subscriber.userId() == null) {
+            return;
+        }
+        List<SseEmitter> list = emitters.get(subscriber);
+        if (list == null) {
+            return;
+        }
+        for (SseEmitter emitter : list) {
+            try {
+                emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping closed event stream of {} {}", subscriber.audience(), subscriber.userId());
+                unsubscribe(subscriber, emitter);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber, SseEmitter emitter) {
+        emitters.computeIfPresent(subscriber, (key, list) -> {
+            list.remove(emitter);
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
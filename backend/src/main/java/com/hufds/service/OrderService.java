@@ -1,6 +1,8 @@
 package com.hufds.service;
 
+import com.hufds.dto.CursorPageDTO;
 import com.hufds.dto.OrderItemRequestDTO;
+import com.hufds.dto.OrderResponseDTO;
 import com.hufds.dto.PlaceOrderRequestDTO;
 import com.hufds.entity.Order;
 import com.hufds.entity.Order.OrderStatus;
@@ -15,6 +17,16 @@ public interface OrderService {
     Order cancelOrder(Integer id, Integer userId, String userType);
     List<Order> getRestaurantOrders(Integer restaurantId, OrderStatus status);
     List<Order> getAllRestaurantOrders(Integer restaurantId);
+
+    /**
+     * Get one page of a restaurant's orders, newest first.
+     *
+     * @param restaurantId The restaurant ID
+     * @param cursor The nextCursor of the previous page, or null for the first page
+     * @param size Requested page size, capped by orders.history.max-page-size
+     * @return The page of orders
+     */
+    CursorPageDTO<OrderResponseDTO> getRestaurantOrderPage(Integer restaurantId, String cursor, Integer size);
     
     /**
      * Get active orders for a courier.
@@ -0,0 +1,100 @@
+package com.hufds.service;
+
+import com.hufds.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Per-restaurant set of PROCESSING orders without an active courier assignment.
+ * A restaurant's set is loaded with one aggregate query on first use and then kept
+ * up to date by the order and assignment state transitions, applied once they commit.
+ */
+@Service
+@RequiredArgsConstructor
+public class OrdersNeedingCourierIndex {
+
+    private final OrderRepository orderRepository;
+
+    private final Map<Integer, Set<Integer>> ordersByRestaurant = new ConcurrentHashMap<>();
+
+    /**
+     * Order ids of the restaurant that need a courier, in ascending order
+     */
+    public List<Integer> getOrderIds(Integer restaurantId) {
+        Set<Integer> orderIds = ordersByRestaurant.get(restaurantId);
+        if (orderIds == null) {
+            orderIds = load(restaurantId);
+        }
+        return new ArrayList<>(orderIds);
+    }
+
+    /**
+     * The order is PROCESSING and has no active assignment any more
+     */
+    public void markNeedsCourier(Integer restaurantId, Integer orderId) {
+        afterCommit(() -> update(restaurantId, orderId, true));
+    }
+
+    /**
+     * The order got an active assignment or left PROCESSING
+     */
+    public void markCovered(Integer restaurantId, Integer orderId) {
+        afterCommit(() -> update(restaurantId, orderId, false));
+    }
+
+    /**
+     * Drops a restaurant's set after changes that were not tracked order by order,
+     * it is reloaded on the next read
+     */
+    public void invalidate(Integer restaurantId) {
+        afterCommit(() -> drop(restaurantId));
+    }
+
+    private synchronized Set<Integer> load(Integer restaurantId) {
+        Set<Integer> orderIds = ordersByRestaurant.get(restaurantId);
+        if (orderIds == null) {
+            orderIds = new ConcurrentSkipListSet<>(orderRepository.findOrderIdsNeedingCourier(restaurantId));
+            ordersByRestaurant.put(restaurantId, orderIds);
+        }
+        return orderIds;
+    }
+
+    private synchronized void update(Integer restaurantId, Integer orderId, boolean needsCourier) {
+        // Restaurants that were never read pick the change up when they are loaded
+        Set<Integer> orderIds = ordersByRestaurant.get(restaurantId);
+        if (orderIds == null) {
+            return;
+        }
+        if (needsCourier) {
+            orderIds.add(orderId);
+        } else {
+            orderIds.remove(orderId);
+        }
+    }
+
+    private synchronized void drop(Integer restaurantId) {
+        ordersByRestaurant.remove(restaurantId);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
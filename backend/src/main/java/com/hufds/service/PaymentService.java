@@ -13,6 +13,16 @@ public interface PaymentService {
      */
     Payment createPayment(Integer orderId, Payment.PaymentMethod paymentMethod);
 
+    /**
+     * Build the payment for an order that is being placed, without saving it.
+     * Credit card payments are processed right away; the payment is persisted
+     * together with the order.
+     * @param order The new order, with its total price already set
+     * @param paymentMethod The payment method (CREDIT_CARD or CASH_ON_DELIVERY)
+     * @return The unsaved payment record
+     */
+    Payment preparePayment(Order order, Payment.PaymentMethod paymentMethod);
+
     /**
      * Process a payment (for credit card payments)
      * @param paymentId The payment ID to process
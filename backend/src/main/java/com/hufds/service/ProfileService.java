@@ -5,6 +5,8 @@ import com.hufds.entity.*;
 import com.hufds.exception.CustomException;
 import com.hufds.repository.CustomerRepository;
 import com.hufds.repository.AddressRepository;
+import com.hufds.repository.OrderRepository;
+import com.hufds.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -13,6 +15,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -29,9 +33,15 @@ public class ProfileService {
 
     private final CustomerRepository customerRepository;
     private final AddressRepository addressRepository;
+    private final OrderRepository orderRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserStatusCache userStatusCache;
     @Autowired
     private GeocodingService geocodingService;
+    @Value("${orders.history.page-size:20}")
+    private int defaultHistoryPageSize = 20;
+    @Value("${orders.history.max-page-size:100}")
+    private int maxHistoryPageSize = 100;
     private static final Logger log = LoggerFactory.getLogger(ProfileService.class);
 
     public Customer getCurrentProfile() {
@@ -64,6 +74,7 @@ public class ProfileService {
 
         currentUser.setDeletedAt(LocalDateTime.now());
         customerRepository.save(currentUser);
+        userStatusCache.invalidate("customer", currentUser.getEmail());
     }
 
     @Transactional
@@ -75,7 +86,9 @@ public class ProfileService {
             if (existing.isPresent() && !existing.get().getCustomerId().equals(customer.getCustomerId())) {
                 throw new CustomException("Email is already in use", HttpStatus.CONFLICT);
             }
+            userStatusCache.invalidate("customer", customer.getEmail());
             customer.setEmail(dto.getEmail());
+            userStatusCache.invalidate("customer", customer.getEmail());
         }
 
         if (dto.getName() != null && !dto.getName().isBlank()) {
@@ -111,77 +124,93 @@ public class ProfileService {
 
     public Set<CustomerOrderDTO> getCurrentUserOrders() {
         Customer customer = getCurrentProfile();
-        return customer.getOrders().stream()
+        return orderRepository.findByCustomerCustomerId(customer.getCustomerId()).stream()
                 .filter(order -> order.getRestaurant() != null && order.getAddress() != null)
-                .map(order -> {
-                    CustomerOrderDTO.PaymentDTO paymentDTO = null;
-                    if (order.getPayment() != null) {
-                        Payment payment = order.getPayment();
-                        paymentDTO = CustomerOrderDTO.PaymentDTO.builder()
-                                .paymentId(payment.getPaymentId())
-                                .paymentMethod(payment.getMethod().toString())
-                                .paymentStatus(payment.getStatus().toString())
-                                .paymentDate(payment.getPaidAt())
-                                .build();
-                    }
-
-                    // Defensive: skip if restaurant or address is null (should not happen, but for safety)
-                    if (order.getRestaurant() == null || order.getAddress() == null) {
-                        // Optionally log this situation
-                        return null;
-                    }
-                    
-                    // Build courier information if available
-                    CustomerOrderDTO.CourierInfoDTO courierDTO = null;
-                    if (order.getCourier() != null) {
-                        Courier courier = order.getCourier();
-                        courierDTO = CustomerOrderDTO.CourierInfoDTO.builder()
-                                .courierId(courier.getCourierId())
-                                .name(courier.getName())
-                                .phoneNumber(courier.getPhoneNumber())
-                                .vehicleType(courier.getVehicleType())
-                                .build();
-                    }
-
-                    return CustomerOrderDTO.builder()
-                            .orderId(order.getOrderId())
-                            .status(order.getStatus())
-                            .totalPrice(order.getTotalPrice())
-                            .createdAt(order.getCreatedAt())
-                            .deliveredAt(order.getDeliveredAt())
-                            .restaurant(RestaurantSummaryDTO.builder()
-                                    .restaurantId(order.getRestaurant().getRestaurantId())
-                                    .name(order.getRestaurant().getName())
-                                    .phoneNumber(order.getRestaurant().getPhoneNumber())
-                                    .cuisineType(order.getRestaurant().getCuisineType())
-                                    .build())
-                            .courier(courierDTO)
-                            .address(order.getAddress() != null ? AddressSummaryDTO.builder()
-                                    .street(order.getAddress().getStreet())
-                                    .city(order.getAddress().getCity())
-                                    .state(order.getAddress().getState())
-                                    .zipCode(order.getAddress().getZipCode())
-                                    .country(order.getAddress().getCountry())
-                                    .build() : null)
-                            .orderItems(order.getOrderItems().stream()
-                                    .map(item -> OrderItemDTO.builder()
-                                            .itemId(item.getOrderItemId())
-                                            .menuItem(item.getMenuItem() != null ? MenuItemSummaryDTO.builder()
-                                                      .menuItemId(item.getMenuItem().getMenuItemId())
-                                                      .name(item.getMenuItem().getName())
-                                                      .price(item.getMenuItem().getPrice() != null ? item.getMenuItem().getPrice().doubleValue() : 0.0)
-                                                      .build() : null)
-                                            .quantity(item.getQuantity())
-                                            .subtotal(item.getSubtotal() != null ? item.getSubtotal().doubleValue() : 0.0)
-                                            .build())
-                                    .collect(Collectors.toSet()))
-                            .payment(paymentDTO)
-                            .build();
-                })
+                .map(this::toCustomerOrderDTO)
                 .filter(dto -> dto != null) // Remove any nulls from skipped orders
                 .collect(Collectors.toSet());
     }
 
+    /**
+     * The current customer's orders newest first, one page after the given cursor
+     */
+    public CursorPageDTO<CustomerOrderDTO> getCurrentUserOrderPage(String cursor, Integer size) {
+        Customer customer = getCurrentProfile();
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size, defaultHistoryPageSize, maxHistoryPageSize);
+        List<Order> orders = orderRepository.findCustomerHistoryPage(
+                customer.getCustomerId(), after.time(), after.intId(), PageRequest.of(0, pageSize + 1));
+        return CursorPageDTO.of(orders, pageSize,
+                order -> new KeysetCursor(order.getCreatedAt(), order.getOrderId()).encode(),
+                this::toCustomerOrderDTO);
+    }
+
+    private CustomerOrderDTO toCustomerOrderDTO(Order order) {
+        CustomerOrderDTO.PaymentDTO paymentDTO = null;
+        if (order.getPayment() != null) {
+            Payment payment = order.getPayment();
+            paymentDTO = CustomerOrderDTO.PaymentDTO.builder()
+                    .paymentId(payment.getPaymentId())
+                    .paymentMethod(payment.getMethod().toString())
+                    .paymentStatus(payment.getStatus().toString())
+                    .paymentDate(payment.getPaidAt())
+                    .build();
+        }
+
+        // Defensive: skip if restaurant or address is null (should not happen, but for safety)
+        if (order.getRestaurant() == null || order.getAddress() == null) {
+            // Optionally log this situation
+            return null;
+        }
+        
+        // Build courier information if available
+        CustomerOrderDTO.CourierInfoDTO courierDTO = null;
+        if (order.getCourier() != null) {
+            Courier courier = order.getCourier();
+            courierDTO = CustomerOrderDTO.CourierInfoDTO.builder()
+                    .courierId(courier.getCourierId())
+                    .name(courier.getName())
+                    .phoneNumber(courier.getPhoneNumber())
+                    .vehicleType(courier.getVehicleType())
+                    .build();
+        }
+
+        return CustomerOrderDTO.builder()
+                .orderId(order.getOrderId())
+                .status(order.getStatus())
+                .totalPrice(order.getTotalPrice())
+                .createdAt(order.getCreatedAt())
+                .deliveredAt(order.getDeliveredAt())
+                .restaurant(RestaurantSummaryDTO.builder()
+                        .restaurantId(order.getRestaurant().getRestaurantId())
+                        .name(order.getRestaurant().getName())
+                        .phoneNumber(order.getRestaurant().getPhoneNumber())
+                        .cuisineType(order.getRestaurant().getCuisineType())
+                        .build())
+                .courier(courierDTO)
+                .address(order.getAddress() != null ? AddressSummaryDTO.builder()
+                        .street(order.getAddress().getStreet())
+                        .city(order.getAddress().getCity())
+                        .state(order.getAddress().getState())
+                        .zipCode(order.getAddress().getZipCode())
+                        .country(order.getAddress().getCountry())
+                        .build() : null)
+                .orderItems(order.getOrderItems().stream()
+                        .map(item -> OrderItemDTO.builder()
+                                .itemId(item.getOrderItemId())
+                                .menuItem(item.getMenuItem() != null ? MenuItemSummaryDTO.builder()
+                                          .menuItemId(item.getMenuItem().getMenuItemId())
+                                          .name(item.getMenuItem().getName())
+                                          .price(item.getMenuItem().getPrice() != null ? item.getMenuItem().getPrice().doubleValue() : 0.0)
+                                          .build() : null)
+                                .quantity(item.getQuantity())
+                                .subtotal(item.getSubtotal() != null ? item.getSubtotal().doubleValue() : 0.0)
+                                .build())
+                        .collect(Collectors.toSet()))
+                .payment(paymentDTO)
+                .build();
+    }
+
     @Transactional
     public Address addAddress(AddressDTO dto) {
         Customer customer = getCurrentProfile();
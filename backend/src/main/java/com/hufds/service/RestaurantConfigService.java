@@ -5,7 +5,10 @@ import com.hufds.dto.RestaurantConfigDTO;
 import com.hufds.entity.BusinessHours;
 import com.hufds.entity.Restaurant;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface RestaurantConfigService {
     // Business Hours Management
@@ -21,4 +24,5 @@ public interface RestaurantConfigService {
     
     // Business Hours Validation
     boolean isRestaurantOpen(Integer restaurantId);
+    Map<Integer, Boolean> openStatus(Collection<Integer> restaurantIds, Instant at);
 } 
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.hufds.service;
+
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.RestaurantRepository;
+import com.hufds.util.GeoGrid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * In-memory uniform lat/lon grid over approved, non-deleted restaurants.
+ * Radius queries only visit the cells overlapping the search area and then
+ * run an exact Haversine check on the candidates found there.
+ */
+@Service
+@RequiredArgsConstructor
+public class RestaurantLocationIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(RestaurantLocationIndex.class);
+
+    // ~5.5 km per cell in latitude, small enough that a city-wide search touches a handful of cells
+    private static final double CELL_SIZE_DEGREES = 0.05;
+
+    private final RestaurantRepository restaurantRepository;
+
+    private final GeoGrid<Integer> grid = new GeoGrid<>(CELL_SIZE_DEGREES);
+
+    /**
+     * Restaurant id with its distance (km) from the query point
+     */
+    public record Match(Integer restaurantId, double distanceKm) {
+    }
+
+    /**
+     * Seeds the index with every searchable restaurant once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        grid.clear();
+        restaurantRepository.findByApprovalStatusAndDeletedAtIsNull(Restaurant.ApprovalStatus.ACCEPTED)
+                .forEach(restaurant -> place(restaurant.getRestaurantId(), position(restaurant)));
+        log.info("Restaurant location index built with {} restaurants", grid.size());
+    }
+
+    /**
+     * Adds, moves or removes a restaurant depending on its current coordinates,
+     * approval status and deleted state. Call after any change to those fields;
+     * inside a transaction the change is applied once it commits.
+     */
+    public void refresh(Restaurant restaurant) {
+        if (restaurant == null || restaurant.getRestaurantId() == null) {
+            return;
+        }
+        Integer restaurantId = restaurant.getRestaurantId();
+        double[] position = position(restaurant);
+        afterCommit(() -> place(restaurantId, position));
+    }
+
+    public void remove(Integer restaurantId) {
+        afterCommit(() -> place(restaurantId, null));
+    }
+
+    /**
+     * Finds restaurants within the given radius, ordered from nearest to farthest
+     */
+    public List<Match> findWithinDistance(double latitude, double longitude, double maxDistanceKm) {
+        return grid.findWithinDistance(latitude, longitude, maxDistanceKm).stream()
+                .map(match -> new Match(match.key(), match.distanceKm()))
+                .toList();
+    }
+
+    public int size() {
+        return grid.size();
+    }
+
+    private synchronized void place(Integer restaurantId, double[] position) {
+        if (position == null) {
+            grid.remove(restaurantId);
+        } else {
+            grid.put(restaurantId, position[0], position[1]);
+        }
+    }
+
+    /**
+     * Latitude and longitude of a searchable restaurant, or null if it should not be indexed
+     */
+    private static double[] position(Restaurant restaurant) {
+        boolean searchable = restaurant.getApprovalStatus() == Restaurant.ApprovalStatus.ACCEPTED
+                && restaurant.getDeletedAt() == null
+                && restaurant.getLatitude() != null
+                && restaurant.getLongitude() != null;
+        if (!searchable) {
+            return null;
+        }
+        return new double[]{restaurant.getLatitude().doubleValue(), restaurant.getLongitude().doubleValue()};
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.hufds.service;
+
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.MenuItemRepository;
+import com.hufds.repository.RestaurantRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Maintains the per-restaurant menu price statistics (item counts, average/min/max price)
+ * stored on Restaurant, so search never has to load menu items.
+ */
+@Service
+@RequiredArgsConstructor
+public class RestaurantMenuStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(RestaurantMenuStatsService.class);
+
+    private final MenuItemRepository menuItemRepository;
+    private final RestaurantRepository restaurantRepository;
+
+    /**
+     * Recomputes the statistics for one restaurant. Called after every menu item write;
+     * the changes are flushed together with the surrounding transaction. The restaurant
+     * row is locked first, so a concurrent menu edit waits for this transaction to commit
+     * and then aggregates a menu that includes this write, instead of overwriting the
+     * figures with a total computed without it.
+     */
+    @Transactional
+    public void refresh(Restaurant restaurant) {
+        restaurantRepository.findByIdForUpdate(restaurant.getRestaurantId());
+        MenuItemRepository.PriceStats stats = menuItemRepository.calculatePriceStats(restaurant.getRestaurantId());
+
+        restaurant.setMenuItemCount(stats.getItemCount().intValue());
+        restaurant.setAvailableMenuItemCount(stats.getAvailableItemCount().intValue());
+        restaurant.setAverageMenuPrice(stats.getAveragePrice() != null
+                ? BigDecimal.valueOf(stats.getAveragePrice()).setScale(2, RoundingMode.HALF_UP)
+                : null);
+        restaurant.setMinMenuPrice(stats.getMinPrice());
+        restaurant.setMaxMenuPrice(stats.getMaxPrice());
+    }
+
+    /**
+     * Fills in statistics for restaurants created before they were tracked
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillMissingStats() {
+        List<Restaurant> restaurants = restaurantRepository.findByMenuItemCountIsNull();
+        if (restaurants.isEmpty()) {
+            return;
+        }
+        restaurants.forEach(this::refresh);
+        restaurantRepository.saveAll(restaurants);
+        log.info("Computed menu price statistics for {} restaurants", restaurants.size());
+    }
+}
@@ -1,18 +1,81 @@
 package com.hufds.service;
 
+import com.hufds.entity.RevokedToken;
+import com.hufds.repository.RevokedTokenRepository;
+import com.hufds.util.TokenDigest;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Logged-out tokens, kept by SHA-256 digest until they expire. Expiry is ordered by a
+ * delay queue drained by a scheduled sweep, so logging out costs the same however many
+ * tokens are revoked. Revocations are also stored so a restart does not bring them back.
+ */
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
 
+    private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
+
     private final JwtService jwtService;
-    private final Map<String, Date> blacklistedTokens = new ConcurrentHashMap<>();
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${jwt.blacklist.persistent:true}")
+    private boolean persistent = true;
+
+    private final Map<String, Long> blacklistedTokens = new ConcurrentHashMap<>();
+    private final DelayQueue<PendingExpiry> expiries = new DelayQueue<>();
+
+    private volatile long lastSweepNanos;
+    private volatile int lastSweepRemoved;
+
+    /**
+     * Blacklist size and the cost of the most recent sweep
+     */
+    public record Stats(int size, int lastSweepRemoved, long lastSweepMillis) {
+    }
+
+    private record PendingExpiry(String digest, long expiresAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Restores revocations that have not expired yet
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevokedTokens() {
+        if (!persistent) {
+            return;
+        }
+        List<RevokedToken> revoked = revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now());
+        revoked.forEach(token -> add(token.getTokenDigest(), toMillis(token.getExpiresAt())));
+        log.info("Restored {} revoked tokens", revoked.size());
+    }
 
     /**
      * Token'ı karaliste olarak işaretler
@@ -20,24 +83,61 @@ public class TokenBlacklistService {
     public void blacklistToken(String token) {
         // Token'ın süresinin dolacağı tarihi alıyoruz
         Date expiryDate = jwtService.extractExpiration(token);
-        blacklistedTokens.put(token, expiryDate);
+        String digest = TokenDigest.of(token);
+        add(digest, expiryDate.getTime());
 
-        // Periyodik olarak temizlemek için bir yöntem gerekebilir
-        cleanupExpiredTokens();
+        if (persistent) {
+            revokedTokenRepository.save(new RevokedToken(digest,
+                    LocalDateTime.ofInstant(expiryDate.toInstant(), ZoneId.systemDefault())));
+        }
     }
 
     /**
      * Token'ın karalistede olup olmadığını kontrol eder
      */
     public boolean isTokenBlacklisted(String token) {
-        return blacklistedTokens.containsKey(token);
+        return blacklistedTokens.containsKey(TokenDigest.of(token));
     }
 
     /**
      * Süresi dolmuş token'ları karaliste'den temizler
      */
-    private void cleanupExpiredTokens() {
-        Date now = new Date();
-        blacklistedTokens.entrySet().removeIf(entry -> entry.getValue().before(now));
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sweep-interval-ms:60000}")
+    public void sweepExpiredTokens() {
+        long started = System.nanoTime();
+        int removed = 0;
+        PendingExpiry next;
+        while ((next = expiries.poll()) != null) {
+            // A token revoked twice has one map entry but two queue entries
+            if (blacklistedTokens.remove(next.digest(), next.expiresAtMillis())) {
+                removed++;
+            }
+        }
+        if (persistent && removed > 0) {
+            try {
+                revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete expired revoked tokens, will retry on the next sweep", e);
+            }
+        }
+        lastSweepRemoved = removed;
+        lastSweepNanos = System.nanoTime() - started;
+        if (removed > 0) {
+            log.debug("Removed {} expired tokens from the blacklist in {} ms, {} remain",
+                    removed, TimeUnit.NANOSECONDS.toMillis(lastSweepNanos), blacklistedTokens.size());
+        }
+    }
+
+    public Stats getStats() {
+        return new Stats(blacklistedTokens.size(), lastSweepRemoved, TimeUnit.NANOSECONDS.toMillis(lastSweepNanos));
+    }
+
+    private void add(String digest, long expiresAtMillis) {
+        blacklistedTokens.put(digest, expiresAtMillis);
+        expiries.add(new PendingExpiry(digest, expiresAtMillis));
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
-}
\ No newline at end of file
+}
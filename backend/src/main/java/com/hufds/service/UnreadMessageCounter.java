@@ -0,0 +1,125 @@
+package com.hufds.service;
+
+import com.hufds.entity.Message;
+import com.hufds.repository.MessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unread message count per receiver. A receiver's count is loaded with one COUNT query
+ * on first use and then kept up to date by message creation, reads and deletes, applied
+ * once they commit. Counts are reloaded after the TTL so they cannot drift for long.
+ */
+@Service
+@RequiredArgsConstructor
+public class UnreadMessageCounter {
+
+    private final MessageRepository messageRepository;
+
+    @Value("${messages.unread-counter.ttl:10m}")
+    private Duration ttl = Duration.ofMinutes(10);
+
+    private record Receiver(Message.UserType type, Long id) {
+    }
+
+    private record Count(long unread, Instant loadedAt) {
+    }
+
+    private final Map<Receiver, Count> counts = new ConcurrentHashMap<>();
+
+    public long getUnreadCount(Message.UserType receiverType, Long receiverId) {
+        Receiver receiver = new Receiver(receiverType, receiverId);
+        Count count = counts.get(receiver);
+        if (count == null || isStale(count)) {
+            count = load(receiver);
+        }
+        return count.unread();
+    }
+
+    /**
+     * A new unread message was sent to the receiver
+     */
+    public void increment(Message.UserType receiverType, Long receiverId) {
+        afterCommit(() -> update(new Receiver(receiverType, receiverId), 1));
+    }
+
+    /**
+     * One of the receiver's unread messages was read or deleted
+     */
+    public void decrement(Message.UserType receiverType, Long receiverId) {
+        decrement(receiverType, receiverId, 1);
+    }
+
+    /**
+     * The given number of the receiver's unread messages were read or deleted
+     */
+    public void decrement(Message.UserType receiverType, Long receiverId, int count) {
+        afterCommit(() -> update(new Receiver(receiverType, receiverId), -count));
+    }
+
+    /**
+     * Drops a receiver's count after changes that were not counted one by one,
+     * it is reloaded on the next read
+     */
+    public void invalidate(Message.UserType receiverType, Long receiverId) {
+        afterCommit(() -> drop(new Receiver(receiverType, receiverId)));
+    }
+
+    /**
+     * Drops the counts of every receiver of the given type, used after a broadcast
+     */
+    public void invalidateAll(Message.UserType receiverType) {
+        afterCommit(() -> dropAll(receiverType));
+    }
+
+    private boolean isStale(Count count) {
+        return count.loadedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    private synchronized Count load(Receiver receiver) {
+        Count count = counts.get(receiver);
+        if (count == null || isStale(count)) {
+            count = new Count(messageRepository.countUnread(receiver.type(), receiver.id()), Instant.now());
+            counts.put(receiver, count);
+        }
+        return count;
+    }
+
+    private synchronized void update(Receiver receiver, long delta) {
+        // Receivers that were never read pick the change up when they are loaded
+        Count count = counts.get(receiver);
+        if (count == null) {
+            return;
+        }
+        counts.put(receiver, new Count(Math.max(0, count.unread() + delta), count.loadedAt()));
+    }
+
+    private synchronized void drop(Receiver receiver) {
+        counts.remove(receiver);
+    }
+
+    private synchronized void dropAll(Message.UserType receiverType) {
+        counts.keySet().removeIf(receiver -> receiver.type() == receiverType);
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hufds.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-hash ETags and traffic counters for files served from the upload directory.
+ * A file is hashed once through a small buffer and the ETag is reused while its size and
+ * modification time stay the same; uploads get new UUID names, so that is almost always.
+ */
+@Service
+public class UploadedFileService {
+
+    @Value("${uploads.etag-cache.max-size:10000}")
+    private int maxCachedETags = 10000;
+
+    private record CachedETag(long size, long lastModified, String etag) {
+    }
+
+    /**
+     * Responses and bytes sent, 304 responses send no body
+     */
+    public record Stats(long responses, long notModified, long bytesServed, int cachedETags) {
+    }
+
+    private final Map<Path, CachedETag> etags = new ConcurrentHashMap<>();
+    private final AtomicLong responses = new AtomicLong();
+    private final AtomicLong notModified = new AtomicLong();
+    private final AtomicLong bytesServed = new AtomicLong();
+
+    public String etagOf(Resource resource) {
+        try {
+            Path path = resource.getFile().toPath();
+            long size = resource.contentLength();
+            long lastModified = resource.lastModified();
+            CachedETag cached = etags.get(path);
+            if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+                return cached.etag();
+            }
+            String etag = "\"" + hash(path) + "\"";
+            if (etags.size() >= maxCachedETags) {
+                etags.clear();
+            }
+            etags.put(path, new CachedETag(size, lastModified, etag));
+            return etag;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read file " + resource.getFilename(), e);
+        }
+    }
+
+    public void recordServed(long bytes) {
+        responses.incrementAndGet();
+        bytesServed.addAndGet(bytes);
+    }
+
+    public void recordNotModified() {
+        responses.incrementAndGet();
+        notModified.incrementAndGet();
+    }
+
+    public Stats getStats() {
+        return new Stats(responses.get(), notModified.get(), bytesServed.get(), etags.size());
+    }
+
+    private static String hash(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (FileChannel channel = FileChannel.open(path)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8192);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+    }
+}
@@ -0,0 +1,135 @@
+package com.hufds.service;
+
+import com.hufds.entity.AdminUser;
+import com.hufds.repository.AdminRepository;
+import com.hufds.repository.CourierRepository;
+import com.hufds.repository.CustomerRepository;
+import com.hufds.repository.RestaurantRepository;
+import com.hufds.repository.UserStatusView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of account status (deleted, banned) per user type and email, read by
+ * the authentication filters on every request. Entries are dropped after account
+ * deletion, edits and ban changes; the TTL only bounds changes made outside the app.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatusCache {
+
+    private final CustomerRepository customerRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final CourierRepository courierRepository;
+    private final AdminRepository adminRepository;
+
+    @Value("${user.status-cache.ttl:30s}")
+    private Duration ttl = Duration.ofSeconds(30);
+
+    @Value("${user.status-cache.max-size:10000}")
+    private int maxSize = 10000;
+
+    private final Map<String, CachedStatus> statuses = new ConcurrentHashMap<>();
+
+    /**
+     * Account status of an existing user
+     */
+    public record UserStatus(LocalDateTime deletedAt, boolean banned, LocalDateTime banOpenDate) {
+
+        public boolean isDeleted() {
+            return deletedAt != null;
+        }
+
+        public boolean isBannedAt(LocalDateTime time) {
+            return banned && (banOpenDate == null || banOpenDate.isAfter(time));
+        }
+    }
+
+    private record CachedStatus(UserStatus status, long expiresAtMillis) {
+    }
+
+    /**
+     * Status of the user with the given type and email, or empty if no such user exists.
+     * Unknown users are not cached, so a later registration is seen immediately.
+     */
+    public Optional<UserStatus> getStatus(String userType, String email) {
+        if (userType == null || email == null) {
+            return Optional.empty();
+        }
+        String key = key(userType, email);
+        long now = System.currentTimeMillis();
+        CachedStatus cached = statuses.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return Optional.of(cached.status());
+        }
+
+        Optional<UserStatus> status = load(userType.toLowerCase(), email);
+        if (status.isPresent()) {
+            if (statuses.size() >= maxSize) {
+                statuses.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+                if (statuses.size() >= maxSize) {
+                    statuses.clear();
+                }
+            }
+            statuses.put(key, new CachedStatus(status.get(), now + ttl.toMillis()));
+        } else {
+            statuses.remove(key);
+        }
+        return status;
+    }
+
+    /**
+     * Drops a user's cached status now and again once the current transaction commits
+     */
+    public void invalidate(String userType, String email) {
+        if (userType == null || email == null) {
+            return;
+        }
+        String key = key(userType, email);
+        statuses.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    statuses.remove(key);
+                }
+            });
+        }
+    }
+
+    private Optional<UserStatus> load(String userType, String email) {
+        switch (userType) {
+            case "customer":
+                return customerRepository.findStatusByEmail(email).map(UserStatusCache::toStatus);
+            case "restaurant":
+                return restaurantRepository.findStatusByEmail(email).map(UserStatusCache::toStatus);
+            case "courier":
+                return courierRepository.findStatusByEmail(email).map(UserStatusCache::toStatus);
+            case "admin":
+                return adminRepository.findByEmail(email).map(UserStatusCache::toStatus);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static UserStatus toStatus(UserStatusView view) {
+        return new UserStatus(view.getDeletedAt(), Boolean.TRUE.equals(view.getBanned()), view.getBanOpenDate());
+    }
+
+    private static UserStatus toStatus(AdminUser admin) {
+        return new UserStatus(admin.getDeletedAt(), false, null);
+    }
+
+    private static String key(String userType, String email) {
+        return userType.toLowerCase() + ":" + email;
+    }
+}
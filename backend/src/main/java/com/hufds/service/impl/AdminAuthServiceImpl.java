@@ -8,6 +8,7 @@ import com.hufds.exception.CustomException;
 import com.hufds.repository.AdminRepository;
 import com.hufds.service.AdminAuthService;
 import com.hufds.service.JwtService;
+import com.hufds.service.LoginMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,7 @@ public class AdminAuthServiceImpl implements AdminAuthService {
     private final AdminRepository adminRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginMetrics loginMetrics;
 
     @Override
     @Transactional
@@ -53,6 +55,10 @@ public class AdminAuthServiceImpl implements AdminAuthService {
 
     @Override
     public AdminResponseDTO login(AdminLoginDTO loginDTO) {
+        return loginMetrics.time(() -> authenticate(loginDTO));
+    }
+
+    private AdminResponseDTO authenticate(AdminLoginDTO loginDTO) {
         AdminUser admin = adminRepository.findByEmail(loginDTO.getEmail())
                 .orElseThrow(() -> new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED));
 
@@ -60,6 +66,12 @@ public class AdminAuthServiceImpl implements AdminAuthService {
             throw new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED);
         }
 
+        // Stored with a lower BCrypt cost than configured, rehash while we have the password
+        if (passwordEncoder.upgradeEncoding(admin.getPassword())) {
+            admin.setPassword(passwordEncoder.encode(loginDTO.getPassword()));
+            adminRepository.save(admin);
+        }
+
         String token = jwtService.generateToken(admin.getEmail(), admin.getAdminId(), "admin");
 
         return AdminResponseDTO.builder()
@@ -11,6 +11,9 @@ import com.hufds.repository.CourierRepository;
 import com.hufds.repository.CustomerRepository;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.service.AdminService;
+import com.hufds.service.BanCheckService;
+import com.hufds.service.RestaurantLocationIndex;
+import com.hufds.service.UserStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,6 +32,9 @@ public class AdminServiceImpl implements AdminService {
     private final RestaurantRepository restaurantRepository;
     private final CourierRepository courierRepository;
     private final PasswordEncoder passwordEncoder;
+    private final RestaurantLocationIndex restaurantLocationIndex;
+    private final UserStatusCache userStatusCache;
+    private final BanCheckService banCheckService;
 
     @Override
     @Transactional
@@ -39,6 +45,7 @@ public class AdminServiceImpl implements AdminService {
         // Soft delete - set deletedAt timestamp
         customer.setDeletedAt(LocalDateTime.now());
         customerRepository.save(customer);
+        userStatusCache.invalidate("customer", customer.getEmail());
         return true;
     }
 
@@ -51,6 +58,8 @@ public class AdminServiceImpl implements AdminService {
         // Soft delete - set deletedAt timestamp
         restaurant.setDeletedAt(LocalDateTime.now());
         restaurantRepository.save(restaurant);
+        restaurantLocationIndex.remove(restaurantId);
+        userStatusCache.invalidate("restaurant", restaurant.getEmail());
         return true;
     }
 
@@ -63,6 +72,7 @@ public class AdminServiceImpl implements AdminService {
         // Soft delete - set deletedAt timestamp
         courier.setDeletedAt(LocalDateTime.now());
         courierRepository.save(courier);
+        userStatusCache.invalidate("courier", courier.getEmail());
         return true;
     }
 
@@ -91,6 +101,7 @@ public class AdminServiceImpl implements AdminService {
         
         // Eğer email değiştirilmek isteniyorsa ve başka bir kullanıcı bu emaili kullanmıyorsa, değişikliğe izin ver
         if (dto.getEmail() != null && !dto.getEmail().equals(customer.getEmail())) {
+            userStatusCache.invalidate("customer", customer.getEmail());
             Optional<Customer> existingCustomer = customerRepository.findByEmail(dto.getEmail());
             if (existingCustomer.isPresent()) {
                 throw new CustomException("Email is already in use by another customer", HttpStatus.CONFLICT);
@@ -112,6 +123,7 @@ public class AdminServiceImpl implements AdminService {
             customer.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         }
         
+        userStatusCache.invalidate("customer", customer.getEmail());
         return customerRepository.save(customer);
     }
 
@@ -123,6 +135,7 @@ public class AdminServiceImpl implements AdminService {
         
         // Email değiştirme kontrolü
         if (dto.getEmail() != null && !dto.getEmail().equals(restaurant.getEmail())) {
+            userStatusCache.invalidate("restaurant", restaurant.getEmail());
             Optional<Restaurant> existingRestaurant = restaurantRepository.findByEmail(dto.getEmail());
             if (existingRestaurant.isPresent()) {
                 throw new CustomException("Email is already in use by another restaurant", HttpStatus.CONFLICT);
@@ -169,6 +182,7 @@ public class AdminServiceImpl implements AdminService {
             restaurant.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         }
         
+        userStatusCache.invalidate("restaurant", restaurant.getEmail());
         return restaurantRepository.save(restaurant);
     }
 
@@ -180,6 +194,7 @@ public class AdminServiceImpl implements AdminService {
         
         // Email değiştirme kontrolü
         if (dto.getEmail() != null && !dto.getEmail().equals(courier.getEmail())) {
+            userStatusCache.invalidate("courier", courier.getEmail());
             Optional<Courier> existingCourier = courierRepository.findByEmail(dto.getEmail());
             if (existingCourier.isPresent()) {
                 throw new CustomException("Email is already in use by another courier", HttpStatus.CONFLICT);
@@ -205,6 +220,7 @@ public class AdminServiceImpl implements AdminService {
             courier.setPassword(passwordEncoder.encode(dto.getNewPassword()));
         }
         
+        userStatusCache.invalidate("courier", courier.getEmail());
         return courierRepository.save(courier);
     }
 
@@ -221,7 +237,10 @@ public class AdminServiceImpl implements AdminService {
             restaurant.setDeletedAt(LocalDateTime.now());
         }
         
-        return restaurantRepository.save(restaurant);
+        Restaurant saved = restaurantRepository.save(restaurant);
+        restaurantLocationIndex.refresh(saved);
+        userStatusCache.invalidate("restaurant", saved.getEmail());
+        return saved;
     }
     
     @Override
@@ -236,6 +255,7 @@ public class AdminServiceImpl implements AdminService {
             courier.setDeletedAt(LocalDateTime.now());
         }
         
+        userStatusCache.invalidate("courier", courier.getEmail());
         return courierRepository.save(courier);
     }
 
@@ -308,6 +328,8 @@ public class AdminServiceImpl implements AdminService {
         customer.setIsBanned(true); // Boolean alan için
         customer.setBanOpenDate(banUntil); // Tarih alanı için
         
+        userStatusCache.invalidate("customer", customer.getEmail());
+        banCheckService.banScheduled(banUntil);
         return customerRepository.save(customer);
     }
     
@@ -320,6 +342,8 @@ public class AdminServiceImpl implements AdminService {
         restaurant.setIsBanned(true);
         restaurant.setBanOpenDate(banUntil);
         
+        userStatusCache.invalidate("restaurant", restaurant.getEmail());
+        banCheckService.banScheduled(banUntil);
         return restaurantRepository.save(restaurant);
     }
     
@@ -332,6 +356,8 @@ public class AdminServiceImpl implements AdminService {
         courier.setIsBanned(true);
         courier.setBanOpenDate(banUntil);
         
+        userStatusCache.invalidate("courier", courier.getEmail());
+        banCheckService.banScheduled(banUntil);
         return courierRepository.save(courier);
     }
     
@@ -344,6 +370,7 @@ public class AdminServiceImpl implements AdminService {
         customer.setIsBanned(false);
         customer.setBanOpenDate(null);
         
+        userStatusCache.invalidate("customer", customer.getEmail());
         return customerRepository.save(customer);
     }
     
@@ -356,6 +383,7 @@ public class AdminServiceImpl implements AdminService {
         restaurant.setIsBanned(false);
         restaurant.setBanOpenDate(null);
         
+        userStatusCache.invalidate("restaurant", restaurant.getEmail());
         return restaurantRepository.save(restaurant);
     }
     
@@ -368,6 +396,7 @@ public class AdminServiceImpl implements AdminService {
         courier.setIsBanned(false);
         courier.setBanOpenDate(null);
         
+        userStatusCache.invalidate("courier", courier.getEmail());
         return courierRepository.save(courier);
     }
 } 
\ No newline at end of file
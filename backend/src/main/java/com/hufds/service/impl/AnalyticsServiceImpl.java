@@ -1,12 +1,14 @@
 package com.hufds.service.impl;
 
 import com.hufds.dto.CustomerAnalyticsDTO;
+import com.hufds.dto.DailyOrderAnalyticsDTO;
 import com.hufds.dto.RestaurantAnalyticsDTO;
 import com.hufds.entity.Customer;
-import com.hufds.entity.Order;
+import com.hufds.entity.OrderRollup;
 import com.hufds.entity.Restaurant;
 import com.hufds.repository.CustomerRepository;
-import com.hufds.repository.OrderRepository;
+import com.hufds.repository.OrderDailyRollupRepository;
+import com.hufds.repository.OrderRollupRepository;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.service.AnalyticsService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,10 +16,11 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,43 +30,32 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private RestaurantRepository restaurantRepository;
 
     @Autowired
-    private OrderRepository orderRepository;
+    private CustomerRepository customerRepository;
 
     @Autowired
-    private CustomerRepository customerRepository;
+    private OrderRollupRepository orderRollupRepository;
+
+    @Autowired
+    private OrderDailyRollupRepository orderDailyRollupRepository;
 
     @Override
     public List<RestaurantAnalyticsDTO> getRestaurantAnalytics() {
         List<Restaurant> restaurants = restaurantRepository.findAll();
-        List<Order> allOrders = orderRepository.findByStatus(Order.OrderStatus.DELIVERED);
-
-        // Group orders by restaurant
-        Map<Integer, List<Order>> ordersByRestaurant = allOrders.stream()
-                .collect(Collectors.groupingBy(order -> order.getRestaurant().getRestaurantId()));
+        Map<Integer, OrderRollup> rollupsByRestaurant = rollupsByOwner(OrderRollup.Scope.RESTAURANT);
 
         List<RestaurantAnalyticsDTO> analyticsResults = new ArrayList<>();
 
         for (Restaurant restaurant : restaurants) {
-            List<Order> restaurantOrders = ordersByRestaurant.getOrDefault(restaurant.getRestaurantId(), new ArrayList<>());
-            int orderCount = restaurantOrders.size();
-            
-            // Calculate total revenue
-            BigDecimal totalRevenue = restaurantOrders.stream()
-                    .map(Order::getTotalPrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            // Calculate average order value
-            Float averageOrderValue = 0f;
-            if (orderCount > 0) {
-                averageOrderValue = totalRevenue.divide(new BigDecimal(orderCount), 2, RoundingMode.HALF_UP).floatValue();
-            }
-            
+            OrderRollup rollup = rollupsByRestaurant.get(restaurant.getRestaurantId());
+            int orderCount = rollup != null ? rollup.getOrderCount() : 0;
+            BigDecimal totalRevenue = rollup != null ? rollup.getRevenue() : BigDecimal.ZERO;
+
             RestaurantAnalyticsDTO analyticsDTO = RestaurantAnalyticsDTO.builder()
                     .restaurantId(restaurant.getRestaurantId())
                     .restaurantName(restaurant.getName())
                     .totalOrders(orderCount)
                     .totalRevenue(totalRevenue)
-                    .averageOrderValue(averageOrderValue)
+                    .averageOrderValue(averageOrderValue(totalRevenue, orderCount))
                     .build();
             
             analyticsResults.add(analyticsDTO);
@@ -75,36 +67,22 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     @Override
     public List<CustomerAnalyticsDTO> getCustomerAnalytics() {
         List<Customer> customers = customerRepository.findAll();
-        List<Order> allOrders = orderRepository.findByStatus(Order.OrderStatus.DELIVERED);
-
-        // Group orders by customer
-        Map<Integer, List<Order>> ordersByCustomer = allOrders.stream()
-                .collect(Collectors.groupingBy(order -> order.getCustomer().getCustomerId()));
+        Map<Integer, OrderRollup> rollupsByCustomer = rollupsByOwner(OrderRollup.Scope.CUSTOMER);
 
         List<CustomerAnalyticsDTO> analyticsResults = new ArrayList<>();
 
         for (Customer customer : customers) {
-            List<Order> customerOrders = ordersByCustomer.getOrDefault(customer.getCustomerId(), new ArrayList<>());
-            int orderCount = customerOrders.size();
-            
-            // Calculate total spent
-            BigDecimal totalSpent = customerOrders.stream()
-                    .map(Order::getTotalPrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            // Calculate average order value
-            Float averageOrderValue = 0f;
-            if (orderCount > 0) {
-                averageOrderValue = totalSpent.divide(new BigDecimal(orderCount), 2, RoundingMode.HALF_UP).floatValue();
-            }
-            
+            OrderRollup rollup = rollupsByCustomer.get(customer.getCustomerId());
+            int orderCount = rollup != null ? rollup.getOrderCount() : 0;
+            BigDecimal totalSpent = rollup != null ? rollup.getRevenue() : BigDecimal.ZERO;
+
             CustomerAnalyticsDTO analyticsDTO = CustomerAnalyticsDTO.builder()
                     .customerId(customer.getCustomerId())
                     .customerName(customer.getName())
                     .customerEmail(customer.getEmail())
                     .totalOrders(orderCount)
                     .totalSpent(totalSpent)
-                    .averageOrderValue(averageOrderValue)
+                    .averageOrderValue(averageOrderValue(totalSpent, orderCount))
                     .build();
             
             analyticsResults.add(analyticsDTO);
@@ -112,4 +90,40 @@ public class AnalyticsServiceImpl implements AnalyticsService {
 
         return analyticsResults;
     }
-} 
\ No newline at end of file
+
+    @Override
+    public List<DailyOrderAnalyticsDTO> getRestaurantDailyAnalytics(Integer restaurantId, LocalDate from, LocalDate to) {
+        return dailyAnalytics(OrderRollup.Scope.RESTAURANT, restaurantId, from, to);
+    }
+
+    @Override
+    public List<DailyOrderAnalyticsDTO> getCustomerDailyAnalytics(Integer customerId, LocalDate from, LocalDate to) {
+        return dailyAnalytics(OrderRollup.Scope.CUSTOMER, customerId, from, to);
+    }
+
+    private List<DailyOrderAnalyticsDTO> dailyAnalytics(OrderRollup.Scope scope, Integer ownerId,
+                                                        LocalDate from, LocalDate to) {
+        return orderDailyRollupRepository
+                .findByScopeAndOwnerIdAndRollupDateBetweenOrderByRollupDateAsc(scope, ownerId, from, to)
+                .stream()
+                .map(rollup -> DailyOrderAnalyticsDTO.builder()
+                        .date(rollup.getRollupDate())
+                        .totalOrders(rollup.getOrderCount())
+                        .totalRevenue(rollup.getRevenue())
+                        .averageOrderValue(averageOrderValue(rollup.getRevenue(), rollup.getOrderCount()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private Map<Integer, OrderRollup> rollupsByOwner(OrderRollup.Scope scope) {
+        return orderRollupRepository.findByScope(scope).stream()
+                .collect(Collectors.toMap(OrderRollup::getOwnerId, Function.identity()));
+    }
+
+    private Float averageOrderValue(BigDecimal total, int orderCount) {
+        if (orderCount == 0) {
+            return 0f;
+        }
+        return total.divide(new BigDecimal(orderCount), 2, RoundingMode.HALF_UP).floatValue();
+    }
+}
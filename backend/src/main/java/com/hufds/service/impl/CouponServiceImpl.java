@@ -5,6 +5,7 @@ import com.hufds.dto.CouponRequest;
 import com.hufds.dto.CouponValidationResponse;
 import com.hufds.entity.Coupon;
 import com.hufds.repository.CouponRepository;
+import com.hufds.service.ActiveDiscountCache;
 import com.hufds.service.CouponService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import java.util.stream.Collectors;
 public class CouponServiceImpl implements CouponService {
 
     private final CouponRepository couponRepository;
+    private final ActiveDiscountCache activeDiscountCache;
 
     @Override
     @Transactional(readOnly = true)
@@ -29,7 +31,7 @@ public class CouponServiceImpl implements CouponService {
         BigDecimal orderAmount = BigDecimal.valueOf(orderTotal);
         
         // Find the coupon by name and check if it's active
-        var couponOptional = couponRepository.findActiveByName(couponName.toUpperCase(), LocalDate.now());
+        var couponOptional = activeDiscountCache.findActiveCoupon(couponName);
         
         if (couponOptional.isEmpty()) {
             return CouponValidationResponse.builder()
@@ -65,6 +67,16 @@ public class CouponServiceImpl implements CouponService {
             .build();
     }
     
+    @Override
+    @Transactional
+    public boolean redeemCoupon(Long couponId) {
+        boolean redeemed = couponRepository.redeem(couponId, LocalDate.now()) == 1;
+        if (redeemed) {
+            activeDiscountCache.recordRedemption(couponId);
+        }
+        return redeemed;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CouponDTO> getAllCoupons() {
@@ -103,6 +115,7 @@ public class CouponServiceImpl implements CouponService {
     public CouponDTO createCoupon(CouponRequest couponRequest) {
         Coupon coupon = mapToEntity(couponRequest);
         Coupon savedCoupon = couponRepository.save(coupon);
+        activeDiscountCache.invalidateCoupons();
         return mapToDTO(savedCoupon);
     }
 
@@ -115,6 +128,7 @@ public class CouponServiceImpl implements CouponService {
         updateCouponFromRequest(existingCoupon, couponRequest);
         
         Coupon updatedCoupon = couponRepository.save(existingCoupon);
+        activeDiscountCache.invalidateCoupons();
         return mapToDTO(updatedCoupon);
     }
 
@@ -128,6 +142,7 @@ public class CouponServiceImpl implements CouponService {
         coupon.setIsActive(false);
         
         couponRepository.save(coupon);
+        activeDiscountCache.invalidateCoupons();
     }
 
     @Override
@@ -139,6 +154,7 @@ public class CouponServiceImpl implements CouponService {
         coupon.setIsActive(!coupon.getIsActive());
         
         Coupon updatedCoupon = couponRepository.save(coupon);
+        activeDiscountCache.invalidateCoupons();
         return mapToDTO(updatedCoupon);
     }
     
@@ -3,6 +3,8 @@ package com.hufds.service.impl;
 import com.hufds.dto.CourierAssignmentDTO;
 import com.hufds.dto.CourierOrderHistoryDTO;
 import com.hufds.dto.CourierAssignmentRequestDTO;
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.dto.OrderEventDTO;
 import com.hufds.entity.CourierAssignment;
 import com.hufds.entity.Order;
 import com.hufds.entity.Courier;
@@ -12,15 +14,33 @@ import com.hufds.repository.CourierAssignmentRepository;
 import com.hufds.repository.OrderRepository;
 import com.hufds.repository.CourierRepository;
 import com.hufds.service.CourierAssignmentService;
+import com.hufds.service.CourierDispatchService;
+import com.hufds.service.CourierLocationIndex;
+import com.hufds.service.OrderAnalyticsRollupService;
+import com.hufds.service.OrderEventStreamService;
+import com.hufds.service.OrdersNeedingCourierIndex;
 import com.hufds.service.PaymentService;
+import com.hufds.util.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 
@@ -41,6 +61,99 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
     @Autowired
     private PaymentService paymentService;
 
+    @Autowired
+    private CourierDispatchService courierDispatchService;
+
+    @Autowired
+    private CourierLocationIndex courierLocationIndex;
+
+    @Autowired
+    private OrdersNeedingCourierIndex ordersNeedingCourierIndex;
+
+    @Autowired
+    private OrderEventStreamService orderEventStreamService;
+
+    @Autowired
+    private OrderAnalyticsRollupService orderAnalyticsRollupService;
+
+    @Value("${courier.assignment.request-timeout:5m}")
+    private Duration requestTimeout;
+
+    // Upper bound on the IN list of one expiry statement, a backlog after downtime is split
+    @Value("${courier.assignment.expiry-batch-size:500}")
+    private int expiryBatchSize = 500;
+
+    @Value("${orders.history.page-size:20}")
+    private int defaultHistoryPageSize = 20;
+
+    @Value("${orders.history.max-page-size:100}")
+    private int maxHistoryPageSize = 100;
+
+    // REQUESTED assignments ordered by when they fall due; entries for assignments that were
+    // answered in the meantime are harmless, the expiry UPDATE only touches REQUESTED rows
+    private final DelayQueue<PendingExpiry> pendingExpiries = new DelayQueue<>();
+
+    private record PendingExpiry(Integer assignmentId, long dueAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Re-registers assignments that were still REQUESTED when the application last stopped
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingExpiries() {
+        List<CourierAssignmentRepository.PendingAssignment> pending =
+                assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED);
+        pending.forEach(assignment -> scheduleExpiry(assignment.getAssignmentId(), assignment.getAssignedAt()));
+        log.info("Scheduled expiry for {} pending courier requests", pending.size());
+    }
+
+    /**
+     * Expires every request whose timeout has passed, one UPDATE per batch of assignments
+     */
+    @Scheduled(fixedDelayString = "${courier.assignment.expiry-sweep-interval-ms:1000}")
+    public void expireDueAssignments() {
+        List<PendingExpiry> due = new ArrayList<>();
+        PendingExpiry next;
+        while ((next = pendingExpiries.poll()) != null) {
+            due.add(next);
+        }
+        for (int from = 0; from < due.size(); from += expiryBatchSize) {
+            expireBatch(due.subList(from, Math.min(from + expiryBatchSize, due.size())));
+        }
+    }
+
+    private void expireBatch(List<PendingExpiry> batch) {
+        try {
+            List<Integer> assignmentIds = batch.stream().map(PendingExpiry::assignmentId).collect(Collectors.toList());
+            // Only the rows this statement moved from REQUESTED are returned; requests expired
+            // or answered elsewhere in the meantime were already published there
+            List<CourierAssignmentRepository.ExpiredAssignment> expired =
+                    assignmentRepository.expireRequested(assignmentIds);
+            if (expired.isEmpty()) {
+                return;
+            }
+            log.info("Expired {} courier requests", expired.size());
+            expired.forEach(this::publishExpired);
+            expired.stream()
+                    .map(CourierAssignmentRepository.ExpiredAssignment::getRestaurantId)
+                    .distinct()
+                    .forEach(ordersNeedingCourierIndex::invalidate);
+        } catch (RuntimeException e) {
+            log.error("Failed to expire {} courier requests, will retry", batch.size(), e);
+            pendingExpiries.addAll(batch);
+        }
+    }
+
     @Override
     @Transactional
     public CourierAssignment assignOrderToCourier(CourierAssignmentRequestDTO assignmentDTO) {
@@ -52,6 +165,10 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
         if (order.getRestaurant() == null) {
             throw new CustomException("Order is missing restaurant information", HttpStatus.BAD_REQUEST);
         }
+        if (assignmentDTO.getRestaurantId() != null
+                && !assignmentDTO.getRestaurantId().equals(order.getRestaurant().getRestaurantId())) {
+            throw new CustomException("Order does not belong to this restaurant", HttpStatus.FORBIDDEN);
+        }
         if (order.getAddress() == null) {
             throw new CustomException("Order is missing delivery address", HttpStatus.BAD_REQUEST);
         }
@@ -63,14 +180,6 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             throw new CustomException("Order must be in PROCESSING status to assign courier", HttpStatus.BAD_REQUEST);
         }
 
-        // Validate courier exists and is available
-        Courier courier = courierRepository.findById(assignmentDTO.getCourierId())
-                .orElseThrow(() -> new CustomException("Courier not found", HttpStatus.NOT_FOUND));
-
-        if (courier.getStatus() != Courier.CourierStatus.AVAILABLE) {
-            throw new CustomException("Courier is not available", HttpStatus.BAD_REQUEST);
-        }
-
         // Check if order has any active assignments (not REJECTED, EXPIRED, or CANCELLED)
         List<CourierAssignment> existingAssignments = assignmentRepository.findByOrderOrderId(assignmentDTO.getOrderId());
         boolean hasActiveAssignment = existingAssignments.stream()
@@ -83,6 +192,25 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             throw new CustomException("Order is already assigned to a courier", HttpStatus.BAD_REQUEST);
         }
 
+        // Validate courier exists and is available; without a courier, dispatch the nearest one
+        // that has not already been asked for this order
+        Courier courier;
+        if (assignmentDTO.getCourierId() != null) {
+            courier = courierRepository.findById(assignmentDTO.getCourierId())
+                    .orElseThrow(() -> new CustomException("Courier not found", HttpStatus.NOT_FOUND));
+        } else {
+            Set<Integer> previousCourierIds = existingAssignments.stream()
+                    .filter(assignment -> assignment.getCourier() != null)
+                    .map(assignment -> assignment.getCourier().getCourierId())
+                    .collect(Collectors.toSet());
+            courier = courierDispatchService.findNearestAvailableCourier(order.getRestaurant(), previousCourierIds)
+                    .orElseThrow(() -> new CustomException("No available couriers found", HttpStatus.BAD_REQUEST));
+        }
+
+        if (courier.getStatus() != Courier.CourierStatus.AVAILABLE) {
+            throw new CustomException("Courier is not available", HttpStatus.BAD_REQUEST);
+        }
+
         // Create new assignment with REQUESTED status - store courier in database but don't associate with order yet
         CourierAssignment assignment = new CourierAssignment();
         assignment.setOrder(order);
@@ -90,7 +218,11 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
         assignment.setCourier(courier);
         assignment.setStatus(CourierAssignment.AssignmentStatus.REQUESTED);
 
-        return assignmentRepository.save(assignment);
+        CourierAssignment saved = assignmentRepository.save(assignment);
+        scheduleExpiry(saved.getAssignmentId(), saved.getAssignedAt());
+        ordersNeedingCourierIndex.markCovered(order.getRestaurant().getRestaurantId(), order.getOrderId());
+        orderEventStreamService.publishAssignmentStatus(saved);
+        return saved;
     }
 
     @Override
@@ -112,7 +244,7 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
         }
 
         // Check if the request is too old
-        LocalDateTime expiryTime = assignment.getAssignedAt().plusMinutes(5);
+        LocalDateTime expiryTime = assignment.getAssignedAt().plus(requestTimeout);
         log.info("[DEBUG] Assignment assigned at: {}, Expires at: {}, Current time: {}", 
             assignment.getAssignedAt(), expiryTime, LocalDateTime.now());
         if (expiryTime.isBefore(LocalDateTime.now())) {
@@ -120,6 +252,8 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
                 assignment.getAssignedAt(), LocalDateTime.now());
             assignment.setStatus(CourierAssignment.AssignmentStatus.EXPIRED);
             assignmentRepository.save(assignment);
+            markNeedsCourierIfProcessing(assignment.getOrder());
+            orderEventStreamService.publishAssignmentStatus(assignment);
             throw new CustomException("This delivery request has expired", HttpStatus.BAD_REQUEST);
         }
 
@@ -161,12 +295,17 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
         order.setStatus(Order.OrderStatus.OUT_FOR_DELIVERY);
         order.setCourier(courier);
         orderRepository.save(order);
+        ordersNeedingCourierIndex.markCovered(order.getRestaurant().getRestaurantId(), order.getOrderId());
 
         // Update courier status
         courier.setStatus(Courier.CourierStatus.UNAVAILABLE);
         courierRepository.save(courier);
+        courierLocationIndex.setAvailable(courier.getCourierId(), false);
 
-        return assignmentRepository.save(assignment);
+        CourierAssignment saved = assignmentRepository.save(assignment);
+        orderEventStreamService.publishOrderStatus(order);
+        orderEventStreamService.publishAssignmentStatus(saved);
+        return saved;
     }
 
     @Override
@@ -188,8 +327,11 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             // No need to change the status, just ensure it's saved
             orderRepository.save(order);
         }
+        markNeedsCourierIfProcessing(order);
         
-        return assignmentRepository.save(assignment);
+        CourierAssignment saved = assignmentRepository.save(assignment);
+        orderEventStreamService.publishAssignmentStatus(saved);
+        return saved;
     }
 
     @Override
@@ -212,10 +354,12 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             Order order = assignment.getOrder();
             order.setCourier(assignment.getCourier());
             orderRepository.save(order);
+            orderEventStreamService.publishAssignmentStatus(assignment);
         } else if (status == CourierAssignment.AssignmentStatus.DELIVERED) {
             assignment.setDeliveredAt(java.time.LocalDateTime.now());
             // Update order status to DELIVERED
             Order order = assignment.getOrder();
+            boolean alreadyDelivered = order.getStatus() == Order.OrderStatus.DELIVERED;
             order.setStatus(Order.OrderStatus.DELIVERED);
             order.setDeliveredAt(java.time.LocalDateTime.now());
 
@@ -226,11 +370,18 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             }
 
             orderRepository.save(order);
+            if (!alreadyDelivered) {
+                orderAnalyticsRollupService.recordDelivered(order);
+            }
 
             // Make courier available again
             Courier courier = assignment.getCourier();
             courier.setStatus(Courier.CourierStatus.AVAILABLE);
             courierRepository.save(courier);
+            courierLocationIndex.setAvailable(courier.getCourierId(), true);
+
+            orderEventStreamService.publishOrderStatus(order);
+            orderEventStreamService.publishAssignmentStatus(assignment);
         } else if (status == CourierAssignment.AssignmentStatus.CANCELLED) {
             // Handle cancellation
             Order order = assignment.getOrder();
@@ -240,32 +391,30 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             order.setStatus(Order.OrderStatus.PROCESSING);
             order.setCourier(null);
             orderRepository.save(order);
+            ordersNeedingCourierIndex.markNeedsCourier(order.getRestaurant().getRestaurantId(), order.getOrderId());
 
             // 2. Mark courier as unavailable
             courier.setStatus(Courier.CourierStatus.UNAVAILABLE);
             courierRepository.save(courier);
+            courierLocationIndex.setAvailable(courier.getCourierId(), false);
 
             // 3. Save the cancelled assignment
             assignment = assignmentRepository.save(assignment);
+            orderEventStreamService.publishAssignmentStatus(assignment);
+            orderEventStreamService.publishOrderStatus(order);
 
-            // 4. Try to find a new courier for the order
+            // 4. Request the nearest available courier for the order
             try {
-                // Get all available couriers
-                List<Courier> availableCouriers = courierRepository.findByStatus(Courier.CourierStatus.AVAILABLE);
-                
-                if (!availableCouriers.isEmpty()) {
-                    // Create a new assignment request for the first available courier
-                    CourierAssignmentRequestDTO newAssignmentDTO = CourierAssignmentRequestDTO.builder()
-                        .orderId(order.getOrderId())
-                        .courierId(availableCouriers.get(0).getCourierId())
-                        .build();
-                    
-                    // Create new assignment with REQUESTED status
-                    assignOrderToCourier(newAssignmentDTO);
-                    log.info("Created new courier assignment request for order {} after cancellation", order.getOrderId());
-                } else {
-                    log.warn("No available couriers found for reassignment of order {} after cancellation", order.getOrderId());
-                }
+                CourierAssignmentRequestDTO newAssignmentDTO = CourierAssignmentRequestDTO.builder()
+                    .orderId(order.getOrderId())
+                    .build();
+
+                // Create new assignment with REQUESTED status
+                CourierAssignment reassignment = assignOrderToCourier(newAssignmentDTO);
+                log.info("Created new courier assignment request for order {} with courier {} after cancellation",
+                    order.getOrderId(), reassignment.getCourier().getCourierId());
+            } catch (CustomException e) {
+                log.warn("Could not reassign order {} after cancellation: {}", order.getOrderId(), e.getMessage());
             } catch (Exception e) {
                 log.error("Error while trying to reassign order {} after cancellation: {}", order.getOrderId(), e.getMessage());
                 // Don't throw the exception - we want to complete the cancellation even if reassignment fails
@@ -317,36 +466,54 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
 
         // Convert assignments to DTOs, skip if order is missing
         return assignments.stream()
-                .map(assignment -> {
-                    Order order = assignment.getOrder();
-                    if (order == null) {
-                        log.error("[DEBUG] Assignment {} has null order, skipping", assignment.getAssignmentId());
-                        return null;
-                    }
-                    log.debug("[DEBUG] Assignment {}: orderId={}", assignment.getAssignmentId(), order.getOrderId());
-                    try {
-                    return CourierOrderHistoryDTO.builder()
-                            .orderId(order.getOrderId())
-                            .assignmentId(assignment.getAssignmentId())
-                                .restaurantName(order.getRestaurant() != null ? order.getRestaurant().getName() : "Unknown")
-                                .customerName(order.getCustomer() != null ? order.getCustomer().getName() : "Unknown")
-                                .deliveryAddress(order.getAddress() != null ? order.getAddress().getFullAddress() : "Unknown")
-                            .totalPrice(order.getTotalPrice())
-                            .orderStatus(order.getStatus())
-                            .assignmentStatus(assignment.getStatus())
-                            .assignedAt(assignment.getAssignedAt())
-                            .pickedUpAt(assignment.getPickedUpAt())
-                            .deliveredAt(assignment.getDeliveredAt())
-                            .build();
-                    } catch (Exception e) {
-                        log.error("[DEBUG] Error building CourierOrderHistoryDTO for assignment {}: {}", assignment.getAssignmentId(), e.getMessage());
-                        return null;
-                    }
-                })
+                .map(this::toHistoryDTO)
                 .filter(java.util.Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<CourierOrderHistoryDTO> getCourierOrderHistoryPage(Integer courierId, String cursor, Integer size) {
+        // Validate courier exists
+        courierRepository.findById(courierId)
+                .orElseThrow(() -> new CustomException("Courier not found", HttpStatus.NOT_FOUND));
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size, defaultHistoryPageSize, maxHistoryPageSize);
+        List<CourierAssignment> assignments = assignmentRepository.findHistoryPage(
+                courierId, after.time(), after.intId(), PageRequest.of(0, pageSize + 1));
+        return CursorPageDTO.of(assignments, pageSize,
+                assignment -> new KeysetCursor(assignment.getAssignedAt(), assignment.getAssignmentId()).encode(),
+                this::toHistoryDTO);
+    }
+
+    private CourierOrderHistoryDTO toHistoryDTO(CourierAssignment assignment) {
+        Order order = assignment.getOrder();
+        if (order == null) {
+            log.error("[DEBUG] Assignment {} has null order, skipping", assignment.getAssignmentId());
+            return null;
+        }
+        log.debug("[DEBUG] Assignment {}: orderId={}", assignment.getAssignmentId(), order.getOrderId());
+        try {
+            return CourierOrderHistoryDTO.builder()
+                    .orderId(order.getOrderId())
+                    .assignmentId(assignment.getAssignmentId())
+                    .restaurantName(order.getRestaurant() != null ? order.getRestaurant().getName() : "Unknown")
+                    .customerName(order.getCustomer() != null ? order.getCustomer().getName() : "Unknown")
+                    .deliveryAddress(order.getAddress() != null ? order.getAddress().getFullAddress() : "Unknown")
+                    .totalPrice(order.getTotalPrice())
+                    .orderStatus(order.getStatus())
+                    .assignmentStatus(assignment.getStatus())
+                    .assignedAt(assignment.getAssignedAt())
+                    .pickedUpAt(assignment.getPickedUpAt())
+                    .deliveredAt(assignment.getDeliveredAt())
+                    .build();
+        } catch (Exception e) {
+            log.error("[DEBUG] Error building CourierOrderHistoryDTO for assignment {}: {}", assignment.getAssignmentId(), e.getMessage());
+            return null;
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CourierAssignmentDTO> getPendingRequestsForCourier(Integer courierId) {
@@ -476,7 +643,7 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
     }
 
     /**
-     * Check if a delivery request has expired (older than 5 minutes).
+     * Check if a delivery request has expired (older than the configured request timeout).
      * 
      * @param assignmentId The assignment ID to check
      * @return true if the assignment is expired and was handled, false otherwise
@@ -492,11 +659,13 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
             return false;
         }
         
-        // Check if the request is too old (more than 5 minutes)
-        if (assignment.getAssignedAt().plusMinutes(5).isBefore(java.time.LocalDateTime.now())) {
+        // Check if the request is too old
+        if (isExpired(assignment)) {
             // Update assignment status to EXPIRED
             assignment.setStatus(CourierAssignment.AssignmentStatus.EXPIRED);
             assignmentRepository.save(assignment);
+            markNeedsCourierIfProcessing(assignment.getOrder());
+            orderEventStreamService.publishAssignmentStatus(assignment);
             return true;
         }
         
@@ -519,11 +688,13 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
         boolean anyExpired = false;
         
         for (CourierAssignment assignment : requestedAssignments) {
-            // Check if the request is too old (more than 5 minutes)
-            if (assignment.getAssignedAt().plusMinutes(5).isBefore(java.time.LocalDateTime.now())) {
+            // Check if the request is too old
+            if (isExpired(assignment)) {
                 // Update assignment status to EXPIRED
                 assignment.setStatus(CourierAssignment.AssignmentStatus.EXPIRED);
                 assignmentRepository.save(assignment);
+                markNeedsCourierIfProcessing(assignment.getOrder());
+                orderEventStreamService.publishAssignmentStatus(assignment);
                 anyExpired = true;
             }
         }
@@ -531,8 +702,37 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
         return anyExpired;
     }
 
+    private boolean isExpired(CourierAssignment assignment) {
+        return assignment.getAssignedAt().plus(requestTimeout).isBefore(LocalDateTime.now());
+    }
+
+    private void scheduleExpiry(Integer assignmentId, LocalDateTime assignedAt) {
+        if (assignmentId == null || assignedAt == null) {
+            return;
+        }
+        long dueAtMillis = assignedAt.plus(requestTimeout).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        pendingExpiries.add(new PendingExpiry(assignmentId, dueAtMillis));
+    }
+
+    private void publishExpired(CourierAssignmentRepository.ExpiredAssignment expired) {
+        orderEventStreamService.publish(OrderEventDTO.builder()
+                .type(OrderEventDTO.EventType.ASSIGNMENT_STATUS_CHANGED)
+                .orderId(expired.getOrderId())
+                .assignmentId(expired.getAssignmentId())
+                .assignmentStatus(CourierAssignment.AssignmentStatus.EXPIRED)
+                .restaurantId(expired.getRestaurantId())
+                .courierId(expired.getCourierId())
+                .build());
+    }
+
+    private void markNeedsCourierIfProcessing(Order order) {
+        if (order != null && order.getStatus() == Order.OrderStatus.PROCESSING && order.getRestaurant() != null) {
+            ordersNeedingCourierIndex.markNeedsCourier(order.getRestaurant().getRestaurantId(), order.getOrderId());
+        }
+    }
+
     /**
-     * Find and return a list of orders that have all their courier assignments expired or rejected.
+     * Find and return a list of orders that have all their courier assignments expired, rejected or cancelled.
      * These orders can have new courier assignments created.
      * 
      * @param restaurantId The restaurant ID to check orders for
@@ -541,27 +741,6 @@ public class CourierAssignmentServiceImpl implements CourierAssignmentService {
     @Override
     @Transactional(readOnly = true)
     public List<Integer> getOrdersNeedingNewCourierAssignment(Integer restaurantId) {
-        // Find all PROCESSING orders for this restaurant
-        List<Order> processingOrders = orderRepository.findByRestaurantRestaurantIdAndStatus(
-                restaurantId, Order.OrderStatus.PROCESSING);
-        
-        return processingOrders.stream()
-                .filter(order -> {
-                    // Check all assignments for this order
-                    List<CourierAssignment> assignments = assignmentRepository.findByOrderOrderId(order.getOrderId());
-                    
-                    // If no assignments exist, order needs a courier
-                    if (assignments.isEmpty()) {
-                        return true;
-                    }
-                    
-                    // Order needs a new courier if all assignments are EXPIRED or REJECTED
-                    return assignments.stream()
-                            .allMatch(assignment -> 
-                                assignment.getStatus() == CourierAssignment.AssignmentStatus.EXPIRED || 
-                                assignment.getStatus() == CourierAssignment.AssignmentStatus.REJECTED);
-                })
-                .map(Order::getOrderId)
-                .collect(Collectors.toList());
+        return ordersNeedingCourierIndex.getOrderIds(restaurantId);
     }
-} 
\ No newline at end of file
+}
@@ -8,6 +8,8 @@ import com.hufds.exception.CustomException;
 import com.hufds.repository.CourierRepository;
 import com.hufds.service.CourierAuthService;
 import com.hufds.service.JwtService;
+import com.hufds.service.LoginMetrics;
+import com.hufds.service.UserStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +25,8 @@ public class CourierAuthServiceImpl implements CourierAuthService {
     private final CourierRepository courierRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginMetrics loginMetrics;
+    private final UserStatusCache userStatusCache;
 
     @Override
     @Transactional
@@ -62,6 +66,10 @@ public class CourierAuthServiceImpl implements CourierAuthService {
 
     @Override
     public CourierResponseDTO login(CourierLoginDTO loginDTO) {
+        return loginMetrics.time(() -> authenticate(loginDTO));
+    }
+
+    private CourierResponseDTO authenticate(CourierLoginDTO loginDTO) {
         Courier courier = courierRepository.findByEmail(loginDTO.getEmail())
                 .orElseThrow(() -> new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED));
 
@@ -80,6 +88,13 @@ public class CourierAuthServiceImpl implements CourierAuthService {
             courier.setIsBanned(false);
             courier.setBanOpenDate(null);
             courierRepository.save(courier);
+            userStatusCache.invalidate("courier", courier.getEmail());
+        }
+
+        // Stored with a lower BCrypt cost than configured, rehash while we have the password
+        if (passwordEncoder.upgradeEncoding(courier.getPassword())) {
+            courier.setPassword(passwordEncoder.encode(loginDTO.getPassword()));
+            courierRepository.save(courier);
         }
 
         // Allow login but include approval status in the response
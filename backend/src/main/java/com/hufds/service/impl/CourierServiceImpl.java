@@ -1,10 +1,15 @@
 package com.hufds.service.impl;
 
+import com.hufds.dto.CourierLocationDTO;
 import com.hufds.entity.Courier;
 import com.hufds.entity.Order;
 import com.hufds.repository.CourierRepository;
 import com.hufds.repository.OrderRepository;
+import com.hufds.service.CourierLocationIndex;
 import com.hufds.service.CourierService;
+import com.hufds.service.OrderAnalyticsRollupService;
+import com.hufds.service.OrderEventStreamService;
+import com.hufds.service.OrdersNeedingCourierIndex;
 import com.hufds.dto.PasswordUpdateDTO;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -26,6 +31,18 @@ public class CourierServiceImpl implements CourierService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private CourierLocationIndex courierLocationIndex;
+
+    @Autowired
+    private OrdersNeedingCourierIndex ordersNeedingCourierIndex;
+
+    @Autowired
+    private OrderEventStreamService orderEventStreamService;
+
+    @Autowired
+    private OrderAnalyticsRollupService orderAnalyticsRollupService;
+
     @Override
     public Courier getCourierProfile(Integer courierId) {
         return courierRepository.findById(courierId)
@@ -48,6 +65,17 @@ public class CourierServiceImpl implements CourierService {
         Courier courier = getCourierProfile(courierId);
         courier.setStatus(status);
         courierRepository.save(courier);
+        courierLocationIndex.setAvailable(courierId, status == Courier.CourierStatus.AVAILABLE);
+    }
+
+    @Override
+    public void updateCourierLocation(Integer courierId, CourierLocationDTO locationDTO) {
+        Courier courier = getCourierProfile(courierId);
+        boolean available = courier.getStatus() == Courier.CourierStatus.AVAILABLE
+                && courier.getDeletedAt() == null
+                && !Boolean.TRUE.equals(courier.getIsBanned());
+        courierLocationIndex.updateLocation(courierId,
+                locationDTO.getLatitude().doubleValue(), locationDTO.getLongitude().doubleValue(), available);
     }
 
     @Override
@@ -81,7 +109,10 @@ public class CourierServiceImpl implements CourierService {
         }
         
         order.setStatus(Order.OrderStatus.DELIVERED);
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        orderAnalyticsRollupService.recordDelivered(saved);
+        orderEventStreamService.publishOrderStatus(saved);
+        return saved;
     }
 
     @Override
@@ -99,15 +130,16 @@ public class CourierServiceImpl implements CourierService {
         }
         
         order.setStatus(Order.OrderStatus.CANCELLED);
-        return orderRepository.save(order);
+        ordersNeedingCourierIndex.markCovered(order.getRestaurant().getRestaurantId(), order.getOrderId());
+        Order saved = orderRepository.save(order);
+        orderEventStreamService.publishOrderStatus(saved);
+        return saved;
     }
 
     @Override
     public double getTotalEarnings(Integer courierId) {
-        return orderRepository.findByCourierCourierIdAndStatus(courierId, Order.OrderStatus.DELIVERED)
-                .stream()
-                .mapToDouble(order -> order.getTotalPrice().doubleValue())
-                .sum();
+        return orderRepository.sumTotalPriceByCourierAndStatus(courierId, Order.OrderStatus.DELIVERED)
+                .doubleValue();
     }
 
     @Override
@@ -8,6 +8,8 @@ import com.hufds.exception.CustomException;
 import com.hufds.repository.CustomerRepository;
 import com.hufds.service.CustomerAuthService;
 import com.hufds.service.JwtService;
+import com.hufds.service.LoginMetrics;
+import com.hufds.service.UserStatusCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,6 +25,8 @@ public class CustomerAuthServiceImpl implements CustomerAuthService {
     private final CustomerRepository customerRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginMetrics loginMetrics;
+    private final UserStatusCache userStatusCache;
 
     @Override
     @Transactional
@@ -55,13 +59,17 @@ public class CustomerAuthServiceImpl implements CustomerAuthService {
 
     @Override
     public CustomerResponseDTO login(CustomerLoginDTO loginDTO) {
+        return loginMetrics.time(() -> authenticate(loginDTO));
+    }
+
+    private CustomerResponseDTO authenticate(CustomerLoginDTO loginDTO) {
         Customer customer = customerRepository.findByEmail(loginDTO.getEmail())
                 .orElseThrow(() -> new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED));
 
         if (!passwordEncoder.matches(loginDTO.getPassword(), customer.getPassword())) {
             throw new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED);
         }
-        
+
         // Check if the customer is banned
         if (customer.getIsBanned() != null && customer.getIsBanned()) {
             LocalDateTime banOpenDate = customer.getBanOpenDate();
@@ -73,6 +81,13 @@ public class CustomerAuthServiceImpl implements CustomerAuthService {
             customer.setIsBanned(false);
             customer.setBanOpenDate(null);
             customerRepository.save(customer);
+            userStatusCache.invalidate("customer", customer.getEmail());
+        }
+
+        // Stored with a lower BCrypt cost than configured, rehash while we have the password
+        if (passwordEncoder.upgradeEncoding(customer.getPassword())) {
+            customer.setPassword(passwordEncoder.encode(loginDTO.getPassword()));
+            customerRepository.save(customer);
         }
 
         String token = jwtService.generateToken(customer.getEmail(), customer.getCustomerId(), "customer");
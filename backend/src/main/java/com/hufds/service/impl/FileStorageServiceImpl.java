@@ -1,8 +1,13 @@
 package com.hufds.service.impl;
 
+import com.hufds.exception.ResourceNotFoundException;
 import com.hufds.service.FileStorageService;
+import com.hufds.service.ImageDerivativeService;
 import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -17,6 +22,9 @@ import java.util.UUID;
 @Service
 public class FileStorageServiceImpl implements FileStorageService {
 
+    @Autowired
+    private ImageDerivativeService imageDerivativeService;
+
     @Value("${file.upload-dir:uploads}")
     private String uploadDir;
 
@@ -52,6 +60,9 @@ public class FileStorageServiceImpl implements FileStorageService {
             Path targetLocation = targetDir.resolve(filename);
             Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
 
+            // Resized copies are written in the background
+            imageDerivativeService.generateAsync(targetLocation);
+
             // Return the full URL
             return baseUrl + "/" + directory + "/" + filename;
         } catch (IOException ex) {
@@ -68,18 +79,19 @@ public class FileStorageServiceImpl implements FileStorageService {
             String relativePath = fileUrl.substring(baseUrl.length() + 1); // +1 for the leading slash
             Path filePath = fileStorageLocation.resolve(relativePath);
             Files.deleteIfExists(filePath);
+            imageDerivativeService.deleteDerivatives(filePath);
         } catch (IOException ex) {
             throw new RuntimeException("Could not delete file. Please try again!", ex);
         }
     }
 
     @Override
-    public byte[] getFile(String fileUrl) {
-        try {
-            Path filePath = fileStorageLocation.resolve(fileUrl);
-            return Files.readAllBytes(filePath);
-        } catch (IOException ex) {
-            throw new RuntimeException("Could not read file. Please try again!", ex);
+    public Resource getFile(String filePath) {
+        Path path = fileStorageLocation.resolve(filePath).normalize();
+        // Reject paths like "../" that would escape the upload directory
+        if (!path.startsWith(fileStorageLocation) || !Files.isRegularFile(path) || !Files.isReadable(path)) {
+            throw new ResourceNotFoundException("File not found: " + filePath);
         }
+        return new FileSystemResource(path);
     }
 } 
\ No newline at end of file
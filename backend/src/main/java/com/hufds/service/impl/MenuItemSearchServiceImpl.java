@@ -1,97 +1,60 @@
 package com.hufds.service.impl;
 
+import com.hufds.dto.ImageVariantsDTO;
 import com.hufds.dto.MenuItemSearchDTO;
 import com.hufds.dto.MenuItemSearchResultDTO;
 import com.hufds.entity.MenuItem;
 import com.hufds.repository.MenuItemRepository;
+import com.hufds.service.MenuItemSearchIndex;
 import com.hufds.service.MenuItemSearchService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.HashSet;
+
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MenuItemSearchServiceImpl implements MenuItemSearchService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    // Upper bound on how many ranked matches a query can page through
+    private static final int MAX_RESULTS = 200;
+
     private final MenuItemRepository menuItemRepository;
+    private final MenuItemSearchIndex menuItemSearchIndex;
 
     @Override
     public List<MenuItemSearchResultDTO> searchMenuItems(MenuItemSearchDTO searchDTO) {
-        Set<MenuItem> results = new HashSet<>();
-
-        // If no search criteria provided, return all items
-        if (searchDTO.getName() == null && 
-            searchDTO.getCategory() == null && 
-            searchDTO.getMinPrice() == null && 
-            searchDTO.getMaxPrice() == null && 
-            searchDTO.getIsAvailable() == null && 
-            searchDTO.getRestaurantId() == null) {
-            return menuItemRepository.findAll().stream()
-                    .map(this::convertToDTO)
-                    .collect(Collectors.toList());
-        }
-
-        // Search by restaurant ID first if provided
-        if (searchDTO.getRestaurantId() != null) {
-            results.addAll(menuItemRepository.findByRestaurantRestaurantId(searchDTO.getRestaurantId()));
-        } else {
-            results.addAll(menuItemRepository.findAll());
-        }
+        int page = searchDTO.getPage() != null ? Math.max(searchDTO.getPage(), 0) : 0;
+        int size = searchDTO.getSize() != null
+                ? Math.min(Math.max(searchDTO.getSize(), 1), MAX_PAGE_SIZE)
+                : DEFAULT_PAGE_SIZE;
 
-        // Apply additional filters
-        if (searchDTO.getName() != null) {
-            Set<MenuItem> nameResults = new HashSet<>();
-            if (searchDTO.getRestaurantId() != null) {
-                nameResults.addAll(menuItemRepository.findByRestaurantRestaurantIdAndNameContainingIgnoreCase(
-                    searchDTO.getRestaurantId(), searchDTO.getName()));
-            } else {
-                nameResults.addAll(menuItemRepository.findByNameContainingIgnoreCase(searchDTO.getName()));
-            }
-            results.retainAll(nameResults);
+        MenuItemSearchIndex.Query query = new MenuItemSearchIndex.Query(
+                searchDTO.getName(),
+                searchDTO.getCategory(),
+                searchDTO.getMinPrice(),
+                searchDTO.getMaxPrice(),
+                searchDTO.getIsAvailable(),
+                searchDTO.getRestaurantId());
+        List<Integer> menuItemIds = menuItemSearchIndex.search(query, page, size, MAX_RESULTS).menuItemIds();
+        if (menuItemIds.isEmpty()) {
+            return List.of();
         }
 
-        if (searchDTO.getCategory() != null) {
-            Set<MenuItem> categoryResults = new HashSet<>();
-            if (searchDTO.getRestaurantId() != null) {
-                categoryResults.addAll(menuItemRepository.findByRestaurantRestaurantIdAndCategoryContainingIgnoreCase(
-                    searchDTO.getRestaurantId(), searchDTO.getCategory()));
-            } else {
-                categoryResults.addAll(menuItemRepository.findByCategoryContainingIgnoreCase(searchDTO.getCategory()));
-            }
-            results.retainAll(categoryResults);
-        }
-
-        if (searchDTO.getMinPrice() != null || searchDTO.getMaxPrice() != null) {
-            BigDecimal minPrice = searchDTO.getMinPrice() != null ? searchDTO.getMinPrice() : BigDecimal.ZERO;
-            BigDecimal maxPrice = searchDTO.getMaxPrice() != null ? searchDTO.getMaxPrice() : new BigDecimal("999999.99");
-            
-            Set<MenuItem> priceResults = new HashSet<>();
-            if (searchDTO.getRestaurantId() != null) {
-                priceResults.addAll(menuItemRepository.findByRestaurantRestaurantIdAndPriceBetween(
-                    searchDTO.getRestaurantId(), minPrice, maxPrice));
-            } else {
-                priceResults.addAll(menuItemRepository.findByPriceBetween(minPrice, maxPrice));
-            }
-            results.retainAll(priceResults);
-        }
-
-        if (searchDTO.getIsAvailable() != null) {
-            Set<MenuItem> availabilityResults = new HashSet<>();
-            if (searchDTO.getRestaurantId() != null) {
-                availabilityResults.addAll(menuItemRepository.findByRestaurantRestaurantIdAndAvailability(
-                    searchDTO.getRestaurantId(), searchDTO.getIsAvailable()));
-            } else {
-                availabilityResults.addAll(menuItemRepository.findByAvailability(searchDTO.getIsAvailable()));
-            }
-            results.retainAll(availabilityResults);
-        }
+        // Load only the page, then put it back into ranked order
+        Map<Integer, MenuItem> menuItems = menuItemRepository.findAllById(menuItemIds).stream()
+                .collect(Collectors.toMap(MenuItem::getMenuItemId, Function.identity()));
 
-        return results.stream()
+        return menuItemIds.stream()
+                .map(menuItems::get)
+                .filter(Objects::nonNull)
+                .filter(menuItem -> menuItem.getDeletedAt() == null)
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
@@ -104,9 +67,10 @@ public class MenuItemSearchServiceImpl implements MenuItemSearchService {
                 .price(menuItem.getPrice())
                 .category(menuItem.getCategory())
                 .imageUrl(menuItem.getImageUrl())
+                .imageVariants(ImageVariantsDTO.of(menuItem.getImageUrl()))
                 .isAvailable(menuItem.getAvailability())
                 .restaurantId(menuItem.getRestaurant().getRestaurantId())
                 .restaurantName(menuItem.getRestaurant().getName())
                 .build();
     }
-} 
\ No newline at end of file
+}
@@ -7,7 +7,9 @@ import com.hufds.exception.CustomException;
 import com.hufds.repository.MenuItemRepository;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.service.FileStorageService;
+import com.hufds.service.MenuItemSearchIndex;
 import com.hufds.service.MenuItemService;
+import com.hufds.service.RestaurantMenuStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -24,6 +26,8 @@ public class MenuItemServiceImpl implements MenuItemService {
     private final MenuItemRepository menuItemRepository;
     private final RestaurantRepository restaurantRepository;
     private final FileStorageService fileStorageService;
+    private final RestaurantMenuStatsService restaurantMenuStatsService;
+    private final MenuItemSearchIndex menuItemSearchIndex;
 
     @Override
     @Transactional
@@ -34,7 +38,10 @@ public class MenuItemServiceImpl implements MenuItemService {
         updateMenuItemFromDTO(menuItem, menuItemDTO);
         menuItem.setRestaurant(restaurant);
         
-        return menuItemRepository.save(menuItem);
+        MenuItem saved = menuItemRepository.save(menuItem);
+        restaurantMenuStatsService.refresh(restaurant);
+        menuItemSearchIndex.index(saved);
+        return saved;
     }
 
     @Override
@@ -42,7 +49,10 @@ public class MenuItemServiceImpl implements MenuItemService {
     public MenuItem updateMenuItem(Integer menuItemId, MenuItemDTO menuItemDTO, Integer restaurantId) {
         MenuItem menuItem = getMenuItemAndValidateRestaurant(menuItemId, restaurantId);
         updateMenuItemFromDTO(menuItem, menuItemDTO);
-        return menuItemRepository.save(menuItem);
+        MenuItem saved = menuItemRepository.save(menuItem);
+        restaurantMenuStatsService.refresh(menuItem.getRestaurant());
+        menuItemSearchIndex.index(saved);
+        return saved;
     }
 
     @Override
@@ -51,6 +61,8 @@ public class MenuItemServiceImpl implements MenuItemService {
         MenuItem menuItem = getMenuItemAndValidateRestaurant(menuItemId, restaurantId);
         menuItem.setDeletedAt(LocalDateTime.now());
         menuItemRepository.save(menuItem);
+        restaurantMenuStatsService.refresh(menuItem.getRestaurant());
+        menuItemSearchIndex.remove(menuItemId);
     }
 
     @Override
@@ -78,7 +90,10 @@ public class MenuItemServiceImpl implements MenuItemService {
     public MenuItem toggleAvailability(Integer menuItemId, Integer restaurantId) {
         MenuItem menuItem = getMenuItemAndValidateRestaurant(menuItemId, restaurantId);
         menuItem.setAvailability(!menuItem.getAvailability());
-        return menuItemRepository.save(menuItem);
+        MenuItem saved = menuItemRepository.save(menuItem);
+        restaurantMenuStatsService.refresh(menuItem.getRestaurant());
+        menuItemSearchIndex.index(saved);
+        return saved;
     }
 
     @Override
@@ -1,5 +1,7 @@
 package com.hufds.service.impl;
 
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.dto.OrderResponseDTO;
 import com.hufds.dto.PlaceOrderRequestDTO;
 import com.hufds.entity.*;
 import com.hufds.repository.OrderRepository;
@@ -7,19 +9,27 @@ import com.hufds.repository.CustomerRepository;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.repository.AddressRepository;
 import com.hufds.repository.MenuItemRepository;
-import com.hufds.repository.CouponRepository;
-import com.hufds.repository.PromotionRepository;
+import com.hufds.service.ActiveDiscountCache;
+import com.hufds.service.CouponService;
+import com.hufds.service.OrderAnalyticsRollupService;
+import com.hufds.service.OrderEventStreamService;
 import com.hufds.service.OrderService;
+import com.hufds.service.OrdersNeedingCourierIndex;
 import com.hufds.service.PaymentService;
+import com.hufds.util.KeysetCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.List;
@@ -48,10 +58,25 @@ public class OrderServiceImpl implements OrderService {
     private PaymentService paymentService;
 
     @Autowired
-    private CouponRepository couponRepository;
+    private CouponService couponService;
 
     @Autowired
-    private PromotionRepository promotionRepository;
+    private ActiveDiscountCache activeDiscountCache;
+
+    @Autowired
+    private OrdersNeedingCourierIndex ordersNeedingCourierIndex;
+
+    @Autowired
+    private OrderEventStreamService orderEventStreamService;
+
+    @Autowired
+    private OrderAnalyticsRollupService orderAnalyticsRollupService;
+
+    @Value("${orders.history.page-size:20}")
+    private int defaultHistoryPageSize = 20;
+
+    @Value("${orders.history.max-page-size:100}")
+    private int maxHistoryPageSize = 100;
 
     @Override
     @Transactional
@@ -72,29 +97,38 @@ public class OrderServiceImpl implements OrderService {
             throw new RuntimeException("Address does not belong to customer");
         }
 
-        // Create and save order first without items
+        // Load every requested menu item in one query and validate them in memory
+        Set<Integer> menuItemIds = new HashSet<>();
+        dto.getItems().forEach(itemDto -> menuItemIds.add(itemDto.getMenuItemId()));
+        Map<Integer, MenuItem> menuItems = new HashMap<>();
+        menuItemRepository.findAllById(menuItemIds).forEach(menuItem -> menuItems.put(menuItem.getMenuItemId(), menuItem));
+
         Order order = new Order();
         order.setCustomer(customer);
         order.setRestaurant(restaurant);
         order.setAddress(address);
-        order.setTotalPrice(BigDecimal.ZERO);
         order.setStatus(Order.OrderStatus.PENDING);
         order.setCreatedAt(LocalDateTime.now());
-        order = orderRepository.save(order);
 
-        // Create order items and calculate total
+        // Create order items and calculate total from the prices loaded above
         Set<OrderItem> orderItems = new HashSet<>();
         BigDecimal totalPrice = BigDecimal.ZERO;
 
         for (var itemDto : dto.getItems()) {
-            MenuItem menuItem = menuItemRepository.findById(itemDto.getMenuItemId())
-                    .orElseThrow(() -> new RuntimeException("Menu item not found"));
+            MenuItem menuItem = menuItems.get(itemDto.getMenuItemId());
+            if (menuItem == null || menuItem.getDeletedAt() != null) {
+                throw new RuntimeException("Menu item not found");
+            }
 
             // Validate menu item belongs to restaurant
             if (!menuItem.getRestaurant().getRestaurantId().equals(restaurant.getRestaurantId())) {
                 throw new RuntimeException("Menu item does not belong to restaurant");
             }
 
+            if (Boolean.FALSE.equals(menuItem.getAvailability())) {
+                throw new RuntimeException("Menu item is not available: " + menuItem.getName());
+            }
+
             OrderItem orderItem = new OrderItem();
             orderItem.setOrder(order); // Set order reference explicitly
             orderItem.setMenuItem(menuItem);
@@ -110,31 +144,26 @@ public class OrderServiceImpl implements OrderService {
         
         // Check and apply coupon if provided
         if (dto.getCouponId() != null) {
-            Optional<Coupon> couponOpt = couponRepository.findById(dto.getCouponId());
+            Optional<Coupon> couponOpt = activeDiscountCache.findActiveCoupon(dto.getCouponId());
             if (couponOpt.isPresent()) {
                 Coupon coupon = couponOpt.get();
                 
-                // Validate coupon is active and not expired
-                if (coupon.getIsActive() && 
-                    (coupon.getEndDate() == null || coupon.getEndDate().isAfter(LocalDateTime.now().toLocalDate())) &&
-                    (coupon.getQuota() > coupon.getUsageCount() || coupon.getQuota() == -1) &&
-                    totalPrice.compareTo(coupon.getMinOrderAmount()) >= 0) {
+                // Redeem only if the order meets the minimum; activity, expiry and quota
+                // are checked by the redemption itself so concurrent orders cannot over-redeem
+                if (totalPrice.compareTo(coupon.getMinOrderAmount()) >= 0 &&
+                    couponService.redeemCoupon(coupon.getId())) {
                     
                     // Apply discount
                     discountAmount = coupon.getDiscountAmount();
                     
-                    // Increment usage count
-                    coupon.setUsageCount(coupon.getUsageCount() + 1);
-                    couponRepository.save(coupon);
-                    
-                    log.info("Applied coupon {} to order {}. Discount: {}", 
-                             coupon.getName(), order.getOrderId(), discountAmount);
+                    log.info("Applied coupon {} to order for restaurant {}. Discount: {}", 
+                             coupon.getName(), restaurant.getRestaurantId(), discountAmount);
                 }
             }
         }
         // Check and apply promotion if provided and no coupon was applied
         else if (dto.getPromotionId() != null && discountAmount.compareTo(BigDecimal.ZERO) == 0) {
-            Optional<Promotion> promotionOpt = promotionRepository.findById(dto.getPromotionId());
+            Optional<Promotion> promotionOpt = activeDiscountCache.findActivePromotion(dto.getPromotionId());
             if (promotionOpt.isPresent()) {
                 Promotion promotion = promotionOpt.get();
                 
@@ -146,8 +175,8 @@ public class OrderServiceImpl implements OrderService {
                     BigDecimal discountPercentage = BigDecimal.valueOf(promotion.getDiscountPercentage());
                     discountAmount = totalPrice.multiply(discountPercentage).divide(BigDecimal.valueOf(100));
                     
-                    log.info("Applied promotion {} to order {}. Discount: {}", 
-                             promotion.getName(), order.getOrderId(), discountAmount);
+                    log.info("Applied promotion {} to order for restaurant {}. Discount: {}", 
+                             promotion.getName(), restaurant.getRestaurantId(), discountAmount);
                 }
             }
         }
@@ -161,35 +190,24 @@ public class OrderServiceImpl implements OrderService {
             }
         }
 
-        // Update order with items and total price
+        // Items and payment are cascaded, so the order is persisted in a single save
         order.setOrderItems(orderItems);
         order.setTotalPrice(totalPrice);
-
-        // Save order with items
-        order = orderRepository.save(order);
-
-        // Create payment record for the order
         try {
-            Payment payment = paymentService.createPayment(order.getOrderId(), dto.getPaymentMethod());
-            
-            // For credit card payments, process immediately
-            if (dto.getPaymentMethod() == Payment.PaymentMethod.CREDIT_CARD) {
-                payment = paymentService.processPayment(payment.getPaymentId());
-            }
-            
-            order.setPayment(payment);
-            order = orderRepository.save(order);
+            order.setPayment(paymentService.preparePayment(order, dto.getPaymentMethod()));
         } catch (Exception e) {
-            // If payment creation or processing fails, we should roll back the entire transaction
+            // If payment processing fails, we should roll back the entire transaction
             throw new RuntimeException("Failed to create/process payment record: " + e.getMessage());
         }
 
+        order = orderRepository.save(order);
+
         return order;
     }
 
     @Override
     public Optional<Order> getOrderById(Integer id, Integer userId, String userType) {
-        Optional<Order> order = orderRepository.findById(id);
+        Optional<Order> order = orderRepository.findWithDetailsByOrderId(id);
         
         if (order.isPresent()) {
             Order foundOrder = order.get();
@@ -238,8 +256,21 @@ public class OrderServiceImpl implements OrderService {
             }
         }
 
+        Order.OrderStatus previousStatus = order.getStatus();
         order.setStatus(status);
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+
+        Integer restaurantId = order.getRestaurant().getRestaurantId();
+        if (status == Order.OrderStatus.PROCESSING) {
+            ordersNeedingCourierIndex.markNeedsCourier(restaurantId, order.getOrderId());
+        } else if (previousStatus == Order.OrderStatus.PROCESSING) {
+            ordersNeedingCourierIndex.markCovered(restaurantId, order.getOrderId());
+        }
+        if (status == Order.OrderStatus.DELIVERED) {
+            orderAnalyticsRollupService.recordDelivered(saved);
+        }
+        orderEventStreamService.publishOrderStatus(saved);
+        return saved;
     }
 
     @Override
@@ -270,7 +301,9 @@ public class OrderServiceImpl implements OrderService {
         }
 
         order.setStatus(Order.OrderStatus.CANCELLED);
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        orderEventStreamService.publishOrderStatus(saved);
+        return saved;
     }
 
     @Override
@@ -291,6 +324,22 @@ public class OrderServiceImpl implements OrderService {
         return orderRepository.findByRestaurantRestaurantId(restaurantId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<OrderResponseDTO> getRestaurantOrderPage(Integer restaurantId, String cursor, Integer size) {
+        // Validate restaurant exists
+        restaurantRepository.findById(restaurantId)
+                .orElseThrow(() -> new RuntimeException("Restaurant not found"));
+
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = KeysetCursor.pageSize(size, defaultHistoryPageSize, maxHistoryPageSize);
+        List<Order> orders = orderRepository.findRestaurantHistoryPage(
+                restaurantId, after.time(), after.intId(), PageRequest.of(0, pageSize + 1));
+        return CursorPageDTO.of(orders, pageSize,
+                order -> new KeysetCursor(order.getCreatedAt(), order.getOrderId()).encode(),
+                OrderResponseDTO::fromOrder);
+    }
+
     private boolean isValidStatusTransition(Order.OrderStatus current, Order.OrderStatus next) {
         // Define valid status transitions
         switch (current) {
@@ -311,21 +360,9 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public List<Order> getActiveCourierOrders(Integer courierId) {
-        // Get orders with OUT_FOR_DELIVERY status assigned to this courier
-        List<Order> orders = orderRepository.findByCourierCourierIdAndStatus(
+        // Get orders with OUT_FOR_DELIVERY status assigned to this courier,
+        // restaurant and customer are loaded by the finder's entity graph
+        return orderRepository.findByCourierCourierIdAndStatus(
             courierId, Order.OrderStatus.OUT_FOR_DELIVERY);
-        
-        // Make sure restaurant and customer are loaded (eager fetch)
-        for (Order order : orders) {
-            // Initialize restaurant and customer details to ensure they're loaded
-            if (order.getRestaurant() != null) {
-                order.getRestaurant().getName(); // Ensure data is fetched
-            }
-            if (order.getCustomer() != null) {
-                order.getCustomer().getName(); // Ensure data is fetched
-            }
-        }
-        
-        return orders;
     }
 } 
\ No newline at end of file
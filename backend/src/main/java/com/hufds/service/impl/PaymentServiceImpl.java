@@ -47,6 +47,22 @@ public class PaymentServiceImpl implements PaymentService {
         return paymentRepository.save(payment);
     }
 
+    @Override
+    public Payment preparePayment(Order order, Payment.PaymentMethod paymentMethod) {
+        Payment payment = new Payment();
+        payment.setOrder(order);
+        payment.setCustomer(order.getCustomer());
+        payment.setAmount(order.getTotalPrice());
+        payment.setMethod(paymentMethod);
+        payment.setStatus(Payment.PaymentStatus.PENDING);
+
+        // For credit card payments, process immediately
+        if (paymentMethod == Payment.PaymentMethod.CREDIT_CARD) {
+            complete(payment);
+        }
+        return payment;
+    }
+
     @Override
     @Transactional
     public Payment processPayment(Integer paymentId) {
@@ -60,11 +76,7 @@ public class PaymentServiceImpl implements PaymentService {
         }
 
         try {
-            // TODO: Integrate with actual payment gateway
-            // For now, simulate successful payment
-            payment.setStatus(Payment.PaymentStatus.COMPLETED);
-            payment.setPaidAt(LocalDateTime.now());
-            payment.setTransactionId("TXN_" + System.currentTimeMillis());
+            complete(payment);
 
             log.info("Payment processed successfully for payment ID: {}. New status: {}", paymentId, payment.getStatus());
             return paymentRepository.save(payment);
@@ -145,6 +157,14 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
+    private void complete(Payment payment) {
+        // TODO: Integrate with actual payment gateway
+        // For now, simulate successful payment
+        payment.setStatus(Payment.PaymentStatus.COMPLETED);
+        payment.setPaidAt(LocalDateTime.now());
+        payment.setTransactionId("TXN_" + System.currentTimeMillis());
+    }
+
     private boolean isValidStatusTransition(Payment.PaymentStatus current, Payment.PaymentStatus next) {
         switch (current) {
             case PENDING:
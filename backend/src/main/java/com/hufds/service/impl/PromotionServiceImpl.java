@@ -4,6 +4,7 @@ import com.hufds.dto.PromotionDTO;
 import com.hufds.entity.Promotion;
 import com.hufds.exception.ResourceNotFoundException;
 import com.hufds.repository.PromotionRepository;
+import com.hufds.service.ActiveDiscountCache;
 import com.hufds.service.PromotionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -20,22 +21,25 @@ public class PromotionServiceImpl implements PromotionService {
     private static final Logger logger = LoggerFactory.getLogger(PromotionServiceImpl.class);
 
     private final PromotionRepository promotionRepository;
+    private final ActiveDiscountCache activeDiscountCache;
 
     @Autowired
-    public PromotionServiceImpl(PromotionRepository promotionRepository) {
+    public PromotionServiceImpl(PromotionRepository promotionRepository, ActiveDiscountCache activeDiscountCache) {
         this.promotionRepository = promotionRepository;
+        this.activeDiscountCache = activeDiscountCache;
     }
 
     @Override
     public PromotionDTO createPromotion(PromotionDTO promotionDTO) {
         Promotion promotion = convertToEntity(promotionDTO);
         Promotion savedPromotion = promotionRepository.save(promotion);
+        activeDiscountCache.invalidatePromotions();
         return convertToDTO(savedPromotion);
     }
 
     @Override
     public List<PromotionDTO> getAllActivePromotions() {
-        return promotionRepository.findByIsActiveAndDeletedAtIsNull(true)
+        return activeDiscountCache.getActivePromotions()
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -68,6 +72,7 @@ public class PromotionServiceImpl implements PromotionService {
         promotion.setIsActive(promotionDTO.getIsActive());
         
         Promotion updatedPromotion = promotionRepository.save(promotion);
+        activeDiscountCache.invalidatePromotions();
         return convertToDTO(updatedPromotion);
     }
 
@@ -78,6 +83,7 @@ public class PromotionServiceImpl implements PromotionService {
         
         promotion.setDeletedAt(LocalDateTime.now());
         promotionRepository.save(promotion);
+        activeDiscountCache.invalidatePromotions();
     }
 
     @Override
@@ -94,6 +100,7 @@ public class PromotionServiceImpl implements PromotionService {
         logger.info("New status of promotion {}: {}", id, !currentStatus);
         
         Promotion updatedPromotion = promotionRepository.save(promotion);
+        activeDiscountCache.invalidatePromotions();
         logger.info("Promotion updated successfully, new status: {}", updatedPromotion.getIsActive());
         
         return convertToDTO(updatedPromotion);
@@ -7,6 +7,8 @@ import com.hufds.entity.Restaurant;
 import com.hufds.exception.CustomException;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.service.JwtService;
+import com.hufds.service.LoginMetrics;
+import com.hufds.service.UserStatusCache;
 import com.hufds.service.RestaurantAuthService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -23,6 +25,8 @@ public class RestaurantAuthServiceImpl implements RestaurantAuthService {
     private final RestaurantRepository restaurantRepository;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final LoginMetrics loginMetrics;
+    private final UserStatusCache userStatusCache;
 
     @Override
     @Transactional
@@ -62,6 +66,10 @@ public class RestaurantAuthServiceImpl implements RestaurantAuthService {
 
     @Override
     public RestaurantResponseDTO login(RestaurantLoginDTO loginDTO) {
+        return loginMetrics.time(() -> authenticate(loginDTO));
+    }
+
+    private RestaurantResponseDTO authenticate(RestaurantLoginDTO loginDTO) {
         Restaurant restaurant = restaurantRepository.findByEmail(loginDTO.getEmail())
                 .orElseThrow(() -> new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED));
 
@@ -84,6 +92,13 @@ public class RestaurantAuthServiceImpl implements RestaurantAuthService {
             restaurant.setIsBanned(false);
             restaurant.setBanOpenDate(null);
             restaurantRepository.save(restaurant);
+            userStatusCache.invalidate("restaurant", restaurant.getEmail());
+        }
+
+        // Stored with a lower BCrypt cost than configured, rehash while we have the password
+        if (passwordEncoder.upgradeEncoding(restaurant.getPassword())) {
+            restaurant.setPassword(passwordEncoder.encode(loginDTO.getPassword()));
+            restaurantRepository.save(restaurant);
         }
 
         // Allow login but include approval status in the response
@@ -12,10 +12,21 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.DayOfWeek;
-import java.time.LocalTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +35,13 @@ public class RestaurantConfigServiceImpl implements RestaurantConfigService {
     private final BusinessHoursRepository businessHoursRepository;
     private final RestaurantRepository restaurantRepository;
 
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int SECONDS_PER_WEEK = 7 * SECONDS_PER_DAY;
+
+    // Compiled weekly schedules keyed by restaurant id, evicted whenever that restaurant's hours change
+    private final Map<Integer, WeeklySchedule> scheduleCache = new ConcurrentHashMap<>();
+    private final AtomicLong scheduleGeneration = new AtomicLong();
+
     @Override
     @Transactional
     public BusinessHours addBusinessHours(Integer restaurantId, BusinessHoursDTO businessHoursDTO) {
@@ -33,7 +51,9 @@ public class RestaurantConfigServiceImpl implements RestaurantConfigService {
         updateBusinessHoursFromDTO(businessHours, businessHoursDTO);
         businessHours.setRestaurant(restaurant);
         
-        return businessHoursRepository.save(businessHours);
+        BusinessHours saved = businessHoursRepository.save(businessHours);
+        evictSchedule(restaurantId);
+        return saved;
     }
 
     @Override
@@ -41,7 +61,9 @@ public class RestaurantConfigServiceImpl implements RestaurantConfigService {
     public BusinessHours updateBusinessHours(Integer hoursId, BusinessHoursDTO businessHoursDTO, Integer restaurantId) {
         BusinessHours businessHours = getBusinessHoursAndValidateRestaurant(hoursId, restaurantId);
         updateBusinessHoursFromDTO(businessHours, businessHoursDTO);
-        return businessHoursRepository.save(businessHours);
+        BusinessHours saved = businessHoursRepository.save(businessHours);
+        evictSchedule(restaurantId);
+        return saved;
     }
 
     @Override
@@ -49,6 +71,7 @@ public class RestaurantConfigServiceImpl implements RestaurantConfigService {
     public void deleteBusinessHours(Integer hoursId, Integer restaurantId) {
         BusinessHours businessHours = getBusinessHoursAndValidateRestaurant(hoursId, restaurantId);
         businessHoursRepository.delete(businessHours);
+        evictSchedule(restaurantId);
     }
 
     @Override
@@ -77,20 +100,74 @@ public class RestaurantConfigServiceImpl implements RestaurantConfigService {
 
     @Override
     public boolean isRestaurantOpen(Integer restaurantId) {
-        DayOfWeek currentDay = DayOfWeek.from(java.time.LocalDate.now());
-        LocalTime currentTime = LocalTime.now();
-        
-        List<BusinessHours> businessHours = businessHoursRepository.findByRestaurantRestaurantId(restaurantId);
-        
-        return businessHours.stream()
-                .filter(hours -> hours.getDayOfWeek().equalsIgnoreCase(currentDay.name()))
-                .anyMatch(hours -> {
-                    if (hours.getIsClosed()) {
-                        return false;
-                    }
-                    return !currentTime.isBefore(hours.getOpenTime()) && 
-                           !currentTime.isAfter(hours.getCloseTime());
-                });
+        return openStatus(List.of(restaurantId), Instant.now()).get(restaurantId);
+    }
+
+    @Override
+    public Map<Integer, Boolean> openStatus(Collection<Integer> restaurantIds, Instant at) {
+        Map<Integer, WeeklySchedule> schedules = getSchedules(restaurantIds);
+
+        ZonedDateTime localTime = at.atZone(ZoneId.systemDefault());
+        int secondOfWeek = (localTime.getDayOfWeek().getValue() - 1) * SECONDS_PER_DAY
+                + localTime.toLocalTime().toSecondOfDay();
+
+        Map<Integer, Boolean> openStatus = new HashMap<>();
+        for (Integer restaurantId : restaurantIds) {
+            openStatus.put(restaurantId, schedules.get(restaurantId).isOpenAt(secondOfWeek));
+        }
+        return openStatus;
+    }
+
+    /**
+     * Returns compiled schedules for the given restaurants, loading every cache miss in a single query
+     */
+    private Map<Integer, WeeklySchedule> getSchedules(Collection<Integer> restaurantIds) {
+        Map<Integer, WeeklySchedule> schedules = new HashMap<>();
+        List<Integer> missing = new ArrayList<>();
+        for (Integer restaurantId : restaurantIds) {
+            WeeklySchedule cached = scheduleCache.get(restaurantId);
+            if (cached != null) {
+                schedules.put(restaurantId, cached);
+            } else if (!schedules.containsKey(restaurantId)) {
+                missing.add(restaurantId);
+                schedules.put(restaurantId, WeeklySchedule.ALWAYS_CLOSED);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            return schedules;
+        }
+
+        long generation = scheduleGeneration.get();
+        Map<Integer, List<BusinessHoursRepository.HoursRow>> rowsByRestaurant = businessHoursRepository
+                .findHoursByRestaurantIds(missing).stream()
+                .collect(Collectors.groupingBy(BusinessHoursRepository.HoursRow::getRestaurantId));
+
+        for (Integer restaurantId : missing) {
+            WeeklySchedule schedule = WeeklySchedule.compile(rowsByRestaurant.getOrDefault(restaurantId, List.of()));
+            schedules.put(restaurantId, schedule);
+            // Skip caching if hours were changed while we were reading, the next call will reload them
+            if (scheduleGeneration.get() == generation) {
+                scheduleCache.put(restaurantId, schedule);
+            }
+        }
+        return schedules;
+    }
+
+    private void evictSchedule(Integer restaurantId) {
+        scheduleGeneration.incrementAndGet();
+        scheduleCache.remove(restaurantId);
+
+        // Evict again once the change is visible to other transactions
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    scheduleGeneration.incrementAndGet();
+                    scheduleCache.remove(restaurantId);
+                }
+            });
+        }
     }
 
     private Restaurant getRestaurantById(Integer restaurantId) {
@@ -115,4 +192,67 @@ public class RestaurantConfigServiceImpl implements RestaurantConfigService {
         businessHours.setCloseTime(dto.getCloseTime());
         businessHours.setIsClosed(dto.getIsClosed());
     }
-} 
\ No newline at end of file
+
+    /**
+     * A restaurant's business hours compiled into second-of-week intervals (Monday 00:00 = 0).
+     * Hours whose close time is before the open time are treated as running past midnight.
+     */
+    private static final class WeeklySchedule {
+
+        static final WeeklySchedule ALWAYS_CLOSED = new WeeklySchedule(new int[0], new int[0]);
+
+        private final int[] starts;
+        private final int[] ends;
+
+        private WeeklySchedule(int[] starts, int[] ends) {
+            this.starts = starts;
+            this.ends = ends;
+        }
+
+        static WeeklySchedule compile(List<BusinessHoursRepository.HoursRow> rows) {
+            List<int[]> intervals = new ArrayList<>();
+            for (BusinessHoursRepository.HoursRow row : rows) {
+                if (Boolean.TRUE.equals(row.getIsClosed()) || row.getOpenTime() == null || row.getCloseTime() == null) {
+                    continue;
+                }
+                DayOfWeek day;
+                try {
+                    day = DayOfWeek.valueOf(row.getDayOfWeek().trim().toUpperCase());
+                } catch (IllegalArgumentException | NullPointerException e) {
+                    continue;
+                }
+
+                int dayStart = (day.getValue() - 1) * SECONDS_PER_DAY;
+                int open = row.getOpenTime().toSecondOfDay();
+                int close = row.getCloseTime().toSecondOfDay();
+                if (close >= open) {
+                    intervals.add(new int[]{dayStart + open, dayStart + close});
+                } else {
+                    intervals.add(new int[]{dayStart + open, dayStart + SECONDS_PER_DAY - 1});
+                    int nextDayStart = (dayStart + SECONDS_PER_DAY) % SECONDS_PER_WEEK;
+                    intervals.add(new int[]{nextDayStart, nextDayStart + close});
+                }
+            }
+
+            if (intervals.isEmpty()) {
+                return ALWAYS_CLOSED;
+            }
+            int[] starts = new int[intervals.size()];
+            int[] ends = new int[intervals.size()];
+            for (int i = 0; i < intervals.size(); i++) {
+                starts[i] = intervals.get(i)[0];
+                ends[i] = intervals.get(i)[1];
+            }
+            return new WeeklySchedule(starts, ends);
+        }
+
+        boolean isOpenAt(int secondOfWeek) {
+            for (int i = 0; i < starts.length; i++) {
+                if (secondOfWeek >= starts[i] && secondOfWeek <= ends[i]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.hufds.service.impl;
 
+import com.hufds.dto.ImageVariantsDTO;
 import com.hufds.dto.RestaurantProfileDTO;
 import com.hufds.entity.Restaurant;
 import com.hufds.exception.CustomException;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.service.RestaurantProfileService;
 import com.hufds.service.GeocodingService;
+import com.hufds.service.RestaurantLocationIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -17,6 +19,7 @@ public class RestaurantProfileServiceImpl implements RestaurantProfileService {
 
     private final RestaurantRepository restaurantRepository;
     private final GeocodingService geocodingService;
+    private final RestaurantLocationIndex restaurantLocationIndex;
 
     @Override
     public RestaurantProfileDTO getProfile(Integer restaurantId) {
@@ -50,6 +53,7 @@ public class RestaurantProfileServiceImpl implements RestaurantProfileService {
         }
         
         Restaurant updated = restaurantRepository.save(restaurant);
+        restaurantLocationIndex.refresh(updated);
         return mapToDTO(updated);
     }
 
@@ -58,7 +62,7 @@ public class RestaurantProfileServiceImpl implements RestaurantProfileService {
     public void updateAddress(Integer restaurantId, RestaurantProfileDTO.AddressDTO addressDTO) {
         Restaurant restaurant = getRestaurantById(restaurantId);
         updateAddress(restaurant, addressDTO);
-        restaurantRepository.save(restaurant);
+        restaurantLocationIndex.refresh(restaurantRepository.save(restaurant));
     }
 
     @Override
@@ -66,7 +70,7 @@ public class RestaurantProfileServiceImpl implements RestaurantProfileService {
     public void updateLocation(Integer restaurantId, RestaurantProfileDTO.LocationDTO locationDTO) {
         Restaurant restaurant = getRestaurantById(restaurantId);
         updateLocation(restaurant, locationDTO);
-        restaurantRepository.save(restaurant);
+        restaurantLocationIndex.refresh(restaurantRepository.save(restaurant));
     }
 
     private Restaurant getRestaurantById(Integer restaurantId) {
@@ -129,6 +133,7 @@ public class RestaurantProfileServiceImpl implements RestaurantProfileService {
                 .location(locationDTO)
                 .deliveryRangeKm(restaurant.getDeliveryRangeKm())
                 .profileImageUrl(restaurant.getProfileImageUrl())
+                .profileImageVariants(ImageVariantsDTO.of(restaurant.getProfileImageUrl()))
                 .build();
     }
 } 
\ No newline at end of file
@@ -1,19 +1,26 @@
 package com.hufds.service.impl;
 
+import com.hufds.dto.ImageVariantsDTO;
 import com.hufds.dto.RestaurantSearchDTO;
 import com.hufds.dto.RestaurantSearchResultDTO;
 import com.hufds.entity.Restaurant;
 import com.hufds.repository.RestaurantRepository;
+import com.hufds.repository.RestaurantSpecifications;
 import com.hufds.service.RestaurantConfigService;
+import com.hufds.service.RestaurantLocationIndex;
 import com.hufds.service.RestaurantSearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -21,91 +28,88 @@ public class RestaurantSearchServiceImpl implements RestaurantSearchService {
 
     private final RestaurantRepository restaurantRepository;
     private final RestaurantConfigService restaurantConfigService;
+    private final RestaurantLocationIndex restaurantLocationIndex;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 100;
 
     @Override
     public List<RestaurantSearchResultDTO> searchRestaurants(RestaurantSearchDTO searchDTO) {
-        List<Restaurant> restaurants = new ArrayList<>();
-
-        // If all search parameters are null, return only approved and non-deleted restaurants
-        if (isAllSearchParametersNull(searchDTO)) {
-            restaurants.addAll(restaurantRepository.findByApprovalStatusAndDeletedAtIsNull(Restaurant.ApprovalStatus.ACCEPTED));
-        } else {
-            // Basic search by name, cuisine, location
-            if (searchDTO.getName() != null) {
-                restaurants.addAll(restaurantRepository.findByNameContainingIgnoreCase(searchDTO.getName()));
-            }
-            if (searchDTO.getCuisineType() != null) {
-                restaurants.addAll(restaurantRepository.findByCuisineTypeContainingIgnoreCase(searchDTO.getCuisineType()));
-            }
-            if (searchDTO.getCity() != null) {
-                restaurants.addAll(restaurantRepository.findByCityContainingIgnoreCase(searchDTO.getCity()));
-            }
-            if (searchDTO.getState() != null) {
-                restaurants.addAll(restaurantRepository.findByStateContainingIgnoreCase(searchDTO.getState()));
-            }
-            if (searchDTO.getCountry() != null) {
-                restaurants.addAll(restaurantRepository.findByCountryContainingIgnoreCase(searchDTO.getCountry()));
-            }
-
-            // Location-based search
-            if (searchDTO.getLatitude() != null && searchDTO.getLongitude() != null && searchDTO.getMaxDistanceKm() != null) {
-                restaurants.addAll(restaurantRepository.findByLocationWithinDistance(
-                    BigDecimal.valueOf(searchDTO.getLatitude()),
-                    BigDecimal.valueOf(searchDTO.getLongitude()),
-                    searchDTO.getMaxDistanceKm()
-                ));
-            }
+        // Distance is resolved against the in-memory location index and pushed down as an id filter
+        List<Integer> nearbyIds = null;
+        if (searchDTO.getLatitude() != null && searchDTO.getLongitude() != null && searchDTO.getMaxDistanceKm() != null) {
+            nearbyIds = restaurantLocationIndex.findWithinDistance(
+                searchDTO.getLatitude(),
+                searchDTO.getLongitude(),
+                searchDTO.getMaxDistanceKm()
+            ).stream().map(RestaurantLocationIndex.Match::restaurantId).toList();
         }
 
-        // Remove duplicates and filter by additional criteria
-        return restaurants.stream()
-            .distinct()
-            // We already filter by approval status and deleted status in our query in most cases,
-            // but we'll keep these filters to ensure consistency for other search types
-            .filter(restaurant -> restaurant.getApprovalStatus() == Restaurant.ApprovalStatus.ACCEPTED)
-            .filter(restaurant -> restaurant.getDeletedAt() == null)
-            .filter(restaurant -> filterByPriceRange(restaurant, searchDTO.getMinPrice(), searchDTO.getMaxPrice()))
-            .filter(restaurant -> filterByDeliveryTime(restaurant, searchDTO.getDeliveryTime()))
-            .map(this::mapToSearchResultDTO)
+        boolean paged = searchDTO.getPage() != null || searchDTO.getSize() != null;
+        boolean openNowOnly = searchDTO.getDeliveryTime() != null;
+        Sort sort = toSort(searchDTO.getSortBy());
+
+        // Open status comes from the cached schedules rather than SQL, so with that filter every
+        // match is fetched and the page is cut afterwards; otherwise pages would come back short
+        Pageable pageable = paged && !openNowOnly ? toPageRequest(searchDTO, sort) : Pageable.unpaged(sort);
+        List<Restaurant> restaurants = restaurantRepository.findAll(
+            RestaurantSpecifications.fromSearch(searchDTO, nearbyIds),
+            pageable
+        ).getContent();
+
+        // Open status for all fetched restaurants in one call, served from the cached business hours schedules
+        Map<Integer, Boolean> openStatus = restaurantConfigService.openStatus(
+            restaurants.stream().map(Restaurant::getRestaurantId).toList(),
+            Instant.now()
+        );
+
+        Stream<Restaurant> matches = restaurants.stream()
+            .filter(restaurant -> filterByDeliveryTime(restaurant, searchDTO.getDeliveryTime(), openStatus));
+        if (paged && openNowOnly) {
+            PageRequest page = toPageRequest(searchDTO, sort);
+            matches = matches.skip(page.getOffset()).limit(page.getPageSize());
+        }
+        return matches
+            .map(restaurant -> mapToSearchResultDTO(restaurant, openStatus))
             .collect(Collectors.toList());
     }
 
-    private boolean isAllSearchParametersNull(RestaurantSearchDTO searchDTO) {
-        return searchDTO.getName() == null &&
-               searchDTO.getCuisineType() == null &&
-               searchDTO.getCity() == null &&
-               searchDTO.getState() == null &&
-               searchDTO.getCountry() == null &&
-               searchDTO.getLatitude() == null &&
-               searchDTO.getLongitude() == null &&
-               searchDTO.getMaxDistanceKm() == null;
+    private PageRequest toPageRequest(RestaurantSearchDTO searchDTO, Sort sort) {
+        int page = searchDTO.getPage() != null ? Math.max(0, searchDTO.getPage()) : 0;
+        int size = searchDTO.getSize() != null
+            ? Math.min(MAX_PAGE_SIZE, Math.max(1, searchDTO.getSize()))
+            : DEFAULT_PAGE_SIZE;
+        return PageRequest.of(page, size, sort);
     }
 
-    private boolean filterByPriceRange(Restaurant restaurant, Double minPrice, Double maxPrice) {
-        if (minPrice == null && maxPrice == null) {
-            return true;
+    private Sort toSort(String sortBy) {
+        // Restaurant id is always the last key so pages are stable between requests
+        Sort tieBreaker = Sort.by(Sort.Direction.ASC, "restaurantId");
+        if (sortBy == null) {
+            return tieBreaker;
+        }
+        switch (sortBy) {
+            case "rating":
+                return Sort.by(Sort.Direction.DESC, "rating").and(tieBreaker);
+            case "name":
+                return Sort.by(Sort.Order.asc("name").ignoreCase()).and(tieBreaker);
+            case "cuisine":
+                return Sort.by(Sort.Order.asc("cuisineType").ignoreCase().nullsLast()).and(tieBreaker);
+            default:
+                return tieBreaker;
         }
-
-        // Calculate average price from menu items
-        double averagePrice = restaurant.getMenuItems().stream()
-            .mapToDouble(item -> item.getPrice().doubleValue())
-            .average()
-            .orElse(0.0);
-
-        return (minPrice == null || averagePrice >= minPrice) &&
-               (maxPrice == null || averagePrice <= maxPrice);
     }
 
-    private boolean filterByDeliveryTime(Restaurant restaurant, String deliveryTime) {
+    private boolean filterByDeliveryTime(Restaurant restaurant, String deliveryTime, Map<Integer, Boolean> openStatus) {
         if (deliveryTime == null) {
             return true;
         }
 
         // Check if restaurant is open at the requested delivery time
-        return restaurantConfigService.isRestaurantOpen(restaurant.getRestaurantId());
+        return openStatus.getOrDefault(restaurant.getRestaurantId(), false);
     }
 
-    private RestaurantSearchResultDTO mapToSearchResultDTO(Restaurant restaurant) {
+    private RestaurantSearchResultDTO mapToSearchResultDTO(Restaurant restaurant, Map<Integer, Boolean> openStatus) {
         return RestaurantSearchResultDTO.builder()
             .restaurantId(restaurant.getRestaurantId())
             .name(restaurant.getName())
@@ -122,8 +126,12 @@ public class RestaurantSearchServiceImpl implements RestaurantSearchService {
             .deliveryRangeKm(restaurant.getDeliveryRangeKm())
             .estimatedDeliveryTime(calculateEstimatedDeliveryTime(restaurant))
             .averagePrice(calculateAveragePrice(restaurant))
-            .isOpen(restaurantConfigService.isRestaurantOpen(restaurant.getRestaurantId()))
+            .minPrice(restaurant.getMinMenuPrice())
+            .maxPrice(restaurant.getMaxMenuPrice())
+            .menuItemCount(restaurant.getMenuItemCount())
+            .isOpen(openStatus.getOrDefault(restaurant.getRestaurantId(), false))
             .profileImageUrl(restaurant.getProfileImageUrl())
+            .profileImageVariants(ImageVariantsDTO.of(restaurant.getProfileImageUrl()))
             .build();
     }
 
@@ -133,9 +141,6 @@ public class RestaurantSearchServiceImpl implements RestaurantSearchService {
     }
 
     private Double calculateAveragePrice(Restaurant restaurant) {
-        return restaurant.getMenuItems().stream()
-            .mapToDouble(item -> item.getPrice().doubleValue())
-            .average()
-            .orElse(0.0);
+        return restaurant.getAverageMenuPrice() != null ? restaurant.getAverageMenuPrice().doubleValue() : 0.0;
     }
-} 
\ No newline at end of file
+}
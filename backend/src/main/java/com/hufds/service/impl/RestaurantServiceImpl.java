@@ -8,8 +8,10 @@ import com.hufds.exception.CustomException;
 import com.hufds.repository.CourierRepository;
 import com.hufds.repository.OrderRepository;
 import com.hufds.repository.RestaurantRepository;
+import com.hufds.service.CourierDispatchService;
 import com.hufds.service.RestaurantService;
 import com.hufds.service.FileStorageService;
+import com.hufds.service.RestaurantLocationIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -36,6 +38,12 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Autowired
     private FileStorageService fileStorageService;
 
+    @Autowired
+    private RestaurantLocationIndex restaurantLocationIndex;
+
+    @Autowired
+    private CourierDispatchService courierDispatchService;
+
     @Override
     public Restaurant getRestaurantById(Integer id) {
         Restaurant restaurant = restaurantRepository.findById(id)
@@ -79,8 +87,9 @@ public class RestaurantServiceImpl implements RestaurantService {
         // Verify restaurant exists
         Restaurant restaurant = getRestaurantById(restaurantId);
         
-        // Get all available couriers
-        return courierRepository.findByStatus(Courier.CourierStatus.AVAILABLE);
+        // Get all available couriers, nearest to the restaurant first
+        return courierDispatchService.sortByDistance(restaurant,
+                courierRepository.findByStatus(Courier.CourierStatus.AVAILABLE));
     }
 
     @Override
@@ -116,7 +125,9 @@ public class RestaurantServiceImpl implements RestaurantService {
     public Restaurant updateApprovalStatus(Integer restaurantId, Restaurant.ApprovalStatus approvalStatus) {
         Restaurant restaurant = getRestaurantById(restaurantId);
         restaurant.setApprovalStatus(approvalStatus);
-        return restaurantRepository.save(restaurant);
+        Restaurant saved = restaurantRepository.save(restaurant);
+        restaurantLocationIndex.refresh(saved);
+        return saved;
     }
 
     @Override
@@ -0,0 +1,148 @@
+package com.hufds.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniform lat/lon grid for radius queries over points that move or disappear.
+ * Radius queries only visit the cells overlapping the search area and then run an
+ * exact Haversine check on the candidates found there. Reads are lock-free; writers
+ * are serialized.
+ *
+ * @param <K> key of the indexed points
+ */
+public class GeoGrid<K> {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final double cellSizeDegrees;
+    private final int lonCells;
+
+    private final Map<Long, Set<K>> cells = new ConcurrentHashMap<>();
+    private final Map<K, Point> points = new ConcurrentHashMap<>();
+
+    /**
+     * Point key with its distance (km) from the query point
+     */
+    public record Match<K>(K key, double distanceKm) {
+    }
+
+    private record Point(double latitude, double longitude, long cellKey) {
+    }
+
+    public GeoGrid(double cellSizeDegrees) {
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.lonCells = (int) Math.ceil(360 / cellSizeDegrees);
+    }
+
+    /**
+     * Adds a point or moves it to new coordinates
+     */
+    public synchronized void put(K key, double latitude, double longitude) {
+        Point point = new Point(latitude, longitude, cellKey(latitude, longitude));
+        Point previous = points.put(key, point);
+        if (previous != null && previous.cellKey() != point.cellKey()) {
+            removeFromCell(previous.cellKey(), key);
+        }
+        cells.computeIfAbsent(point.cellKey(), cell -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    public synchronized void remove(K key) {
+        Point previous = points.remove(key);
+        if (previous != null) {
+            removeFromCell(previous.cellKey(), key);
+        }
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        points.clear();
+    }
+
+    public boolean contains(K key) {
+        return points.containsKey(key);
+    }
+
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * Finds points within the given radius, ordered from nearest to farthest
+     */
+    public List<Match<K>> findWithinDistance(double latitude, double longitude, double maxDistanceKm) {
+        List<Match<K>> matches = new ArrayList<>();
+        if (maxDistanceKm < 0) {
+            return matches;
+        }
+
+        double latDelta = maxDistanceKm / KM_PER_DEGREE_LAT;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+
+        // Widen the longitude span by the narrowest parallel touched by the search box
+        double widestLat = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double cosLat = Math.cos(Math.toRadians(widestLat));
+        double lonDelta = cosLat < 1e-6 ? 180 : Math.min(180, maxDistanceKm / (KM_PER_DEGREE_LAT * cosLat));
+
+        int minLatCell = latCell(minLat);
+        int maxLatCell = latCell(maxLat);
+        int minLonCell = lonCell(longitude - lonDelta);
+        int lonCellSpan = lonDelta >= 180 ? lonCells - 1 : lonCell(longitude + lonDelta) - minLonCell;
+        if (lonCellSpan < 0) {
+            lonCellSpan += lonCells; // search box wraps around the antimeridian
+        }
+
+        for (int latIndex = minLatCell; latIndex <= maxLatCell; latIndex++) {
+            for (int step = 0; step <= lonCellSpan; step++) {
+                int lonIndex = (minLonCell + step) % lonCells;
+                Set<K> cell = cells.get(key(latIndex, lonIndex));
+                if (cell == null) {
+                    continue;
+                }
+                for (K key : cell) {
+                    Point point = points.get(key);
+                    if (point == null) {
+                        continue;
+                    }
+                    double distance = GeolocationUtil.calculateDistance(
+                            latitude, longitude, point.latitude(), point.longitude());
+                    if (distance <= maxDistanceKm) {
+                        matches.add(new Match<>(key, distance));
+                    }
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(Match::distanceKm));
+        return matches;
+    }
+
+    private void removeFromCell(long cellKey, K key) {
+        cells.computeIfPresent(cellKey, (cell, members) -> {
+            members.remove(key);
+            return members.isEmpty() ? null : members;
+        });
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(latCell(latitude), lonCell(longitude));
+    }
+
+    private long key(int latIndex, int lonIndex) {
+        return (long) latIndex * lonCells + lonIndex;
+    }
+
+    private int latCell(double latitude) {
+        return (int) Math.floor((latitude + 90) / cellSizeDegrees);
+    }
+
+    private int lonCell(double longitude) {
+        double normalized = ((longitude + 180) % 360 + 360) % 360;
+        return Math.min(lonCells - 1, (int) Math.floor(normalized / cellSizeDegrees));
+    }
+}
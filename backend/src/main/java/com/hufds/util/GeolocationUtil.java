@@ -24,16 +24,30 @@ public class GeolocationUtil {
             return -1;
         }
 
-        double dLat = Math.toRadians(lat2.doubleValue() - lat1.doubleValue());
-        double dLon = Math.toRadians(lon2.doubleValue() - lon1.doubleValue());
+        return calculateDistance(lat1.doubleValue(), lon1.doubleValue(), lat2.doubleValue(), lon2.doubleValue());
+    }
+
+    /**
+     * Calculate distance between two points using the Haversine formula.
+     * Primitive variant used on hot paths (spatial index lookups) to avoid boxing.
+     *
+     * @param lat1 latitude of first point
+     * @param lon1 longitude of first point
+     * @param lat2 latitude of second point
+     * @param lon2 longitude of second point
+     * @return distance in kilometers
+     */
+    public static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
 
         double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1.doubleValue())) * 
-                   Math.cos(Math.toRadians(lat2.doubleValue())) *
+                   Math.cos(Math.toRadians(lat1)) *
+                   Math.cos(Math.toRadians(lat2)) *
                    Math.sin(dLon / 2) * Math.sin(dLon / 2);
 
         double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
+
         return EARTH_RADIUS_KM * c;
     }
     
@@ -52,11 +66,6 @@ public class GeolocationUtil {
             return -1;
         }
 
-        return calculateDistance(
-            BigDecimal.valueOf(lat1),
-            BigDecimal.valueOf(lon1),
-            BigDecimal.valueOf(lat2),
-            BigDecimal.valueOf(lon2)
-        );
+        return calculateDistance(lat1.doubleValue(), lon1.doubleValue(), lat2.doubleValue(), lon2.doubleValue());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.hufds.util;
+
+import java.util.Optional;
+
+/**
+ * Resized copies kept next to every uploaded image. A variant's file name is the original
+ * name with a size suffix before the extension, e.g. {uuid}-card.jpg for {uuid}.jpg.
+ */
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 160),
+    CARD("card", 480),
+    DETAIL("detail", 1080);
+
+    private final String suffix;
+    private final int maxWidth;
+
+    ImageVariant(String suffix, int maxWidth) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Name or URL of this variant for the given original name or URL
+     */
+    public String nameFor(String original) {
+        int dot = original.lastIndexOf('.');
+        if (dot < original.lastIndexOf('/') + 1) {
+            return original + "-" + suffix;
+        }
+        return original.substring(0, dot) + "-" + suffix + original.substring(dot);
+    }
+
+    /**
+     * Name of the original image when the given file name is one of its variants
+     */
+    public static Optional<String> originalNameOf(String fileName) {
+        for (ImageVariant variant : values()) {
+            String marker = "-" + variant.suffix;
+            int dot = fileName.lastIndexOf('.');
+            int end = dot < 0 ? fileName.length() : dot;
+            if (end > marker.length() && fileName.startsWith(marker, end - marker.length())) {
+                return Optional.of(fileName.substring(0, end - marker.length()) + fileName.substring(end));
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.hufds.util;
+
+import com.hufds.exception.CustomException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a history list sorted newest first by (time, id). The id breaks ties
+ * between rows created in the same instant, so the order is stable across pages.
+ * Clients get it back as an opaque string and pass it to fetch the next page.
+ * The id is a long so tables with bigint keys such as messages fit as well.
+ */
+public record KeysetCursor(LocalDateTime time, long id) {
+
+    // Starts before every real row; far enough ahead without overflowing a database timestamp
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE);
+
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new CustomException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * The id for tables with integer keys; ids beyond the integer range, such as the first
+     * cursor's, are capped since they sort after every integer key anyway
+     */
+    public Integer intId() {
+        return (int) Math.min(Math.max(id, Integer.MIN_VALUE), Integer.MAX_VALUE);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((time + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Requested page size, defaulting when absent and capped at the maximum
+     */
+    public static int pageSize(Integer requested, int defaultSize, int maxSize) {
+        if (requested == null || requested < 1) {
+            return defaultSize;
+        }
+        return Math.min(requested, maxSize);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hufds.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Compact, fixed-size key for a JWT, so caches and blacklists never hold the raw token
+ */
+public class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * URL-safe Base64 of the token's SHA-256 (43 characters)
+     */
+    public static String of(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
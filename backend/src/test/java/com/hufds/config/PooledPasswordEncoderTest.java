@@ -0,0 +1,79 @@
+package com.hufds.config;
+
+import com.hufds.exception.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class PooledPasswordEncoderTest {
+
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    void matches_DelegatesToWrappedEncoder() {
+        // Arrange
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        encoder = new PooledPasswordEncoder(bcrypt, 1, 1);
+        String hash = encoder.encode("Test@123");
+
+        // Act & Assert
+        assertTrue(encoder.matches("Test@123", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(3, encoder.getStats().completed());
+    }
+
+    @Test
+    void upgradeEncoding_TrueWhenStoredCostIsLower() {
+        // Arrange
+        String weakHash = new BCryptPasswordEncoder(4).encode("Test@123");
+        encoder = new PooledPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1);
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(weakHash));
+    }
+
+    @Test
+    void encode_ThrowsTooManyRequests_WhenPoolIsSaturated() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slow = mock(PasswordEncoder.class);
+        when(slow.encode(any())).thenAnswer(invocation -> {
+            release.await();
+            return "hash";
+        });
+        encoder = new PooledPasswordEncoder(slow, 1, 1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        callers.submit(() -> encoder.encode("first"));
+        callers.submit(() -> encoder.encode("second"));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (encoder.getStats().queued() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // Act
+        CustomException exception = assertThrows(CustomException.class, () -> encoder.encode("third"));
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getStatus());
+        assertEquals(1, encoder.getStats().rejected());
+        release.countDown();
+        callers.shutdown();
+        assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,90 @@
+package com.hufds.controller;
+
+import com.hufds.dto.BroadcastMessageRequestDTO;
+import com.hufds.entity.Message;
+import com.hufds.exception.CustomException;
+import com.hufds.service.BroadcastMessageService;
+import com.hufds.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminMessageControllerTest {
+
+    @Mock
+    private BroadcastMessageService broadcastMessageService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private AdminMessageController adminMessageController;
+
+    private BroadcastMessageRequestDTO dto;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        dto = BroadcastMessageRequestDTO.builder()
+                .audience(BroadcastMessageRequestDTO.Audience.CUSTOMERS)
+                .messageContent("Service update tonight")
+                .messageType(Message.MessageType.WARNING)
+                .build();
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void broadcast_ShouldRejectNonAdmin() {
+        // Arrange
+        authenticateAs("customer");
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> adminMessageController.broadcast(dto, request));
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verifyNoInteractions(broadcastMessageService);
+    }
+
+    @Test
+    void broadcast_ShouldSendAsAuthenticatedAdmin() {
+        // Arrange
+        authenticateAs("admin");
+        when(jwtService.extractUserId("token")).thenReturn(7);
+        when(broadcastMessageService.broadcast(7, dto)).thenReturn("broadcast-1");
+
+        // Act
+        ResponseEntity<Map<String, String>> response = adminMessageController.broadcast(dto, request);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("broadcast-1", response.getBody().get("broadcastId"));
+    }
+
+    private void authenticateAs(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+    }
+}
@@ -0,0 +1,59 @@
+package com.hufds.controller;
+
+import com.hufds.config.PooledPasswordEncoder;
+import com.hufds.service.LoginMetrics;
+import com.hufds.service.TokenBlacklistService;
+import com.hufds.service.UploadedFileService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminMetricsControllerTest {
+
+    @Mock
+    private PooledPasswordEncoder passwordEncoder;
+
+    @Mock
+    private LoginMetrics loginMetrics;
+
+    @Mock
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Mock
+    private UploadedFileService uploadedFileService;
+
+    @InjectMocks
+    private AdminMetricsController adminMetricsController;
+
+    @Test
+    void getMetrics_ShouldIncludeEveryServicesFigures() {
+        // Arrange
+        LoginMetrics.Stats logins = new LoginMetrics.Stats(10, 2, 120, 400);
+        PooledPasswordEncoder.Stats hashing = new PooledPasswordEncoder.Stats(1, 0, 12, 0, 90, 300);
+        TokenBlacklistService.Stats blacklist = new TokenBlacklistService.Stats(5, 1, 3);
+        when(loginMetrics.getStats()).thenReturn(logins);
+        when(passwordEncoder.getStats()).thenReturn(hashing);
+        UploadedFileService.Stats uploads = new UploadedFileService.Stats(20, 8, 4096, 6);
+        when(tokenBlacklistService.getStats()).thenReturn(blacklist);
+        when(uploadedFileService.getStats()).thenReturn(uploads);
+
+        // Act
+        ResponseEntity<Map<String, Object>> response = adminMetricsController.getMetrics();
+
+        // Assert
+        Map<String, Object> metrics = response.getBody();
+        assertEquals(logins, metrics.get("logins"));
+        assertEquals(hashing, metrics.get("passwordHashing"));
+        assertEquals(blacklist, metrics.get("tokenBlacklist"));
+        assertEquals(uploads, metrics.get("uploadedFiles"));
+    }
+}
@@ -63,7 +63,7 @@ public class MenuItemSearchControllerTest {
 
         // Act
         ResponseEntity<List<MenuItemSearchResultDTO>> response = menuItemSearchController.searchMenuItems(
-                "Spaghetti", "Pasta", new BigDecimal("10.00"), new BigDecimal("20.00"), true, 1);
+                "Spaghetti", "Pasta", new BigDecimal("10.00"), new BigDecimal("20.00"), true, 1, null, null);
 
         // Assert
         assertNotNull(response);
@@ -107,7 +107,7 @@ public class MenuItemSearchControllerTest {
 
         // Act
         ResponseEntity<List<MenuItemSearchResultDTO>> response = menuItemSearchController.searchMenuItems(
-                "NonExistent", null, null, null, null, 1);
+                "NonExistent", null, null, null, null, 1, null, null);
 
         // Assert
         assertNotNull(response);
@@ -125,7 +125,7 @@ public class MenuItemSearchControllerTest {
 
         // Act
         ResponseEntity<List<MenuItemSearchResultDTO>> response = menuItemSearchController.searchMenuItems(
-                null, null, null, null, null, null);
+                null, null, null, null, null, null, null, null);
 
         // Assert
         assertNotNull(response);
@@ -0,0 +1,62 @@
+package com.hufds.controller;
+
+import com.hufds.dto.BulkMessageRequestDTO;
+import com.hufds.exception.CustomException;
+import com.hufds.service.JwtService;
+import com.hufds.service.MessageService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MessageControllerTest {
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private MessageController messageController;
+
+    @Test
+    void markAllAsRead_ShouldUseReceiverFromToken() {
+        // Arrange
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.addHeader("Authorization", "Bearer token");
+        BulkMessageRequestDTO request = BulkMessageRequestDTO.builder().messageIds(List.of(10L)).build();
+        when(jwtService.extractUserId("token")).thenReturn(5);
+        when(jwtService.extractUserType("token")).thenReturn("courier");
+        when(messageService.markAllAsRead(5L, "courier", request)).thenReturn(1);
+
+        // Act
+        ResponseEntity<Map<String, Integer>> response = messageController.markAllAsRead(request, httpRequest);
+
+        // Assert
+        assertEquals(1, response.getBody().get("affected"));
+    }
+
+    @Test
+    void deleteAll_ShouldRejectMissingToken() {
+        // Arrange
+        BulkMessageRequestDTO request = BulkMessageRequestDTO.builder().messageIds(List.of(10L)).build();
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> messageController.deleteAll(request, new MockHttpServletRequest()));
+        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatus());
+        verifyNoInteractions(messageService);
+    }
+}
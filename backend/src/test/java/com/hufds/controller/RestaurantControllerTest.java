@@ -0,0 +1,133 @@
+package com.hufds.controller;
+
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.dto.OrderResponseDTO;
+import com.hufds.entity.CourierAssignment;
+import com.hufds.exception.CustomException;
+import com.hufds.service.CourierAssignmentService;
+import com.hufds.service.JwtService;
+import com.hufds.service.OrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RestaurantControllerTest {
+
+    @Mock
+    private CourierAssignmentService courierAssignmentService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private JwtService jwtService;
+
+    @InjectMocks
+    private RestaurantController restaurantController;
+
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requestNearestCourierForOrder_ShouldRejectNonRestaurant() {
+        // Arrange
+        authenticateAs("customer");
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> restaurantController.requestNearestCourierForOrder(7, 101, request));
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verifyNoInteractions(courierAssignmentService);
+    }
+
+    @Test
+    void requestNearestCourierForOrder_ShouldRejectOtherRestaurant() {
+        // Arrange
+        authenticateAs("restaurant");
+        when(jwtService.extractUserId("token")).thenReturn(8);
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> restaurantController.requestNearestCourierForOrder(7, 101, request));
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verifyNoInteractions(courierAssignmentService);
+    }
+
+    @Test
+    void requestNearestCourierForOrder_ShouldAssignForOwnRestaurant() {
+        // Arrange
+        authenticateAs("restaurant");
+        when(jwtService.extractUserId("token")).thenReturn(7);
+        CourierAssignment assignment = new CourierAssignment();
+        when(courierAssignmentService.assignOrderToCourier(argThat(dto ->
+                dto.getOrderId() == 101 && dto.getRestaurantId() == 7 && dto.getCourierId() == null)))
+                .thenReturn(assignment);
+
+        // Act
+        ResponseEntity<?> response = restaurantController.requestNearestCourierForOrder(7, 101, request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(assignment, response.getBody());
+    }
+
+    @Test
+    void getRestaurantOrderHistory_ShouldRejectOtherRestaurant() {
+        // Arrange
+        authenticateAs("restaurant");
+        when(jwtService.extractUserId("token")).thenReturn(8);
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> restaurantController.getRestaurantOrderHistory(7, null, null, request));
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void getRestaurantOrderHistory_ShouldReturnOwnHistory() {
+        // Arrange
+        authenticateAs("restaurant");
+        when(jwtService.extractUserId("token")).thenReturn(7);
+        CursorPageDTO<OrderResponseDTO> page = CursorPageDTO.<OrderResponseDTO>builder().items(List.of()).build();
+        when(orderService.getRestaurantOrderPage(7, "abc", 10)).thenReturn(page);
+
+        // Act
+        ResponseEntity<CursorPageDTO<OrderResponseDTO>> response =
+                restaurantController.getRestaurantOrderHistory(7, "abc", 10, request);
+
+        // Assert
+        assertSame(page, response.getBody());
+    }
+
+    private void authenticateAs(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "user@example.com", null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+    }
+}
@@ -57,7 +57,8 @@ public class RestaurantSearchControllerTest {
         // Act
         ResponseEntity<List<RestaurantSearchResultDTO>> response = restaurantSearchController.searchRestaurants(
             "Mama", "Italian", "New York", "NY", "USA",
-            10.0, 50.0, "12:00", 40.7128, -74.0060, 5
+            10.0, 50.0, "12:00", 40.7128, -74.0060, 5,
+            null, null, null, null
         );
 
         // Assert
@@ -101,7 +102,8 @@ public class RestaurantSearchControllerTest {
         // Act
         ResponseEntity<List<RestaurantSearchResultDTO>> response = restaurantSearchController.searchRestaurants(
             "NonExistent", null, null, null, null,
-            null, null, null, null, null, null
+            null, null, null, null, null, null,
+            null, null, null, null
         );
 
         // Assert
@@ -120,7 +122,8 @@ public class RestaurantSearchControllerTest {
         // Act
         ResponseEntity<List<RestaurantSearchResultDTO>> response = restaurantSearchController.searchRestaurants(
             null, null, null, null, null,
-            null, null, null, null, null, null
+            null, null, null, null, null, null,
+            null, null, null, null
         );
 
         // Assert
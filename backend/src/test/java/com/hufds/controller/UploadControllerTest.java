@@ -0,0 +1,123 @@
+package com.hufds.controller;
+
+import com.hufds.exception.ResourceNotFoundException;
+import com.hufds.service.FileStorageService;
+import com.hufds.service.UploadedFileService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UploadControllerTest {
+
+    private static final String FILENAME = "3f2b8c1e-4d5a-4b6c-8e7f-9a0b1c2d3e4f.jpg";
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private UploadedFileService uploadedFileService;
+    private UploadController uploadController;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path file = uploadDir.resolve(FILENAME);
+        Files.write(file, "0123456789".getBytes(StandardCharsets.UTF_8));
+        when(fileStorageService.getFile("menu-items/" + FILENAME)).thenReturn(new FileSystemResource(file));
+        uploadedFileService = new UploadedFileService();
+        uploadController = new UploadController(fileStorageService, uploadedFileService);
+    }
+
+    @Test
+    void getUpload_ShouldStreamWholeFile_WithImmutableCaching() throws Exception {
+        // Act
+        ResponseEntity<?> response = uploadController.getUpload("menu-items", FILENAME, new HttpHeaders());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, response.getHeaders().getContentLength());
+        assertNotNull(response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getCacheControl().contains("immutable"));
+        assertEquals(10, uploadedFileService.getStats().bytesServed());
+    }
+
+    @Test
+    void getUpload_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        // Arrange
+        String etag = uploadController.getUpload("menu-items", FILENAME, new HttpHeaders()).getHeaders().getETag();
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(etag);
+
+        // Act
+        ResponseEntity<?> response = uploadController.getUpload("menu-items", FILENAME, requestHeaders);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(1, uploadedFileService.getStats().notModified());
+    }
+
+    @Test
+    void getUpload_ShouldReturnPartialContent_ForRange() throws Exception {
+        // Arrange
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.RANGE, "bytes=2-5");
+
+        // Act
+        ResponseEntity<?> response = uploadController.getUpload("menu-items", FILENAME, requestHeaders);
+
+        // Assert
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        ResourceRegion region = (ResourceRegion) response.getBody();
+        assertEquals(2, region.getPosition());
+        assertEquals(4, region.getCount());
+        assertEquals(4, uploadedFileService.getStats().bytesServed());
+    }
+
+    @Test
+    void getUpload_ShouldReturnRangeNotSatisfiable_ForRangePastEnd() throws Exception {
+        // Arrange
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.set(HttpHeaders.RANGE, "bytes=50-60");
+
+        // Act
+        ResponseEntity<?> response = uploadController.getUpload("menu-items", FILENAME, requestHeaders);
+
+        // Assert
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, response.getStatusCode());
+        assertEquals("bytes */10", response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    void getUpload_ShouldServeOriginalBriefly_WhenVariantIsNotGeneratedYet() throws Exception {
+        // Arrange
+        String cardName = "3f2b8c1e-4d5a-4b6c-8e7f-9a0b1c2d3e4f-card.jpg";
+        when(fileStorageService.getFile("menu-items/" + cardName))
+                .thenThrow(new ResourceNotFoundException("File not found"));
+
+        // Act
+        ResponseEntity<?> response = uploadController.getUpload("menu-items", cardName, new HttpHeaders());
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10, response.getHeaders().getContentLength());
+        assertFalse(response.getHeaders().getCacheControl().contains("immutable"));
+    }
+}
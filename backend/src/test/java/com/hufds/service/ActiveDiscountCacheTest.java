@@ -0,0 +1,90 @@
+package com.hufds.service;
+
+import com.hufds.entity.Coupon;
+import com.hufds.entity.Promotion;
+import com.hufds.repository.CouponRepository;
+import com.hufds.repository.PromotionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ActiveDiscountCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private PromotionRepository promotionRepository;
+
+    @InjectMocks
+    private ActiveDiscountCache activeDiscountCache;
+
+    private Coupon coupon(Long id, String name, int quota, int usageCount, LocalDate endDate) {
+        return Coupon.builder()
+                .id(id)
+                .name(name)
+                .discountAmount(BigDecimal.TEN)
+                .minOrderAmount(BigDecimal.ZERO)
+                .quota(quota)
+                .usageCount(usageCount)
+                .endDate(endDate)
+                .isActive(true)
+                .build();
+    }
+
+    @Test
+    void findActiveCoupon_LoadsOnceAndMatchesCodeIgnoringCase() {
+        // Arrange
+        when(couponRepository.findAllActive()).thenReturn(List.of(coupon(1L, "SAVE10", -1, 0, null)));
+
+        // Act
+        assertTrue(activeDiscountCache.findActiveCoupon("save10").isPresent());
+        assertTrue(activeDiscountCache.findActiveCoupon("SAVE1").isEmpty());
+        assertTrue(activeDiscountCache.findActiveCoupon(1L).isPresent());
+
+        // Assert
+        verify(couponRepository, times(1)).findAllActive();
+    }
+
+    @Test
+    void findActiveCoupon_SkipsEndedAndExhaustedCoupons() {
+        // Arrange
+        when(couponRepository.findAllActive()).thenReturn(List.of(
+                coupon(1L, "ENDED", -1, 0, LocalDate.now().minusDays(1)),
+                coupon(2L, "LASTONE", 2, 1, null)));
+
+        // Act & Assert
+        assertTrue(activeDiscountCache.findActiveCoupon("ENDED").isEmpty());
+        assertTrue(activeDiscountCache.findActiveCoupon("LASTONE").isPresent());
+        activeDiscountCache.recordRedemption(2L);
+        assertTrue(activeDiscountCache.findActiveCoupon("LASTONE").isEmpty());
+    }
+
+    @Test
+    void invalidatePromotions_ReloadsOnNextRead() {
+        // Arrange
+        Promotion promotion = Promotion.builder().id(3L).name("Weekend").discountPercentage(15.0).isActive(true).build();
+        when(promotionRepository.findByIsActiveAndDeletedAtIsNull(true))
+                .thenReturn(List.of(promotion))
+                .thenReturn(List.of());
+
+        // Act
+        assertEquals(1, activeDiscountCache.getActivePromotions().size());
+        assertTrue(activeDiscountCache.findActivePromotion(3L).isPresent());
+        activeDiscountCache.invalidatePromotions();
+
+        // Assert
+        assertTrue(activeDiscountCache.getActivePromotions().isEmpty());
+        verify(promotionRepository, times(2)).findByIsActiveAndDeletedAtIsNull(true);
+    }
+}
@@ -0,0 +1,85 @@
+package com.hufds.service;
+
+import com.hufds.repository.CourierRepository;
+import com.hufds.repository.CustomerRepository;
+import com.hufds.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BanCheckServiceTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CourierRepository courierRepository;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @InjectMocks
+    private BanCheckService banCheckService;
+
+    @Test
+    void releaseExpiredBans_BulkReleasesDueBansAndSchedulesNext() {
+        // Arrange
+        LocalDateTime nextBanEnd = LocalDateTime.now().plusHours(2);
+        when(customerRepository.findEmailsWithBanEndedBy(any(LocalDateTime.class))).thenReturn(List.of("customer@example.com"));
+        when(customerRepository.releaseBansEndedBy(any(LocalDateTime.class))).thenReturn(1);
+        when(restaurantRepository.findEmailsWithBanEndedBy(any(LocalDateTime.class))).thenReturn(List.of());
+        when(courierRepository.findEmailsWithBanEndedBy(any(LocalDateTime.class))).thenReturn(List.of());
+        when(courierRepository.findEarliestBanOpenDate()).thenReturn(nextBanEnd);
+
+        // Act
+        banCheckService.releaseExpiredBans();
+
+        // Assert
+        verify(userStatusCache).invalidate("customer", "customer@example.com");
+        verify(restaurantRepository, never()).releaseBansEndedBy(any());
+        verify(courierRepository, never()).releaseBansEndedBy(any());
+        verify(taskScheduler).schedule(any(Runnable.class), eq(toInstant(nextBanEnd)));
+    }
+
+    @Test
+    void banScheduled_OnlyReschedulesForEarlierBanEnd() {
+        // Arrange
+        ScheduledFuture<?> future = mock(ScheduledFuture.class);
+        doReturn(future).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        LocalDateTime inOneHour = LocalDateTime.now().plusHours(1);
+
+        // Act
+        banCheckService.banScheduled(inOneHour);
+        banCheckService.banScheduled(inOneHour.plusHours(1));
+        banCheckService.banScheduled(inOneHour.minusMinutes(30));
+
+        // Assert
+        verify(taskScheduler).schedule(any(Runnable.class), eq(toInstant(inOneHour)));
+        verify(taskScheduler).schedule(any(Runnable.class), eq(toInstant(inOneHour.minusMinutes(30))));
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+        verify(future).cancel(false);
+    }
+
+    private static Instant toInstant(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant();
+    }
+}
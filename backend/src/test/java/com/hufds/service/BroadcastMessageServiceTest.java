@@ -0,0 +1,101 @@
+package com.hufds.service;
+
+import com.hufds.dto.BroadcastMessageRequestDTO;
+import com.hufds.entity.Message;
+import com.hufds.exception.CustomException;
+import com.hufds.repository.AdminRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BroadcastMessageServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private UnreadMessageCounter unreadMessageCounter;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @InjectMocks
+    private BroadcastMessageService broadcastMessageService;
+
+    private BroadcastMessageRequestDTO request;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(broadcastMessageService, "chunkSize", 2);
+        request = BroadcastMessageRequestDTO.builder()
+                .audience(BroadcastMessageRequestDTO.Audience.COURIERS)
+                .messageContent("Service update tonight")
+                .messageType(Message.MessageType.WARNING)
+                .build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void fanOut_ShouldInsertOneBatchPerChunk_UntilRecipientsRunOut() {
+        // Arrange
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any()))
+                .thenAnswer(invocation -> {
+                    long afterId = invocation.getArgument(2);
+                    RowMapper<Object> mapper = invocation.getArgument(1);
+                    ResultSet rs = mock(ResultSet.class);
+                    if (afterId == 0) {
+                        when(rs.getLong(1)).thenReturn(3L, 5L);
+                        when(rs.getString(2)).thenReturn("Ali", "Ayse");
+                        return List.of(mapper.mapRow(rs, 0), mapper.mapRow(rs, 1));
+                    }
+                    when(rs.getLong(1)).thenReturn(8L);
+                    when(rs.getString(2)).thenReturn("Mehmet");
+                    return List.of(mapper.mapRow(rs, 0));
+                });
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // Act
+        broadcastMessageService.fanOut("broadcast-1", new BroadcastMessageService.Sender(1L, "Admin"), request);
+
+        // Assert
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(0L), eq(2));
+        verify(jdbcTemplate).query(anyString(), any(RowMapper.class), eq(5L), eq(2));
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        verify(unreadMessageCounter, times(2)).invalidateAll(Message.UserType.COURIER);
+    }
+
+    @Test
+    void broadcast_ShouldReject_CityForNonRestaurantAudience() {
+        // Arrange
+        request.setCity("Ankara");
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> broadcastMessageService.broadcast(1, request));
+        assertTrue(exception.getMessage().contains("City"));
+        verifyNoInteractions(jdbcTemplate, transactionTemplate, adminRepository);
+    }
+}
@@ -13,10 +13,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +37,9 @@ public class CourierAuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private LoginMetrics loginMetrics = new LoginMetrics();
+
     @InjectMocks
     private CourierAuthServiceImpl courierAuthService;
 
@@ -143,4 +148,20 @@ public class CourierAuthServiceTest {
         assertEquals("Invalid email or password", exception.getMessage());
         assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void login_ShouldNotRehashPassword_WhenCourierIsBanned() {
+        // Arrange
+        testCourier.setIsBanned(true);
+        testCourier.setBanOpenDate(LocalDateTime.now().plusDays(1));
+        when(courierRepository.findByEmail(any())).thenReturn(Optional.of(testCourier));
+        when(passwordEncoder.matches(any(), any())).thenReturn(true);
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> courierAuthService.login(loginDTO));
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verify(passwordEncoder, never()).upgradeEncoding(any());
+        verify(courierRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.hufds.service;
+
+import com.hufds.entity.Courier;
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.CourierRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CourierDispatchServiceTest {
+
+    @Mock
+    private CourierLocationIndex courierLocationIndex;
+
+    @Mock
+    private CourierRepository courierRepository;
+
+    @InjectMocks
+    private CourierDispatchService courierDispatchService;
+
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        restaurant = new Restaurant();
+        restaurant.setRestaurantId(1);
+        restaurant.setLatitude(new BigDecimal("39.920800"));
+        restaurant.setLongitude(new BigDecimal("32.854100"));
+    }
+
+    @Test
+    void findNearestAvailableCourier_ShouldPickNearestDispatchableCourier() {
+        // Arrange
+        Courier busy = courier(1, Courier.CourierStatus.UNAVAILABLE);
+        Courier next = courier(2, Courier.CourierStatus.AVAILABLE);
+        when(courierLocationIndex.findNearest(anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                new CourierLocationIndex.Candidate(1, 0.5),
+                new CourierLocationIndex.Candidate(2, 1.5)));
+        when(courierRepository.findAllById(List.of(1, 2))).thenReturn(List.of(busy, next));
+
+        // Act
+        Optional<Courier> result = courierDispatchService.findNearestAvailableCourier(restaurant, Set.of());
+
+        // Assert
+        assertEquals(2, result.orElseThrow().getCourierId());
+        verify(courierLocationIndex).setAvailable(1, false);
+        verify(courierRepository, never()).findByStatus(any());
+    }
+
+    @Test
+    void findNearestAvailableCourier_ShouldSkipExcludedCouriers() {
+        // Arrange
+        Courier next = courier(2, Courier.CourierStatus.AVAILABLE);
+        when(courierLocationIndex.findNearest(anyDouble(), anyDouble(), anyInt())).thenReturn(List.of(
+                new CourierLocationIndex.Candidate(1, 0.5),
+                new CourierLocationIndex.Candidate(2, 1.5)));
+        when(courierRepository.findAllById(List.of(2))).thenReturn(List.of(next));
+
+        // Act
+        Optional<Courier> result = courierDispatchService.findNearestAvailableCourier(restaurant, Set.of(1));
+
+        // Assert
+        assertEquals(2, result.orElseThrow().getCourierId());
+    }
+
+    @Test
+    void findNearestAvailableCourier_ShouldFallBack_WhenNoPositionIsKnown() {
+        // Arrange
+        Courier fallback = courier(3, Courier.CourierStatus.AVAILABLE);
+        when(courierLocationIndex.findNearest(anyDouble(), anyDouble(), anyInt())).thenReturn(List.of());
+        when(courierRepository.findTop10ByStatusAndIsBannedFalseAndDeletedAtIsNullOrderByCourierIdAsc(
+                Courier.CourierStatus.AVAILABLE)).thenReturn(List.of(fallback));
+
+        // Act
+        Optional<Courier> result = courierDispatchService.findNearestAvailableCourier(restaurant, Set.of());
+
+        // Assert
+        assertEquals(3, result.orElseThrow().getCourierId());
+    }
+
+    @Test
+    void sortByDistance_ShouldPutCouriersWithoutPositionLast() {
+        // Arrange
+        Courier unknown = courier(1, Courier.CourierStatus.AVAILABLE);
+        Courier far = courier(2, Courier.CourierStatus.AVAILABLE);
+        Courier near = courier(3, Courier.CourierStatus.AVAILABLE);
+        when(courierLocationIndex.distanceTo(eq(1), anyDouble(), anyDouble())).thenReturn(OptionalDouble.empty());
+        when(courierLocationIndex.distanceTo(eq(2), anyDouble(), anyDouble())).thenReturn(OptionalDouble.of(8.0));
+        when(courierLocationIndex.distanceTo(eq(3), anyDouble(), anyDouble())).thenReturn(OptionalDouble.of(1.0));
+
+        // Act
+        List<Courier> sorted = courierDispatchService.sortByDistance(restaurant, List.of(unknown, far, near));
+
+        // Assert
+        assertEquals(List.of(3, 2, 1), sorted.stream().map(Courier::getCourierId).toList());
+    }
+
+    private Courier courier(Integer id, Courier.CourierStatus status) {
+        Courier courier = new Courier();
+        courier.setCourierId(id);
+        courier.setStatus(status);
+        return courier;
+    }
+}
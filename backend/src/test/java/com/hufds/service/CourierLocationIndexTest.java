@@ -0,0 +1,88 @@
+package com.hufds.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CourierLocationIndexTest {
+
+    private CourierLocationIndex courierLocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        courierLocationIndex = new CourierLocationIndex();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void findNearest_ShouldReturnClosestAvailableCouriersFirst() {
+        // Arrange
+        courierLocationIndex.updateLocation(1, 39.9250, 32.8600, true);   // ~0.7 km from Kizilay
+        courierLocationIndex.updateLocation(2, 39.8669, 32.7346, true);   // Beytepe, ~12 km
+        courierLocationIndex.updateLocation(3, 39.9210, 32.8545, false);  // closest but busy
+        courierLocationIndex.updateLocation(4, 41.0082, 28.9784, true);   // Istanbul
+
+        // Act
+        List<CourierLocationIndex.Candidate> candidates = courierLocationIndex.findNearest(39.9208, 32.8541, 2);
+
+        // Assert
+        assertEquals(2, candidates.size());
+        assertEquals(1, candidates.get(0).courierId());
+        assertEquals(2, candidates.get(1).courierId());
+    }
+
+    @Test
+    void setAvailable_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        courierLocationIndex.updateLocation(1, 39.9250, 32.8600, true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        courierLocationIndex.setAvailable(1, false);
+
+        // Assert
+        assertEquals(1, courierLocationIndex.size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(0, courierLocationIndex.size());
+    }
+
+    @Test
+    void setAvailable_ShouldMoveCourierInAndOutOfDispatch() {
+        // Arrange
+        courierLocationIndex.updateLocation(1, 39.9250, 32.8600, true);
+
+        // Act & Assert
+        courierLocationIndex.setAvailable(1, false);
+        assertTrue(courierLocationIndex.findNearest(39.9208, 32.8541, 1).isEmpty());
+
+        courierLocationIndex.setAvailable(1, true);
+        assertEquals(1, courierLocationIndex.findNearest(39.9208, 32.8541, 1).size());
+    }
+
+    @Test
+    void findNearest_ShouldSkipStalePositions() {
+        // Arrange
+        ReflectionTestUtils.setField(courierLocationIndex, "maxLocationAge", Duration.ZERO);
+        courierLocationIndex.updateLocation(1, 39.9250, 32.8600, true);
+
+        // Act
+        List<CourierLocationIndex.Candidate> candidates = courierLocationIndex.findNearest(39.9208, 32.8541, 1);
+
+        // Assert
+        assertTrue(candidates.isEmpty());
+    }
+}
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,6 +36,9 @@ public class CustomerAuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private LoginMetrics loginMetrics = new LoginMetrics();
+
     @InjectMocks
     private CustomerAuthServiceImpl customerAuthService;
 
@@ -117,6 +121,23 @@ public class CustomerAuthServiceTest {
         assertEquals("testToken", result.getToken());
     }
 
+    @Test
+    void login_ShouldRehashPassword_WhenStoredWithLowerCost() {
+        // Arrange
+        when(customerRepository.findByEmail(any())).thenReturn(Optional.of(testCustomer));
+        when(passwordEncoder.matches(any(), any())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordEncoder.encode("Test@123")).thenReturn("rehashedPassword");
+        when(jwtService.generateToken(any(), any(), any())).thenReturn("testToken");
+
+        // Act
+        customerAuthService.login(loginDTO);
+
+        // Assert
+        assertEquals("rehashedPassword", testCustomer.getPassword());
+        verify(customerRepository).save(testCustomer);
+    }
+
     @Test
     void login_ShouldThrowException_WhenInvalidEmail() {
         // Arrange
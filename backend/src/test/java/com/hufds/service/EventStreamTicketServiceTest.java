@@ -0,0 +1,51 @@
+package com.hufds.service;
+
+import com.hufds.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventStreamTicketServiceTest {
+
+    private final EventStreamTicketService eventStreamTicketService = new EventStreamTicketService();
+
+    @Test
+    void redeem_ShouldReturnUser_OnlyOnce() {
+        // Arrange
+        String ticket = eventStreamTicketService.issue(OrderEventStreamService.Audience.COURIER, 3);
+
+        // Act
+        Integer userId = eventStreamTicketService.redeem(ticket, OrderEventStreamService.Audience.COURIER);
+
+        // Assert
+        assertEquals(3, userId);
+        assertThrows(CustomException.class,
+                () -> eventStreamTicketService.redeem(ticket, OrderEventStreamService.Audience.COURIER));
+    }
+
+    @Test
+    void redeem_ShouldReject_TicketOfAnotherAudience() {
+        // Arrange
+        String ticket = eventStreamTicketService.issue(OrderEventStreamService.Audience.CUSTOMER, 1);
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> eventStreamTicketService.redeem(ticket, OrderEventStreamService.Audience.RESTAURANT));
+        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatus());
+    }
+
+    @Test
+    void redeem_ShouldReject_ExpiredTicket() {
+        // Arrange
+        ReflectionTestUtils.setField(eventStreamTicketService, "ticketTtl", Duration.ofSeconds(-1));
+        String ticket = eventStreamTicketService.issue(OrderEventStreamService.Audience.CUSTOMER, 1);
+
+        // Act & Assert
+        assertThrows(CustomException.class,
+                () -> eventStreamTicketService.redeem(ticket, OrderEventStreamService.Audience.CUSTOMER));
+    }
+}
@@ -0,0 +1,95 @@
+package com.hufds.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageDerivativeServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    private final ImageDerivativeService imageDerivativeService = new ImageDerivativeService();
+
+    @Test
+    void generate_ShouldWriteResizedVariants_WithoutUpscaling() throws Exception {
+        // Arrange
+        Path original = uploadDir.resolve("photo.jpg");
+        ImageIO.write(new BufferedImage(1200, 600, BufferedImage.TYPE_INT_RGB), "jpg", original.toFile());
+
+        // Act
+        imageDerivativeService.generate(original);
+
+        // Assert
+        assertEquals(160, ImageIO.read(uploadDir.resolve("photo-thumbnail.jpg").toFile()).getWidth());
+        BufferedImage card = ImageIO.read(uploadDir.resolve("photo-card.jpg").toFile());
+        assertEquals(480, card.getWidth());
+        assertEquals(240, card.getHeight());
+        assertEquals(1080, ImageIO.read(uploadDir.resolve("photo-detail.jpg").toFile()).getWidth());
+    }
+
+    @Test
+    void generate_ShouldSkipFilesThatAreNotImages() throws Exception {
+        // Arrange
+        Path original = uploadDir.resolve("notes.jpg");
+        Files.writeString(original, "not an image");
+
+        // Act
+        imageDerivativeService.generate(original);
+
+        // Assert
+        assertFalse(Files.exists(uploadDir.resolve("notes-card.jpg")));
+    }
+
+    @Test
+    void generate_ShouldSkipImagesAboveThePixelLimit() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(imageDerivativeService, "maxPixels", 500_000L);
+        Path original = uploadDir.resolve("huge.jpg");
+        ImageIO.write(new BufferedImage(1000, 600, BufferedImage.TYPE_INT_RGB), "jpg", original.toFile());
+
+        // Act
+        imageDerivativeService.generate(original);
+
+        // Assert
+        assertFalse(Files.exists(uploadDir.resolve("huge-thumbnail.jpg")));
+    }
+
+    @Test
+    void generate_ShouldSkipFormatsOtherThanJpegAndPng() throws Exception {
+        // Arrange
+        Path original = uploadDir.resolve("anim.gif");
+        ImageIO.write(new BufferedImage(600, 600, BufferedImage.TYPE_INT_RGB), "gif", original.toFile());
+
+        // Act
+        imageDerivativeService.generate(original);
+
+        // Assert
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void deleteDerivatives_ShouldRemoveEveryVariant() throws Exception {
+        // Arrange
+        Path original = uploadDir.resolve("logo.png");
+        ImageIO.write(new BufferedImage(800, 800, BufferedImage.TYPE_INT_ARGB), "png", original.toFile());
+        imageDerivativeService.generate(original);
+
+        // Act
+        imageDerivativeService.deleteDerivatives(original);
+
+        // Assert
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+}
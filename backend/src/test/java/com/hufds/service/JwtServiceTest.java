@@ -148,6 +148,34 @@ public class JwtServiceTest {
         assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatus());
     }
 
+    @Test
+    void verify_ShouldReturnCachedPrincipalForSameToken() {
+        // Arrange
+        String token = jwtService.generateToken(TEST_EMAIL, TEST_USER_ID, TEST_USER_TYPE);
+
+        // Act
+        JwtService.TokenPrincipal first = jwtService.verify(token);
+        JwtService.TokenPrincipal second = jwtService.verify(token);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(TEST_EMAIL, first.email());
+        assertEquals(TEST_USER_ID, first.userId());
+        assertEquals(TEST_USER_TYPE, first.userType());
+        assertFalse(first.isExpired());
+    }
+
+    @Test
+    void verify_ShouldRejectTokenWithTamperedSignature() {
+        // Arrange
+        String token = jwtService.generateToken(TEST_EMAIL, TEST_USER_ID, TEST_USER_TYPE);
+        jwtService.verify(token);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(CustomException.class, () -> jwtService.verify(tampered));
+    }
+
     private Key getSigningKey() {
         byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
         return Keys.hmacShaKeyFor(keyBytes);
@@ -0,0 +1,43 @@
+package com.hufds.service;
+
+import com.hufds.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoginMetricsTest {
+
+    private final LoginMetrics loginMetrics = new LoginMetrics();
+
+    @Test
+    void time_ShouldCountSuccessfulAndRejectedLogins() {
+        // Act
+        String token = loginMetrics.time(() -> "token");
+        assertThrows(CustomException.class, () -> loginMetrics.time(() -> {
+            throw new CustomException("Invalid email or password", HttpStatus.UNAUTHORIZED);
+        }));
+
+        // Assert
+        assertEquals("token", token);
+        LoginMetrics.Stats stats = loginMetrics.getStats();
+        assertEquals(1, stats.succeeded());
+        assertEquals(1, stats.failed());
+    }
+
+    @Test
+    void getStats_ShouldReportDurationOfWholeLogin() {
+        // Act
+        loginMetrics.time(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+
+        // Assert
+        assertTrue(loginMetrics.getStats().maxMillis() >= 20);
+    }
+}
@@ -0,0 +1,185 @@
+package com.hufds.service;
+
+import com.hufds.entity.MenuItem;
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.MenuItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MenuItemSearchIndexTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @InjectMocks
+    private MenuItemSearchIndex menuItemSearchIndex;
+
+    private MenuItem iskender;
+    private MenuItem cigKofte;
+    private MenuItem ayran;
+
+    @BeforeEach
+    void setUp() {
+        iskender = menuItem(1, 1, "İskender Kebap", "Döner on pide with tomato sauce and yoghurt", "Main", "180.00");
+        cigKofte = menuItem(2, 1, "Çiğ Köfte Dürüm", "Spicy bulgur wrap", "Wraps", "90.00");
+        ayran = menuItem(3, 2, "Ayran", "Cold yoghurt drink served with kebap", "Drinks", "25.00");
+    }
+
+    @Test
+    void rebuild_ShouldIndexNonDeletedMenuItems() {
+        // Arrange
+        when(menuItemRepository.findByDeletedAtIsNull()).thenReturn(List.of(iskender, cigKofte, ayran));
+
+        // Act
+        menuItemSearchIndex.rebuild();
+
+        // Assert
+        assertEquals(3, menuItemSearchIndex.size());
+    }
+
+    @Test
+    void search_ShouldFoldTurkishCharactersAndCase() {
+        // Arrange
+        indexAll();
+
+        // Act & Assert
+        assertEquals(List.of(1), ids(textQuery("ISKENDER")));
+        assertEquals(List.of(1), ids(textQuery("iskender")));
+        assertEquals(List.of(2), ids(textQuery("cig kofte")));
+    }
+
+    @Test
+    void search_ShouldPrefixMatchEveryQueryToken() {
+        // Arrange
+        indexAll();
+
+        // Act & Assert
+        assertEquals(List.of(2), ids(textQuery("köf dür")));
+        assertTrue(ids(textQuery("kofte pizza")).isEmpty());
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        // Arrange
+        indexAll();
+
+        // Act
+        List<Integer> results = ids(textQuery("kebap"));
+
+        // Assert
+        assertEquals(List.of(1, 3), results);
+    }
+
+    @Test
+    void search_ShouldApplyFacetFilters() {
+        // Arrange
+        indexAll();
+        cigKofte.setAvailability(false);
+        menuItemSearchIndex.index(cigKofte);
+
+        // Act & Assert
+        assertEquals(List.of(3), ids(new MenuItemSearchIndex.Query(null, "drink", null, null, null, null)));
+        assertEquals(List.of(1), ids(new MenuItemSearchIndex.Query(null, null, null, null, true, 1)));
+        assertEquals(List.of(2), ids(new MenuItemSearchIndex.Query(null, null, null, null, false, null)));
+        assertEquals(List.of(3, 2), ids(new MenuItemSearchIndex.Query(
+                null, null, new BigDecimal("20.00"), new BigDecimal("100.00"), null, null)));
+    }
+
+    @Test
+    void index_ShouldReplaceAndRemoveEntries() {
+        // Arrange
+        indexAll();
+        iskender.setName("Adana Kebap");
+        ayran.setDeletedAt(LocalDateTime.now());
+
+        // Act
+        menuItemSearchIndex.index(iskender);
+        menuItemSearchIndex.index(ayran);
+
+        // Assert
+        assertTrue(ids(textQuery("iskender")).isEmpty());
+        assertEquals(List.of(1), ids(textQuery("adana")));
+        assertEquals(2, menuItemSearchIndex.size());
+    }
+
+    @Test
+    void index_ShouldApplyChangesOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            menuItemSearchIndex.index(iskender);
+            menuItemSearchIndex.remove(2);
+
+            // Assert
+            assertEquals(0, menuItemSearchIndex.size());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(List.of(1), ids(textQuery("iskender")));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void search_ShouldPageWithinResultCap() {
+        // Arrange
+        indexAll();
+        MenuItemSearchIndex.Query all = new MenuItemSearchIndex.Query(null, null, null, null, null, null);
+
+        // Act
+        MenuItemSearchIndex.Result firstPage = menuItemSearchIndex.search(all, 0, 1, 2);
+        MenuItemSearchIndex.Result secondPage = menuItemSearchIndex.search(all, 1, 1, 2);
+        MenuItemSearchIndex.Result pastCap = menuItemSearchIndex.search(all, 2, 1, 2);
+
+        // Assert
+        assertEquals(2, firstPage.totalMatches());
+        assertEquals(1, firstPage.menuItemIds().size());
+        assertEquals(1, secondPage.menuItemIds().size());
+        assertNotEquals(firstPage.menuItemIds(), secondPage.menuItemIds());
+        assertTrue(pastCap.menuItemIds().isEmpty());
+    }
+
+    private void indexAll() {
+        menuItemSearchIndex.index(iskender);
+        menuItemSearchIndex.index(cigKofte);
+        menuItemSearchIndex.index(ayran);
+    }
+
+    private MenuItemSearchIndex.Query textQuery(String text) {
+        return new MenuItemSearchIndex.Query(text, null, null, null, null, null);
+    }
+
+    private List<Integer> ids(MenuItemSearchIndex.Query query) {
+        return menuItemSearchIndex.search(query, 0, 20, 200).menuItemIds();
+    }
+
+    private MenuItem menuItem(Integer id, Integer restaurantId, String name, String description,
+                              String category, String price) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(restaurantId);
+
+        MenuItem menuItem = new MenuItem();
+        menuItem.setMenuItemId(id);
+        menuItem.setRestaurant(restaurant);
+        menuItem.setName(name);
+        menuItem.setDescription(description);
+        menuItem.setCategory(category);
+        menuItem.setPrice(new BigDecimal(price));
+        menuItem.setAvailability(true);
+        return menuItem;
+    }
+}
@@ -9,17 +9,16 @@ import com.hufds.service.impl.MenuItemSearchServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +27,7 @@ class MenuItemSearchServiceTest {
     @Mock
     private MenuItemRepository menuItemRepository;
 
-    @InjectMocks
+    private MenuItemSearchIndex menuItemSearchIndex;
     private MenuItemSearchServiceImpl menuItemSearchService;
 
     private MenuItemSearchDTO searchDTO;
@@ -38,9 +37,12 @@ class MenuItemSearchServiceTest {
 
     @BeforeEach
     void setUp() {
+        menuItemSearchIndex = new MenuItemSearchIndex(menuItemRepository);
+        menuItemSearchService = new MenuItemSearchServiceImpl(menuItemRepository, menuItemSearchIndex);
+
         searchDTO = new MenuItemSearchDTO();
         searchDTO.setRestaurantId(1); // Set default restaurantId
-        
+
         // Create mock menu items
         item1 = new MenuItem();
         item1.setMenuItemId(1);
@@ -50,7 +52,7 @@ class MenuItemSearchServiceTest {
         item1.setCategory("main");
         item1.setImageUrl("http://example.com/pizza.jpg");
         item1.setAvailability(true);
-        
+
         Restaurant restaurant1 = new Restaurant();
         restaurant1.setRestaurantId(1);
         restaurant1.setName("Pizza Place");
@@ -64,22 +66,21 @@ class MenuItemSearchServiceTest {
         item2.setCategory("starter");
         item2.setImageUrl("http://example.com/salad.jpg");
         item2.setAvailability(true);
-        
+
         Restaurant restaurant2 = new Restaurant();
         restaurant2.setRestaurantId(2);
         restaurant2.setName("Salad Bar");
         item2.setRestaurant(restaurant2);
 
         mockMenuItems = Arrays.asList(item1, item2);
+        mockMenuItems.forEach(menuItemSearchIndex::index);
     }
 
     @Test
     void searchMenuItems_ShouldReturnMatchingItems_WhenSearchingByName() {
         // Arrange
         searchDTO.setName("pizza");
-        when(menuItemRepository.findByRestaurantRestaurantId(1)).thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndNameContainingIgnoreCase(1, "pizza"))
-            .thenReturn(Collections.singletonList(item1));
+        stubFindAllById();
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -88,16 +89,14 @@ class MenuItemSearchServiceTest {
         assertNotNull(results);
         assertEquals(1, results.size());
         assertEquals("Pizza Margherita", results.get(0).getName());
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndNameContainingIgnoreCase(1, "pizza");
+        assertEquals("Pizza Place", results.get(0).getRestaurantName());
     }
 
     @Test
     void searchMenuItems_ShouldReturnMatchingItems_WhenSearchingByCategory() {
         // Arrange
-        searchDTO.setCategory("main");
-        when(menuItemRepository.findByRestaurantRestaurantId(1)).thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndCategoryContainingIgnoreCase(1, "main"))
-            .thenReturn(Collections.singletonList(item1));
+        searchDTO.setCategory("MAIN");
+        stubFindAllById();
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -106,18 +105,15 @@ class MenuItemSearchServiceTest {
         assertNotNull(results);
         assertEquals(1, results.size());
         assertEquals("main", results.get(0).getCategory());
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndCategoryContainingIgnoreCase(1, "main");
     }
 
     @Test
     void searchMenuItems_ShouldReturnMatchingItems_WhenSearchingByPriceRange() {
         // Arrange
+        searchDTO.setRestaurantId(null);
         searchDTO.setMinPrice(new BigDecimal("10.00"));
         searchDTO.setMaxPrice(new BigDecimal("15.00"));
-        when(menuItemRepository.findByRestaurantRestaurantId(1)).thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndPriceBetween(1, 
-            new BigDecimal("10.00"), new BigDecimal("15.00")))
-            .thenReturn(Collections.singletonList(item1));
+        stubFindAllById();
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -126,17 +122,16 @@ class MenuItemSearchServiceTest {
         assertNotNull(results);
         assertEquals(1, results.size());
         assertEquals(new BigDecimal("12.99"), results.get(0).getPrice());
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndPriceBetween(1, 
-            new BigDecimal("10.00"), new BigDecimal("15.00"));
     }
 
     @Test
     void searchMenuItems_ShouldReturnMatchingItems_WhenSearchingByAvailability() {
         // Arrange
+        item1.setAvailability(false);
+        menuItemSearchIndex.index(item1);
+        searchDTO.setRestaurantId(null);
         searchDTO.setIsAvailable(true);
-        when(menuItemRepository.findByRestaurantRestaurantId(1)).thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndAvailability(1, true))
-            .thenReturn(Collections.singletonList(item1));
+        stubFindAllById();
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -144,15 +139,15 @@ class MenuItemSearchServiceTest {
         // Assert
         assertNotNull(results);
         assertEquals(1, results.size());
+        assertEquals("Caesar Salad", results.get(0).getName());
         assertTrue(results.get(0).getIsAvailable());
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndAvailability(1, true);
     }
 
     @Test
-    void searchMenuItems_ShouldReturnAllItems_WhenNoSearchCriteriaProvided() {
+    void searchMenuItems_ShouldReturnFirstPage_WhenNoSearchCriteriaProvided() {
         // Arrange
         searchDTO = new MenuItemSearchDTO(); // Reset to test no criteria
-        when(menuItemRepository.findAll()).thenReturn(mockMenuItems);
+        stubFindAllById();
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -160,16 +155,13 @@ class MenuItemSearchServiceTest {
         // Assert
         assertNotNull(results);
         assertEquals(2, results.size());
-        verify(menuItemRepository).findAll();
+        verify(menuItemRepository, never()).findAll();
     }
 
     @Test
     void searchMenuItems_ShouldReturnEmptyList_WhenNoMatchesFound() {
         // Arrange
         searchDTO.setName("nonexistent");
-        when(menuItemRepository.findByRestaurantRestaurantId(1)).thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndNameContainingIgnoreCase(1, "nonexistent"))
-            .thenReturn(Collections.emptyList());
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -177,7 +169,7 @@ class MenuItemSearchServiceTest {
         // Assert
         assertNotNull(results);
         assertTrue(results.isEmpty());
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndNameContainingIgnoreCase(1, "nonexistent");
+        verifyNoInteractions(menuItemRepository);
     }
 
     @Test
@@ -188,17 +180,7 @@ class MenuItemSearchServiceTest {
         searchDTO.setMinPrice(new BigDecimal("10.00"));
         searchDTO.setMaxPrice(new BigDecimal("15.00"));
         searchDTO.setIsAvailable(true);
-        
-        when(menuItemRepository.findByRestaurantRestaurantId(1)).thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndNameContainingIgnoreCase(1, "pizza"))
-            .thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndCategoryContainingIgnoreCase(1, "main"))
-            .thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndPriceBetween(1, 
-            new BigDecimal("10.00"), new BigDecimal("15.00")))
-            .thenReturn(Collections.singletonList(item1));
-        when(menuItemRepository.findByRestaurantRestaurantIdAndAvailability(1, true))
-            .thenReturn(Collections.singletonList(item1));
+        stubFindAllById();
 
         // Act
         List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
@@ -210,11 +192,30 @@ class MenuItemSearchServiceTest {
         assertEquals("main", results.get(0).getCategory());
         assertEquals(new BigDecimal("12.99"), results.get(0).getPrice());
         assertTrue(results.get(0).getIsAvailable());
-        
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndNameContainingIgnoreCase(1, "pizza");
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndCategoryContainingIgnoreCase(1, "main");
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndPriceBetween(1, 
-            new BigDecimal("10.00"), new BigDecimal("15.00"));
-        verify(menuItemRepository).findByRestaurantRestaurantIdAndAvailability(1, true);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void searchMenuItems_ShouldPageRankedResults() {
+        // Arrange
+        searchDTO = MenuItemSearchDTO.builder().page(1).size(1).build();
+        stubFindAllById();
+
+        // Act
+        List<MenuItemSearchResultDTO> results = menuItemSearchService.searchMenuItems(searchDTO);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals("Pizza Margherita", results.get(0).getName());
+        verify(menuItemRepository).findAllById(List.of(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubFindAllById() {
+        when(menuItemRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            Collection<Integer> ids = invocation.getArgument(0);
+            return mockMenuItems.stream()
+                    .filter(item -> ids.contains(item.getMenuItemId()))
+                    .toList();
+        });
+    }
+}
@@ -0,0 +1,104 @@
+package com.hufds.service;
+
+import com.hufds.dto.BulkMessageRequestDTO;
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.dto.MessageDTO;
+import com.hufds.entity.Message;
+import com.hufds.exception.CustomException;
+import com.hufds.repository.MessageRepository;
+import com.hufds.util.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MessageServiceTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @Mock
+    private UnreadMessageCounter unreadMessageCounter;
+
+    @InjectMocks
+    private MessageService messageService;
+
+    @Test
+    void markAllAsRead_ByIds_ShouldDecrementCounterByUpdatedRows() {
+        // Arrange
+        BulkMessageRequestDTO request = BulkMessageRequestDTO.builder()
+                .messageIds(List.of(10L, 11L, 12L)).build();
+        when(messageRepository.markReadByIds(Message.UserType.CUSTOMER, 1L, List.of(10L, 11L, 12L))).thenReturn(2);
+
+        // Act
+        int updated = messageService.markAllAsRead(1L, "customer", request);
+
+        // Assert
+        assertEquals(2, updated);
+        verify(unreadMessageCounter).decrement(Message.UserType.CUSTOMER, 1L, 2);
+    }
+
+    @Test
+    void deleteAll_Before_ShouldInvalidateCounter() {
+        // Arrange
+        LocalDateTime before = LocalDateTime.of(2024, 1, 1, 0, 0);
+        BulkMessageRequestDTO request = BulkMessageRequestDTO.builder()
+                .before(before).build();
+        when(messageRepository.softDeleteBefore(eq(Message.UserType.COURIER), eq(2L), eq(before), any(LocalDateTime.class)))
+                .thenReturn(5);
+
+        // Act
+        int deleted = messageService.deleteAll(2L, "courier", request);
+
+        // Assert
+        assertEquals(5, deleted);
+        verify(unreadMessageCounter).invalidate(Message.UserType.COURIER, 2L);
+    }
+
+    @Test
+    void getInboxPage_ShouldPageThroughMessageIdsBeyondIntegerRange() {
+        // Arrange
+        LocalDateTime noon = LocalDateTime.of(2024, 5, 1, 12, 0);
+        long bigId = 3_000_000_000L;
+        when(messageRepository.findInboxPage(Message.UserType.CUSTOMER, 1L, false,
+                KeysetCursor.FIRST.time(), KeysetCursor.FIRST.id(), PageRequest.of(0, 2)))
+                .thenReturn(List.of(message(bigId, noon), message(bigId - 1, noon)));
+
+        // Act
+        CursorPageDTO<MessageDTO> page = messageService.getInboxPage(1L, "customer", false, null, 1);
+
+        // Assert
+        assertEquals(new KeysetCursor(noon, bigId), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void markAllAsRead_ShouldReject_WhenBothIdsAndBeforeAreGiven() {
+        // Arrange
+        BulkMessageRequestDTO request = BulkMessageRequestDTO.builder()
+                .messageIds(List.of(10L)).before(LocalDateTime.now()).build();
+
+        // Act & Assert
+        assertThrows(CustomException.class, () -> messageService.markAllAsRead(1L, "admin", request));
+        verifyNoInteractions(messageRepository, unreadMessageCounter);
+    }
+
+    private Message message(Long messageId, LocalDateTime createdAt) {
+        Message message = new Message();
+        message.setMessageId(messageId);
+        message.setCreatedAt(createdAt);
+        message.setReceiverType(Message.UserType.CUSTOMER);
+        message.setReceiverId(1L);
+        return message;
+    }
+}
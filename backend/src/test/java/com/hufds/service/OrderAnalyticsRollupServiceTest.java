@@ -0,0 +1,87 @@
+package com.hufds.service;
+
+import com.hufds.entity.Customer;
+import com.hufds.entity.Order;
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.OrderDailyRollupRepository;
+import com.hufds.repository.OrderRepository;
+import com.hufds.repository.OrderRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrderAnalyticsRollupServiceTest {
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private OrderDailyRollupRepository orderDailyRollupRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderAnalyticsRollupService orderAnalyticsRollupService;
+
+    @Test
+    void recordDelivered_ShouldAddOrderToRestaurantAndCustomerRollups() {
+        // Arrange
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(1);
+        Customer customer = new Customer();
+        customer.setCustomerId(2);
+        Order order = new Order();
+        order.setRestaurant(restaurant);
+        order.setCustomer(customer);
+        order.setTotalPrice(new BigDecimal("42.50"));
+        order.setDeliveredAt(LocalDateTime.of(2024, 5, 3, 21, 15));
+
+        // Act
+        orderAnalyticsRollupService.recordDelivered(order);
+
+        // Assert
+        LocalDate day = LocalDate.of(2024, 5, 3);
+        verify(orderRollupRepository).addDeliveredOrder("RESTAURANT", 1, new BigDecimal("42.50"));
+        verify(orderRollupRepository).addDeliveredOrder("CUSTOMER", 2, new BigDecimal("42.50"));
+        verify(orderDailyRollupRepository).addDeliveredOrder("RESTAURANT", 1, day, new BigDecimal("42.50"));
+        verify(orderDailyRollupRepository).addDeliveredOrder("CUSTOMER", 2, day, new BigDecimal("42.50"));
+    }
+
+    @Test
+    void backfillIfEmpty_ShouldBuildRollups_WhenNoneExistYet() {
+        // Arrange
+        when(orderRollupRepository.count()).thenReturn(0L);
+        when(orderRepository.existsByStatus(Order.OrderStatus.DELIVERED)).thenReturn(true);
+
+        // Act
+        orderAnalyticsRollupService.backfillIfEmpty();
+
+        // Assert
+        verify(orderDailyRollupRepository).insertRestaurantRollupsFromOrders();
+        verify(orderDailyRollupRepository).insertCustomerRollupsFromOrders();
+        verify(orderRollupRepository).insertTotalsFromDailyRollups();
+    }
+
+    @Test
+    void backfillIfEmpty_ShouldSkip_WhenRollupsAlreadyExist() {
+        // Arrange
+        when(orderRollupRepository.count()).thenReturn(3L);
+
+        // Act
+        orderAnalyticsRollupService.backfillIfEmpty();
+
+        // Assert
+        verify(orderDailyRollupRepository, never()).insertRestaurantRollupsFromOrders();
+        verify(orderRollupRepository, never()).insertTotalsFromDailyRollups();
+    }
+}
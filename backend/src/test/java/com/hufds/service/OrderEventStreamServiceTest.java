@@ -0,0 +1,109 @@
+package com.hufds.service;
+
+import com.hufds.dto.OrderEventDTO;
+import com.hufds.entity.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class OrderEventStreamServiceTest {
+
+    private final OrderEventStreamService orderEventStreamService = new OrderEventStreamService();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_ShouldSendOrderStatusToCustomerRestaurantAndCourier() throws Exception {
+        // Arrange
+        SseEmitter customer = subscribe(OrderEventStreamService.Audience.CUSTOMER, 1);
+        SseEmitter restaurant = subscribe(OrderEventStreamService.Audience.RESTAURANT, 7);
+        SseEmitter courier = subscribe(OrderEventStreamService.Audience.COURIER, 3);
+        SseEmitter otherCustomer = subscribe(OrderEventStreamService.Audience.CUSTOMER, 2);
+
+        // Act
+        orderEventStreamService.publish(orderStatusEvent());
+
+        // Assert
+        verify(customer).send(any(SseEmitter.SseEventBuilder.class));
+        verify(restaurant).send(any(SseEmitter.SseEventBuilder.class));
+        verify(courier).send(any(SseEmitter.SseEventBuilder.class));
+        verify(otherCustomer, never()).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void publish_ShouldNotSendAssignmentChangesToCustomer() throws Exception {
+        // Arrange
+        SseEmitter customer = subscribe(OrderEventStreamService.Audience.CUSTOMER, 1);
+        SseEmitter courier = subscribe(OrderEventStreamService.Audience.COURIER, 3);
+        OrderEventDTO event = OrderEventDTO.builder()
+                .type(OrderEventDTO.EventType.ASSIGNMENT_STATUS_CHANGED)
+                .orderId(101).customerId(1).restaurantId(7).courierId(3).build();
+
+        // Act
+        orderEventStreamService.publish(event);
+
+        // Assert
+        verify(customer, never()).send(any(SseEmitter.SseEventBuilder.class));
+        verify(courier).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void publish_ShouldDeliverOnlyAfterCommit() throws Exception {
+        // Arrange
+        SseEmitter customer = subscribe(OrderEventStreamService.Audience.CUSTOMER, 1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        orderEventStreamService.publish(orderStatusEvent());
+
+        // Assert
+        verify(customer, never()).send(any(SseEmitter.SseEventBuilder.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(customer).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    @Test
+    void publish_ShouldDropEmittersWhoseClientWentAway() throws Exception {
+        // Arrange
+        SseEmitter dead = subscribe(OrderEventStreamService.Audience.CUSTOMER, 1);
+        SseEmitter alive = subscribe(OrderEventStreamService.Audience.CUSTOMER, 1);
+        doThrow(new IOException("Broken pipe")).when(dead).send(any(SseEmitter.SseEventBuilder.class));
+
+        // Act
+        orderEventStreamService.publish(orderStatusEvent());
+        orderEventStreamService.publish(orderStatusEvent());
+
+        // Assert
+        assertEquals(1, orderEventStreamService.subscriberCount());
+        verify(dead, times(1)).send(any(SseEmitter.SseEventBuilder.class));
+        verify(alive, times(2)).send(any(SseEmitter.SseEventBuilder.class));
+    }
+
+    private SseEmitter subscribe(OrderEventStreamService.Audience audience, Integer userId) {
+        return orderEventStreamService.subscribe(audience, userId, mock(SseEmitter.class));
+    }
+
+    private OrderEventDTO orderStatusEvent() {
+        return OrderEventDTO.builder()
+                .type(OrderEventDTO.EventType.ORDER_STATUS_CHANGED)
+                .orderId(101)
+                .orderStatus(Order.OrderStatus.PROCESSING)
+                .customerId(1)
+                .restaurantId(7)
+                .courierId(3)
+                .build();
+    }
+}
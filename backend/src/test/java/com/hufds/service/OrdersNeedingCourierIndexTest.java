@@ -0,0 +1,65 @@
+package com.hufds.service;
+
+import com.hufds.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrdersNeedingCourierIndexTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrdersNeedingCourierIndex ordersNeedingCourierIndex;
+
+    @Test
+    void getOrderIds_ShouldQueryOnce_AndApplyTransitions() {
+        // Arrange
+        when(orderRepository.findOrderIdsNeedingCourier(1)).thenReturn(List.of(10, 12));
+
+        // Act
+        ordersNeedingCourierIndex.getOrderIds(1);
+        ordersNeedingCourierIndex.markCovered(1, 10);
+        ordersNeedingCourierIndex.markNeedsCourier(1, 11);
+        List<Integer> orderIds = ordersNeedingCourierIndex.getOrderIds(1);
+
+        // Assert
+        assertEquals(List.of(11, 12), orderIds);
+        verify(orderRepository, times(1)).findOrderIdsNeedingCourier(1);
+    }
+
+    @Test
+    void getOrderIds_ShouldReload_AfterInvalidate() {
+        // Arrange
+        when(orderRepository.findOrderIdsNeedingCourier(1)).thenReturn(List.of(10), List.of(10, 13));
+        ordersNeedingCourierIndex.getOrderIds(1);
+
+        // Act
+        ordersNeedingCourierIndex.invalidate(1);
+        List<Integer> orderIds = ordersNeedingCourierIndex.getOrderIds(1);
+
+        // Assert
+        assertEquals(List.of(10, 13), orderIds);
+    }
+
+    @Test
+    void markNeedsCourier_ShouldIgnoreRestaurantsThatWereNeverRead() {
+        // Arrange
+        when(orderRepository.findOrderIdsNeedingCourier(2)).thenReturn(List.of());
+
+        // Act
+        ordersNeedingCourierIndex.markNeedsCourier(2, 20);
+
+        // Assert
+        assertTrue(ordersNeedingCourierIndex.getOrderIds(2).isEmpty());
+    }
+}
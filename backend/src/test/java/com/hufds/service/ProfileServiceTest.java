@@ -0,0 +1,139 @@
+package com.hufds.service;
+
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.dto.CustomerOrderDTO;
+import com.hufds.entity.Address;
+import com.hufds.entity.Customer;
+import com.hufds.entity.Order;
+import com.hufds.entity.Restaurant;
+import com.hufds.exception.CustomException;
+import com.hufds.repository.AddressRepository;
+import com.hufds.repository.CustomerRepository;
+import com.hufds.repository.OrderRepository;
+import com.hufds.util.KeysetCursor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ProfileServiceTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserStatusCache userStatusCache;
+
+    @InjectMocks
+    private ProfileService profileService;
+
+    @BeforeEach
+    void setUp() {
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+        customer.setEmail("customer@example.com");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("customer@example.com", null, List.of()));
+        when(customerRepository.findByEmailAndDeletedAtIsNull("customer@example.com")).thenReturn(Optional.of(customer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getCurrentUserOrderPage_ShouldStartFromFirstCursor_AndReturnNextCursor() {
+        // Arrange
+        when(orderRepository.findCustomerHistoryPage(1, KeysetCursor.FIRST.time(), KeysetCursor.FIRST.intId(),
+                PageRequest.of(0, 3)))
+                .thenReturn(List.of(order(30, NOON), order(20, NOON.minusHours(1)), order(10, NOON.minusHours(2))));
+
+        // Act
+        CursorPageDTO<CustomerOrderDTO> page = profileService.getCurrentUserOrderPage(null, 2);
+
+        // Assert
+        assertEquals(List.of(30, 20), page.getItems().stream().map(CustomerOrderDTO::getOrderId).toList());
+        assertEquals(new KeysetCursor(NOON.minusHours(1), 20), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getCurrentUserOrderPage_ShouldContinueWithinTiedCreatedAt() {
+        // Arrange
+        when(orderRepository.findCustomerHistoryPage(1, KeysetCursor.FIRST.time(), KeysetCursor.FIRST.intId(),
+                PageRequest.of(0, 2)))
+                .thenReturn(List.of(order(30, NOON), order(20, NOON)));
+        when(orderRepository.findCustomerHistoryPage(1, NOON, 30, PageRequest.of(0, 2)))
+                .thenReturn(List.of(order(20, NOON)));
+
+        // Act
+        CursorPageDTO<CustomerOrderDTO> first = profileService.getCurrentUserOrderPage(null, 1);
+        CursorPageDTO<CustomerOrderDTO> second = profileService.getCurrentUserOrderPage(first.getNextCursor(), 1);
+
+        // Assert
+        assertEquals(30, first.getItems().get(0).getOrderId());
+        assertEquals(20, second.getItems().get(0).getOrderId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getCurrentUserOrderPage_ShouldEndWithoutCursor_OnLastPage() {
+        // Arrange
+        String cursor = new KeysetCursor(NOON, 30).encode();
+        when(orderRepository.findCustomerHistoryPage(1, NOON, 30, PageRequest.of(0, 3)))
+                .thenReturn(List.of(order(20, NOON.minusHours(1))));
+
+        // Act
+        CursorPageDTO<CustomerOrderDTO> page = profileService.getCurrentUserOrderPage(cursor, 2);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getCurrentUserOrderPage_ShouldReject_InvalidCursor() {
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> profileService.getCurrentUserOrderPage("not-a-cursor", 2));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(orderRepository, never()).findCustomerHistoryPage(any(), any(), any(), any());
+    }
+
+    private Order order(Integer orderId, LocalDateTime createdAt) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCreatedAt(createdAt);
+        order.setRestaurant(new Restaurant());
+        order.setAddress(new Address());
+        return order;
+    }
+}
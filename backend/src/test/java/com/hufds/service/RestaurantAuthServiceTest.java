@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -35,6 +36,9 @@ public class RestaurantAuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Spy
+    private LoginMetrics loginMetrics = new LoginMetrics();
+
     @InjectMocks
     private RestaurantAuthServiceImpl restaurantAuthService;
 
@@ -0,0 +1,177 @@
+package com.hufds.service;
+
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.RestaurantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RestaurantLocationIndexTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @InjectMocks
+    private RestaurantLocationIndex restaurantLocationIndex;
+
+    private Restaurant kizilay;
+    private Restaurant beytepe;
+    private Restaurant istanbul;
+
+    @BeforeEach
+    void setUp() {
+        kizilay = restaurant(1, "39.920800", "32.854100");
+        beytepe = restaurant(2, "39.866900", "32.734600");
+        istanbul = restaurant(3, "41.008200", "28.978400");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void rebuild_ShouldIndexApprovedRestaurants() {
+        // Arrange
+        when(restaurantRepository.findByApprovalStatusAndDeletedAtIsNull(Restaurant.ApprovalStatus.ACCEPTED))
+                .thenReturn(List.of(kizilay, beytepe, istanbul));
+
+        // Act
+        restaurantLocationIndex.rebuild();
+
+        // Assert
+        assertEquals(3, restaurantLocationIndex.size());
+    }
+
+    @Test
+    void findWithinDistance_ShouldReturnNearbyRestaurantsOrderedByDistance() {
+        // Arrange
+        restaurantLocationIndex.refresh(kizilay);
+        restaurantLocationIndex.refresh(beytepe);
+        restaurantLocationIndex.refresh(istanbul);
+
+        // Act
+        List<RestaurantLocationIndex.Match> matches = restaurantLocationIndex.findWithinDistance(39.9208, 32.8541, 15);
+
+        // Assert
+        assertEquals(2, matches.size());
+        assertEquals(1, matches.get(0).restaurantId());
+        assertEquals(2, matches.get(1).restaurantId());
+        assertTrue(matches.get(1).distanceKm() <= 15);
+    }
+
+    @Test
+    void findWithinDistance_ShouldExcludeRestaurantsOutsideRadius() {
+        // Arrange
+        restaurantLocationIndex.refresh(kizilay);
+        restaurantLocationIndex.refresh(beytepe);
+
+        // Act
+        List<RestaurantLocationIndex.Match> matches = restaurantLocationIndex.findWithinDistance(39.9208, 32.8541, 2);
+
+        // Assert
+        assertEquals(1, matches.size());
+        assertEquals(1, matches.get(0).restaurantId());
+    }
+
+    @Test
+    void refresh_ShouldMoveRestaurant_WhenCoordinatesChange() {
+        // Arrange
+        restaurantLocationIndex.refresh(kizilay);
+        kizilay.setLatitude(new BigDecimal("41.008200"));
+        kizilay.setLongitude(new BigDecimal("28.978400"));
+
+        // Act
+        restaurantLocationIndex.refresh(kizilay);
+
+        // Assert
+        assertTrue(restaurantLocationIndex.findWithinDistance(39.9208, 32.8541, 10).isEmpty());
+        assertEquals(1, restaurantLocationIndex.findWithinDistance(41.0082, 28.9784, 1).size());
+    }
+
+    @Test
+    void refresh_ShouldRemoveRestaurant_WhenDeletedOrNotApproved() {
+        // Arrange
+        restaurantLocationIndex.refresh(kizilay);
+        restaurantLocationIndex.refresh(beytepe);
+        kizilay.setDeletedAt(LocalDateTime.now());
+        beytepe.setApprovalStatus(Restaurant.ApprovalStatus.REJECTED);
+
+        // Act
+        restaurantLocationIndex.refresh(kizilay);
+        restaurantLocationIndex.refresh(beytepe);
+
+        // Assert
+        assertEquals(0, restaurantLocationIndex.size());
+        assertTrue(restaurantLocationIndex.findWithinDistance(39.9208, 32.8541, 50).isEmpty());
+    }
+
+    @Test
+    void refresh_ShouldApplyOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        restaurantLocationIndex.refresh(kizilay);
+
+        // Assert
+        assertEquals(0, restaurantLocationIndex.size());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, restaurantLocationIndex.size());
+    }
+
+    @Test
+    void remove_ShouldKeepRestaurant_WhenTransactionRollsBack() {
+        // Arrange
+        restaurantLocationIndex.refresh(kizilay);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        restaurantLocationIndex.remove(1);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        assertEquals(1, restaurantLocationIndex.size());
+    }
+
+    @Test
+    void findWithinDistance_ShouldHandleSearchAcrossAntimeridian() {
+        // Arrange
+        Restaurant fiji = restaurant(4, "-17.713400", "178.065000");
+        Restaurant samoa = restaurant(5, "-17.713400", "-179.990000");
+        restaurantLocationIndex.refresh(fiji);
+        restaurantLocationIndex.refresh(samoa);
+
+        // Act
+        List<RestaurantLocationIndex.Match> matches = restaurantLocationIndex.findWithinDistance(-17.7134, 179.99, 250);
+
+        // Assert
+        assertEquals(2, matches.size());
+    }
+
+    private Restaurant restaurant(Integer id, String latitude, String longitude) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(id);
+        restaurant.setApprovalStatus(Restaurant.ApprovalStatus.ACCEPTED);
+        restaurant.setLatitude(new BigDecimal(latitude));
+        restaurant.setLongitude(new BigDecimal(longitude));
+        return restaurant;
+    }
+}
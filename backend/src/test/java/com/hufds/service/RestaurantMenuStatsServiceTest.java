@@ -0,0 +1,113 @@
+package com.hufds.service;
+
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.MenuItemRepository;
+import com.hufds.repository.RestaurantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RestaurantMenuStatsServiceTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @InjectMocks
+    private RestaurantMenuStatsService restaurantMenuStatsService;
+
+    private Restaurant restaurant;
+
+    @BeforeEach
+    void setUp() {
+        restaurant = new Restaurant();
+        restaurant.setRestaurantId(1);
+    }
+
+    @Test
+    void refresh_ShouldStoreAggregatedStatistics() {
+        // Arrange
+        when(menuItemRepository.calculatePriceStats(1))
+                .thenReturn(stats(3L, 2L, 12.3333, new BigDecimal("8.99"), new BigDecimal("15.99")));
+
+        // Act
+        restaurantMenuStatsService.refresh(restaurant);
+
+        // Assert
+        assertEquals(3, restaurant.getMenuItemCount());
+        assertEquals(2, restaurant.getAvailableMenuItemCount());
+        assertEquals(new BigDecimal("12.33"), restaurant.getAverageMenuPrice());
+        assertEquals(new BigDecimal("8.99"), restaurant.getMinMenuPrice());
+        assertEquals(new BigDecimal("15.99"), restaurant.getMaxMenuPrice());
+    }
+
+    @Test
+    void refresh_ShouldLockRestaurant_BeforeAggregating() {
+        // Arrange
+        when(menuItemRepository.calculatePriceStats(1))
+                .thenReturn(stats(1L, 1L, 10.0, BigDecimal.TEN, BigDecimal.TEN));
+
+        // Act
+        restaurantMenuStatsService.refresh(restaurant);
+
+        // Assert
+        InOrder inOrder = inOrder(restaurantRepository, menuItemRepository);
+        inOrder.verify(restaurantRepository).findByIdForUpdate(1);
+        inOrder.verify(menuItemRepository).calculatePriceStats(1);
+    }
+
+    @Test
+    void refresh_ShouldClearPrices_WhenMenuIsEmpty() {
+        // Arrange
+        restaurant.setAverageMenuPrice(new BigDecimal("10.00"));
+        when(menuItemRepository.calculatePriceStats(1))
+                .thenReturn(stats(0L, 0L, null, null, null));
+
+        // Act
+        restaurantMenuStatsService.refresh(restaurant);
+
+        // Assert
+        assertEquals(0, restaurant.getMenuItemCount());
+        assertNull(restaurant.getAverageMenuPrice());
+        assertNull(restaurant.getMinMenuPrice());
+    }
+
+    @Test
+    void backfillMissingStats_ShouldOnlyTouchRestaurantsWithoutStatistics() {
+        // Arrange
+        when(restaurantRepository.findByMenuItemCountIsNull()).thenReturn(List.of(restaurant));
+        when(menuItemRepository.calculatePriceStats(1))
+                .thenReturn(stats(1L, 1L, 10.0, BigDecimal.TEN, BigDecimal.TEN));
+
+        // Act
+        restaurantMenuStatsService.backfillMissingStats();
+
+        // Assert
+        assertEquals(1, restaurant.getMenuItemCount());
+        verify(restaurantRepository).saveAll(List.of(restaurant));
+    }
+
+    private MenuItemRepository.PriceStats stats(Long itemCount, Long availableItemCount, Double averagePrice,
+                                                 BigDecimal minPrice, BigDecimal maxPrice) {
+        return new MenuItemRepository.PriceStats() {
+            public Long getItemCount() { return itemCount; }
+            public Long getAvailableItemCount() { return availableItemCount; }
+            public Double getAveragePrice() { return averagePrice; }
+            public BigDecimal getMinPrice() { return minPrice; }
+            public BigDecimal getMaxPrice() { return maxPrice; }
+        };
+    }
+}
@@ -26,6 +26,12 @@ public class RestaurantProfileServiceTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private GeocodingService geocodingService;
+
+    @Mock
+    private RestaurantLocationIndex restaurantLocationIndex;
+
     @InjectMocks
     private RestaurantProfileServiceImpl restaurantProfileService;
 
@@ -146,6 +152,8 @@ public class RestaurantProfileServiceTest {
         // Arrange
         when(restaurantRepository.findById(any())).thenReturn(Optional.of(testRestaurant));
         when(restaurantRepository.save(any())).thenReturn(updatedRestaurant);
+        when(geocodingService.geocodeAddress(any(), any(), any(), any(), any()))
+                .thenReturn(new GeocodingService.Coordinates(testLocationDTO.getLatitude(), testLocationDTO.getLongitude()));
 
         // Act
         restaurantProfileService.updateAddress(1, testAddressDTO);
@@ -170,6 +178,7 @@ public class RestaurantProfileServiceTest {
 
         // Assert
         verify(restaurantRepository).save(any(Restaurant.class));
+        verify(restaurantLocationIndex).refresh(updatedRestaurant);
         assertEquals(testLocationDTO.getLatitude(), updatedRestaurant.getLatitude());
         assertEquals(testLocationDTO.getLongitude(), updatedRestaurant.getLongitude());
     }
@@ -181,6 +190,8 @@ public class RestaurantProfileServiceTest {
         testProfileDTO.setLocation(testLocationDTO);
         when(restaurantRepository.findById(any())).thenReturn(Optional.of(testRestaurant));
         when(restaurantRepository.save(any())).thenReturn(updatedRestaurant);
+        when(geocodingService.geocodeAddress(any(), any(), any(), any(), any()))
+                .thenReturn(new GeocodingService.Coordinates(testLocationDTO.getLatitude(), testLocationDTO.getLongitude()));
 
         // Act
         RestaurantProfileDTO result = restaurantProfileService.updateProfile(1, testProfileDTO);
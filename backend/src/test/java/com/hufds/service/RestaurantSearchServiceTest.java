@@ -3,25 +3,32 @@ package com.hufds.service;
 import com.hufds.dto.RestaurantSearchDTO;
 import com.hufds.dto.RestaurantSearchResultDTO;
 import com.hufds.entity.Restaurant;
-import com.hufds.entity.MenuItem;
 import com.hufds.repository.RestaurantRepository;
 import com.hufds.service.impl.RestaurantSearchServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
-import java.time.LocalTime;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +40,9 @@ public class RestaurantSearchServiceTest {
     @Mock
     private RestaurantConfigService restaurantConfigService;
 
+    @Mock
+    private RestaurantLocationIndex restaurantLocationIndex;
+
     @InjectMocks
     private RestaurantSearchServiceImpl restaurantSearchService;
 
@@ -53,16 +63,13 @@ public class RestaurantSearchServiceTest {
         italianRestaurant.setLatitude(new BigDecimal("40.7128"));
         italianRestaurant.setLongitude(new BigDecimal("-74.0060"));
         italianRestaurant.setDeliveryRangeKm(5);
+        italianRestaurant.setApprovalStatus(Restaurant.ApprovalStatus.ACCEPTED);
 
-        // Setup menu items for Italian restaurant
-        Set<MenuItem> italianMenuItems = new HashSet<>();
-        MenuItem pasta = new MenuItem();
-        pasta.setPrice(new BigDecimal("15.99"));
-        MenuItem pizza = new MenuItem();
-        pizza.setPrice(new BigDecimal("12.99"));
-        italianMenuItems.add(pasta);
-        italianMenuItems.add(pizza);
-        italianRestaurant.setMenuItems(italianMenuItems);
+        // Precomputed menu price statistics for Italian restaurant
+        italianRestaurant.setMenuItemCount(2);
+        italianRestaurant.setAverageMenuPrice(new BigDecimal("14.49"));
+        italianRestaurant.setMinMenuPrice(new BigDecimal("12.99"));
+        italianRestaurant.setMaxMenuPrice(new BigDecimal("15.99"));
 
         // Setup Chinese restaurant
         chineseRestaurant = new Restaurant();
@@ -75,16 +82,13 @@ public class RestaurantSearchServiceTest {
         chineseRestaurant.setLatitude(new BigDecimal("40.7128"));
         chineseRestaurant.setLongitude(new BigDecimal("-74.0060"));
         chineseRestaurant.setDeliveryRangeKm(3);
+        chineseRestaurant.setApprovalStatus(Restaurant.ApprovalStatus.ACCEPTED);
 
-        // Setup menu items for Chinese restaurant
-        Set<MenuItem> chineseMenuItems = new HashSet<>();
-        MenuItem noodles = new MenuItem();
-        noodles.setPrice(new BigDecimal("10.99"));
-        MenuItem dumplings = new MenuItem();
-        dumplings.setPrice(new BigDecimal("8.99"));
-        chineseMenuItems.add(noodles);
-        chineseMenuItems.add(dumplings);
-        chineseRestaurant.setMenuItems(chineseMenuItems);
+        // Precomputed menu price statistics for Chinese restaurant
+        chineseRestaurant.setMenuItemCount(2);
+        chineseRestaurant.setAverageMenuPrice(new BigDecimal("9.99"));
+        chineseRestaurant.setMinMenuPrice(new BigDecimal("8.99"));
+        chineseRestaurant.setMaxMenuPrice(new BigDecimal("10.99"));
 
         // Setup search DTO
         searchDTO = RestaurantSearchDTO.builder()
@@ -104,10 +108,12 @@ public class RestaurantSearchServiceTest {
     @Test
     void searchRestaurants_ShouldReturnMatchingRestaurants_WhenSearchingByName() {
         // Arrange
-        when(restaurantRepository.findByNameContainingIgnoreCase("Mama"))
-            .thenReturn(List.of(italianRestaurant));
-        when(restaurantConfigService.isRestaurantOpen(any()))
-            .thenReturn(true);
+        when(restaurantLocationIndex.findWithinDistance(40.7128, -74.0060, 5))
+            .thenReturn(List.of(new RestaurantLocationIndex.Match(1, 0.0)));
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenAnswer(invocation -> openFor(invocation.getArgument(0)));
 
         // Act
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
@@ -116,22 +122,27 @@ public class RestaurantSearchServiceTest {
         assertEquals(1, results.size());
         assertEquals("Mama Mia Italian", results.get(0).getName());
         assertEquals("Italian", results.get(0).getCuisineType());
+        verify(restaurantRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @Test
     void searchRestaurants_ShouldReturnMatchingRestaurants_WhenSearchingByCuisine() {
         // Arrange
-        when(restaurantRepository.findByCuisineTypeContainingIgnoreCase("Italian"))
-            .thenReturn(List.of(italianRestaurant));
-        when(restaurantConfigService.isRestaurantOpen(any()))
-            .thenReturn(true);
+        RestaurantSearchDTO cuisineSearchDTO = RestaurantSearchDTO.builder()
+            .cuisineType("Italian")
+            .build();
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenAnswer(invocation -> openFor(invocation.getArgument(0)));
 
         // Act
-        List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
+        List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(cuisineSearchDTO);
 
         // Assert
         assertEquals(1, results.size());
         assertEquals("Italian", results.get(0).getCuisineType());
+        verifyNoInteractions(restaurantLocationIndex);
     }
 
     @Test
@@ -143,13 +154,14 @@ public class RestaurantSearchServiceTest {
             .maxDistanceKm(5)
             .build();
 
-        when(restaurantRepository.findByLocationWithinDistance(
-            any(BigDecimal.class),
-            any(BigDecimal.class),
-            anyDouble()))
-            .thenReturn(List.of(italianRestaurant, chineseRestaurant));
-        when(restaurantConfigService.isRestaurantOpen(any()))
-            .thenReturn(true);
+        when(restaurantLocationIndex.findWithinDistance(40.7128, -74.0060, 5))
+            .thenReturn(List.of(
+                new RestaurantLocationIndex.Match(1, 0.0),
+                new RestaurantLocationIndex.Match(2, 0.0)));
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant, chineseRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenAnswer(invocation -> openFor(invocation.getArgument(0)));
 
         // Act
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(locationSearchDTO);
@@ -163,10 +175,12 @@ public class RestaurantSearchServiceTest {
     @Test
     void searchRestaurants_ShouldFilterByPriceRange() {
         // Arrange
-        when(restaurantRepository.findByNameContainingIgnoreCase("Mama"))
-            .thenReturn(List.of(italianRestaurant));
-        when(restaurantConfigService.isRestaurantOpen(any()))
-            .thenReturn(true);
+        when(restaurantLocationIndex.findWithinDistance(anyDouble(), anyDouble(), anyDouble()))
+            .thenReturn(List.of(new RestaurantLocationIndex.Match(1, 0.0)));
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenAnswer(invocation -> openFor(invocation.getArgument(0)));
 
         // Act
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
@@ -175,15 +189,20 @@ public class RestaurantSearchServiceTest {
         assertEquals(1, results.size());
         assertTrue(results.get(0).getAveragePrice() >= 10.0);
         assertTrue(results.get(0).getAveragePrice() <= 50.0);
+        assertEquals(new BigDecimal("12.99"), results.get(0).getMinPrice());
+        assertEquals(new BigDecimal("15.99"), results.get(0).getMaxPrice());
     }
 
     @Test
     void searchRestaurants_ShouldFilterByDeliveryTime() {
         // Arrange
-        when(restaurantRepository.findByNameContainingIgnoreCase("Mama"))
-            .thenReturn(List.of(italianRestaurant));
-        when(restaurantConfigService.isRestaurantOpen(1))
-            .thenReturn(true);
+        searchDTO.setDeliveryTime("12:00");
+        when(restaurantLocationIndex.findWithinDistance(anyDouble(), anyDouble(), anyDouble()))
+            .thenReturn(List.of(new RestaurantLocationIndex.Match(1, 0.0)));
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant)));
+        when(restaurantConfigService.openStatus(eq(List.of(1)), any(Instant.class)))
+            .thenReturn(Map.of(1, true));
 
         // Act
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
@@ -196,15 +215,10 @@ public class RestaurantSearchServiceTest {
     @Test
     void searchRestaurants_ShouldReturnEmptyList_WhenNoMatchesFound() {
         // Arrange
-        when(restaurantRepository.findByNameContainingIgnoreCase("Mama"))
-            .thenReturn(List.of());
-        when(restaurantRepository.findByCuisineTypeContainingIgnoreCase("Italian"))
-            .thenReturn(List.of());
-        when(restaurantRepository.findByLocationWithinDistance(
-            any(BigDecimal.class),
-            any(BigDecimal.class),
-            anyDouble()))
+        when(restaurantLocationIndex.findWithinDistance(anyDouble(), anyDouble(), anyDouble()))
             .thenReturn(List.of());
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(Page.empty());
 
         // Act
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(searchDTO);
@@ -217,15 +231,90 @@ public class RestaurantSearchServiceTest {
     void searchRestaurants_ShouldHandleNullSearchParameters() {
         // Arrange
         RestaurantSearchDTO nullSearchDTO = new RestaurantSearchDTO();
-        when(restaurantRepository.findAll())
-            .thenReturn(List.of(italianRestaurant, chineseRestaurant));
-        when(restaurantConfigService.isRestaurantOpen(any()))
-            .thenReturn(true);
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant, chineseRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenAnswer(invocation -> openFor(invocation.getArgument(0)));
 
         // Act
         List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(nullSearchDTO);
 
         // Assert
         assertEquals(2, results.size());
+        verifyNoInteractions(restaurantLocationIndex);
+    }
+
+    @Test
+    void searchRestaurants_ShouldRequestSortedAndCappedPage() {
+        // Arrange
+        RestaurantSearchDTO pagedSearchDTO = RestaurantSearchDTO.builder()
+            .sortBy("rating")
+            .page(2)
+            .size(1000)
+            .build();
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(Page.empty());
+
+        // Act
+        restaurantSearchService.searchRestaurants(pagedSearchDTO);
+
+        // Assert
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(restaurantRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        assertEquals(2, pageable.getPageNumber());
+        assertEquals(100, pageable.getPageSize());
+        assertEquals(Sort.Direction.DESC, pageable.getSort().getOrderFor("rating").getDirection());
+        assertNotNull(pageable.getSort().getOrderFor("restaurantId"));
+    }
+
+    @Test
+    void searchRestaurants_ShouldReturnEveryMatch_WhenNoPageIsRequested() {
+        // Arrange
+        RestaurantSearchDTO listingDTO = RestaurantSearchDTO.builder().sortBy("name").build();
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant, chineseRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenAnswer(invocation -> openFor(invocation.getArgument(0)));
+
+        // Act
+        List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(listingDTO);
+
+        // Assert
+        assertEquals(2, results.size());
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(restaurantRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertTrue(pageableCaptor.getValue().isUnpaged());
+        assertNotNull(pageableCaptor.getValue().getSort().getOrderFor("name"));
+    }
+
+    @Test
+    void searchRestaurants_ShouldApplyOpenFilterBeforePaging() {
+        // Arrange
+        RestaurantSearchDTO openNowDTO = RestaurantSearchDTO.builder()
+            .deliveryTime("12:00")
+            .page(0)
+            .size(1)
+            .build();
+        when(restaurantRepository.findAll(any(Specification.class), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(italianRestaurant, chineseRestaurant)));
+        when(restaurantConfigService.openStatus(anyCollection(), any(Instant.class)))
+            .thenReturn(Map.of(italianRestaurant.getRestaurantId(), false, chineseRestaurant.getRestaurantId(), true));
+
+        // Act
+        List<RestaurantSearchResultDTO> results = restaurantSearchService.searchRestaurants(openNowDTO);
+
+        // Assert
+        assertEquals(1, results.size());
+        assertEquals(chineseRestaurant.getRestaurantId(), results.get(0).getRestaurantId());
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(restaurantRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertTrue(pageableCaptor.getValue().isUnpaged());
+    }
+
+    private Map<Integer, Boolean> openFor(Collection<Integer> restaurantIds) {
+        Map<Integer, Boolean> openStatus = new HashMap<>();
+        restaurantIds.forEach(id -> openStatus.put(id, true));
+        return openStatus;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,82 @@
+package com.hufds.service;
+
+import com.hufds.entity.RevokedToken;
+import com.hufds.repository.RevokedTokenRepository;
+import com.hufds.util.TokenDigest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenBlacklistServiceTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @InjectMocks
+    private TokenBlacklistService tokenBlacklistService;
+
+    @Test
+    void blacklistToken_StoresDigestNotToken() {
+        // Arrange
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+
+        // Act
+        tokenBlacklistService.blacklistToken(TOKEN);
+
+        // Assert
+        assertTrue(tokenBlacklistService.isTokenBlacklisted(TOKEN));
+        assertFalse(tokenBlacklistService.isTokenBlacklisted("other.token.value"));
+        ArgumentCaptor<RevokedToken> saved = ArgumentCaptor.forClass(RevokedToken.class);
+        verify(revokedTokenRepository).save(saved.capture());
+        assertEquals(TokenDigest.of(TOKEN), saved.getValue().getTokenDigest());
+    }
+
+    @Test
+    void sweepExpiredTokens_RemovesOnlyExpired() {
+        // Arrange
+        when(jwtService.extractExpiration(TOKEN)).thenReturn(new Date(System.currentTimeMillis() - 1_000));
+        when(jwtService.extractExpiration("live.token.value")).thenReturn(new Date(System.currentTimeMillis() + 60_000));
+        tokenBlacklistService.blacklistToken(TOKEN);
+        tokenBlacklistService.blacklistToken("live.token.value");
+
+        // Act
+        tokenBlacklistService.sweepExpiredTokens();
+
+        // Assert
+        assertFalse(tokenBlacklistService.isTokenBlacklisted(TOKEN));
+        assertTrue(tokenBlacklistService.isTokenBlacklisted("live.token.value"));
+        assertEquals(1, tokenBlacklistService.getStats().size());
+        assertEquals(1, tokenBlacklistService.getStats().lastSweepRemoved());
+        verify(revokedTokenRepository).deleteExpired(any(LocalDateTime.class));
+    }
+
+    @Test
+    void loadRevokedTokens_RestoresPersistedDigests() {
+        // Arrange
+        when(revokedTokenRepository.findByExpiresAtAfter(any(LocalDateTime.class))).thenReturn(List.of(
+                new RevokedToken(TokenDigest.of(TOKEN), LocalDateTime.now().plusHours(1))));
+
+        // Act
+        tokenBlacklistService.loadRevokedTokens();
+
+        // Assert
+        assertTrue(tokenBlacklistService.isTokenBlacklisted(TOKEN));
+    }
+}
@@ -0,0 +1,80 @@
+package com.hufds.service;
+
+import com.hufds.entity.Message;
+import com.hufds.repository.MessageRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UnreadMessageCounterTest {
+
+    @Mock
+    private MessageRepository messageRepository;
+
+    @InjectMocks
+    private UnreadMessageCounter unreadMessageCounter;
+
+    @Test
+    void getUnreadCount_ShouldQueryOnce_AndApplyChanges() {
+        // Arrange
+        when(messageRepository.countUnread(Message.UserType.CUSTOMER, 1L)).thenReturn(3L);
+
+        // Act
+        unreadMessageCounter.getUnreadCount(Message.UserType.CUSTOMER, 1L);
+        unreadMessageCounter.increment(Message.UserType.CUSTOMER, 1L);
+        unreadMessageCounter.decrement(Message.UserType.CUSTOMER, 1L);
+        unreadMessageCounter.decrement(Message.UserType.CUSTOMER, 1L);
+        long count = unreadMessageCounter.getUnreadCount(Message.UserType.CUSTOMER, 1L);
+
+        // Assert
+        assertEquals(2L, count);
+        verify(messageRepository, times(1)).countUnread(Message.UserType.CUSTOMER, 1L);
+    }
+
+    @Test
+    void getUnreadCount_ShouldKeepReceiverTypesApart() {
+        // Arrange
+        when(messageRepository.countUnread(Message.UserType.CUSTOMER, 1L)).thenReturn(0L);
+        when(messageRepository.countUnread(Message.UserType.COURIER, 1L)).thenReturn(5L);
+        unreadMessageCounter.getUnreadCount(Message.UserType.CUSTOMER, 1L);
+
+        // Act
+        unreadMessageCounter.increment(Message.UserType.CUSTOMER, 1L);
+
+        // Assert
+        assertEquals(1L, unreadMessageCounter.getUnreadCount(Message.UserType.CUSTOMER, 1L));
+        assertEquals(5L, unreadMessageCounter.getUnreadCount(Message.UserType.COURIER, 1L));
+    }
+
+    @Test
+    void decrement_ShouldNotGoBelowZero() {
+        // Arrange
+        when(messageRepository.countUnread(Message.UserType.ADMIN, 1L)).thenReturn(0L);
+        unreadMessageCounter.getUnreadCount(Message.UserType.ADMIN, 1L);
+
+        // Act
+        unreadMessageCounter.decrement(Message.UserType.ADMIN, 1L);
+
+        // Assert
+        assertEquals(0L, unreadMessageCounter.getUnreadCount(Message.UserType.ADMIN, 1L));
+    }
+
+    @Test
+    void increment_ShouldIgnoreReceiversThatWereNeverRead() {
+        // Arrange
+        when(messageRepository.countUnread(Message.UserType.RESTAURANT, 2L)).thenReturn(4L);
+
+        // Act
+        unreadMessageCounter.increment(Message.UserType.RESTAURANT, 2L);
+        long count = unreadMessageCounter.getUnreadCount(Message.UserType.RESTAURANT, 2L);
+
+        // Assert
+        assertEquals(4L, count);
+    }
+}
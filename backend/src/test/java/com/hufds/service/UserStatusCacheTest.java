@@ -0,0 +1,100 @@
+package com.hufds.service;
+
+import com.hufds.repository.AdminRepository;
+import com.hufds.repository.CourierRepository;
+import com.hufds.repository.CustomerRepository;
+import com.hufds.repository.RestaurantRepository;
+import com.hufds.repository.UserStatusView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserStatusCacheTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CourierRepository courierRepository;
+
+    @Mock
+    private AdminRepository adminRepository;
+
+    @InjectMocks
+    private UserStatusCache userStatusCache;
+
+    @Test
+    void getStatus_ShouldQueryOnce_WhileCached() {
+        // Arrange
+        when(customerRepository.findStatusByEmail(EMAIL)).thenReturn(Optional.of(view(null, false)));
+
+        // Act
+        userStatusCache.getStatus("customer", EMAIL);
+        Optional<UserStatusCache.UserStatus> status = userStatusCache.getStatus("CUSTOMER", EMAIL);
+
+        // Assert
+        assertFalse(status.orElseThrow().isDeleted());
+        verify(customerRepository, times(1)).findStatusByEmail(EMAIL);
+    }
+
+    @Test
+    void invalidate_ShouldReloadStatusOnNextLookup() {
+        // Arrange
+        when(courierRepository.findStatusByEmail(EMAIL))
+                .thenReturn(Optional.of(view(null, false)), Optional.of(view(LocalDateTime.now(), false)));
+        userStatusCache.getStatus("courier", EMAIL);
+
+        // Act
+        userStatusCache.invalidate("courier", EMAIL);
+        Optional<UserStatusCache.UserStatus> status = userStatusCache.getStatus("courier", EMAIL);
+
+        // Assert
+        assertTrue(status.orElseThrow().isDeleted());
+    }
+
+    @Test
+    void getStatus_ShouldNotCacheUnknownUsers() {
+        // Arrange
+        when(restaurantRepository.findStatusByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        // Act
+        userStatusCache.getStatus("restaurant", EMAIL);
+        userStatusCache.getStatus("restaurant", EMAIL);
+
+        // Assert
+        verify(restaurantRepository, times(2)).findStatusByEmail(EMAIL);
+    }
+
+    private UserStatusView view(LocalDateTime deletedAt, boolean banned) {
+        return new UserStatusView() {
+            @Override
+            public LocalDateTime getDeletedAt() {
+                return deletedAt;
+            }
+
+            @Override
+            public Boolean getBanned() {
+                return banned;
+            }
+
+            @Override
+            public LocalDateTime getBanOpenDate() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package com.hufds.service.impl;
+
+import com.hufds.dto.RestaurantAnalyticsDTO;
+import com.hufds.entity.OrderRollup;
+import com.hufds.entity.Restaurant;
+import com.hufds.repository.CustomerRepository;
+import com.hufds.repository.OrderDailyRollupRepository;
+import com.hufds.repository.OrderRollupRepository;
+import com.hufds.repository.RestaurantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceImplTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private OrderRollupRepository orderRollupRepository;
+
+    @Mock
+    private OrderDailyRollupRepository orderDailyRollupRepository;
+
+    @InjectMocks
+    private AnalyticsServiceImpl analyticsService;
+
+    @Test
+    void getRestaurantAnalytics_ShouldReadTotalsFromRollups() {
+        // Arrange
+        when(restaurantRepository.findAll()).thenReturn(List.of(restaurant(1, "Kebapci"), restaurant(2, "Pideci")));
+        when(orderRollupRepository.findByScope(OrderRollup.Scope.RESTAURANT)).thenReturn(List.of(
+                new OrderRollup(10, OrderRollup.Scope.RESTAURANT, 1, 4, new BigDecimal("100.00"))));
+
+        // Act
+        List<RestaurantAnalyticsDTO> result = analyticsService.getRestaurantAnalytics();
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(4, result.get(0).getTotalOrders());
+        assertEquals(new BigDecimal("100.00"), result.get(0).getTotalRevenue());
+        assertEquals(25f, result.get(0).getAverageOrderValue());
+        assertEquals(0, result.get(1).getTotalOrders());
+        assertEquals(BigDecimal.ZERO, result.get(1).getTotalRevenue());
+        assertEquals(0f, result.get(1).getAverageOrderValue());
+    }
+
+    private Restaurant restaurant(Integer id, String name) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(id);
+        restaurant.setName(name);
+        return restaurant;
+    }
+}
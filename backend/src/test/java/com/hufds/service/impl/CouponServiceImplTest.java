@@ -0,0 +1,49 @@
+package com.hufds.service.impl;
+
+import com.hufds.repository.CouponRepository;
+import com.hufds.service.ActiveDiscountCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CouponServiceImplTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ActiveDiscountCache activeDiscountCache;
+
+    @InjectMocks
+    private CouponServiceImpl couponService;
+
+    @Test
+    void redeemCoupon_ReturnsTrue_WhenConditionalUpdateMatched() {
+        // Arrange
+        when(couponRepository.redeem(eq(5L), any(LocalDate.class))).thenReturn(1);
+
+        // Act & Assert
+        assertTrue(couponService.redeemCoupon(5L));
+        verify(activeDiscountCache).recordRedemption(5L);
+    }
+
+    @Test
+    void redeemCoupon_ReturnsFalse_WhenQuotaExhausted() {
+        // Arrange
+        when(couponRepository.redeem(eq(5L), any(LocalDate.class))).thenReturn(0);
+
+        // Act & Assert
+        assertFalse(couponService.redeemCoupon(5L));
+        verify(couponRepository, never()).save(any());
+        verify(activeDiscountCache, never()).recordRedemption(any());
+    }
+}
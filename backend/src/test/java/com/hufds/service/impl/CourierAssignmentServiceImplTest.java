@@ -0,0 +1,341 @@
+package com.hufds.service.impl;
+
+import com.hufds.dto.CourierAssignmentRequestDTO;
+import com.hufds.dto.CourierOrderHistoryDTO;
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.entity.Address;
+import com.hufds.entity.Courier;
+import com.hufds.entity.CourierAssignment;
+import com.hufds.entity.Customer;
+import com.hufds.entity.Order;
+import com.hufds.entity.Restaurant;
+import com.hufds.exception.CustomException;
+import com.hufds.repository.CourierAssignmentRepository;
+import com.hufds.repository.CourierRepository;
+import com.hufds.repository.OrderRepository;
+import com.hufds.service.OrderEventStreamService;
+import com.hufds.service.OrdersNeedingCourierIndex;
+import com.hufds.service.PaymentService;
+import com.hufds.util.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourierAssignmentServiceImplTest {
+
+    @Mock
+    private CourierAssignmentRepository assignmentRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private CourierRepository courierRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private OrdersNeedingCourierIndex ordersNeedingCourierIndex;
+
+    @Mock
+    private OrderEventStreamService orderEventStreamService;
+
+    @InjectMocks
+    private CourierAssignmentServiceImpl courierAssignmentService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(courierAssignmentService, "requestTimeout", Duration.ofMinutes(5));
+    }
+
+    @Test
+    void expireDueAssignments_ShouldExpireOnlyDueRequestsInOneUpdate() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, now.minusMinutes(10)), pending(2, now.minusMinutes(6)),
+                        pending(3, now.minusMinutes(1))));
+        when(assignmentRepository.expireRequested(anyCollection())).thenReturn(List.of(expired(1), expired(2)));
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verify(assignmentRepository, times(1)).expireRequested(argThat(ids ->
+                ids.size() == 2 && ids.contains(1) && ids.contains(2)));
+        verify(ordersNeedingCourierIndex, times(1)).invalidate(7);
+    }
+
+    @Test
+    void expireDueAssignments_ShouldPublishEventsForExpiredRequests() {
+        // Arrange
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, LocalDateTime.now().minusMinutes(10))));
+        when(assignmentRepository.expireRequested(List.of(1))).thenReturn(List.of(expired(1)));
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verify(orderEventStreamService, times(1)).publish(argThat(event ->
+                event.getAssignmentId() == 1 && event.getOrderId() == 101 && event.getCourierId() == 3
+                        && event.getAssignmentStatus() == CourierAssignment.AssignmentStatus.EXPIRED));
+    }
+
+    @Test
+    void expireDueAssignments_ShouldNotPublish_RequestsExpiredOrAnsweredElsewhere() {
+        // Arrange
+        LocalDateTime due = LocalDateTime.now().minusMinutes(10);
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, due), pending(2, due)));
+        // Assignment 1 was already expired by checkAndHandleExpiredAssignment, the update skips it
+        when(assignmentRepository.expireRequested(anyCollection())).thenReturn(List.of(expired(2)));
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verify(orderEventStreamService, times(1)).publish(any());
+        verify(orderEventStreamService, never()).publish(argThat(event -> event.getAssignmentId() == 1));
+    }
+
+    @Test
+    void expireDueAssignments_ShouldNotInvalidate_WhenNoRowChanged() {
+        // Arrange
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, LocalDateTime.now().minusMinutes(10))));
+        when(assignmentRepository.expireRequested(List.of(1))).thenReturn(List.of());
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verifyNoInteractions(orderEventStreamService, ordersNeedingCourierIndex);
+    }
+
+    @Test
+    void expireDueAssignments_ShouldSplitBacklogIntoBatches() {
+        // Arrange
+        ReflectionTestUtils.setField(courierAssignmentService, "expiryBatchSize", 2);
+        LocalDateTime due = LocalDateTime.now().minusMinutes(10);
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, due), pending(2, due.plusSeconds(1)), pending(3, due.plusSeconds(2))));
+        when(assignmentRepository.expireRequested(anyCollection())).thenReturn(List.of());
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verify(assignmentRepository).expireRequested(List.of(1, 2));
+        verify(assignmentRepository).expireRequested(List.of(3));
+    }
+
+    @Test
+    void expireDueAssignments_ShouldSkipUpdate_WhenNothingIsDue() {
+        // Arrange
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, LocalDateTime.now())));
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verify(assignmentRepository, never()).expireRequested(anyCollection());
+    }
+
+    @Test
+    void expireDueAssignments_ShouldRetry_WhenUpdateFails() {
+        // Arrange
+        when(assignmentRepository.findPendingByStatus(CourierAssignment.AssignmentStatus.REQUESTED))
+                .thenReturn(List.of(pending(1, LocalDateTime.now().minusMinutes(10))));
+        when(assignmentRepository.expireRequested(anyCollection()))
+                .thenThrow(new IllegalStateException("connection lost"))
+                .thenReturn(List.of(expired(1)));
+        courierAssignmentService.loadPendingExpiries();
+
+        // Act
+        courierAssignmentService.expireDueAssignments();
+        courierAssignmentService.expireDueAssignments();
+
+        // Assert
+        verify(assignmentRepository, times(2)).expireRequested(List.of(1));
+    }
+
+    @Test
+    void assignOrderToCourier_ShouldReject_WhenOrderBelongsToAnotherRestaurant() {
+        // Arrange
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(7);
+        Order order = new Order();
+        order.setOrderId(101);
+        order.setRestaurant(restaurant);
+        order.setAddress(new Address());
+        order.setCustomer(new Customer());
+        order.setStatus(Order.OrderStatus.PROCESSING);
+        when(orderRepository.findById(101)).thenReturn(Optional.of(order));
+        CourierAssignmentRequestDTO request = CourierAssignmentRequestDTO.builder()
+                .orderId(101).restaurantId(8).build();
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> courierAssignmentService.assignOrderToCourier(request));
+        assertEquals(HttpStatus.FORBIDDEN, exception.getStatus());
+        verifyNoInteractions(assignmentRepository);
+    }
+
+    @Test
+    void getCourierOrderHistoryPage_ShouldStartFromFirstCursor_AndReturnNextCursor() {
+        // Arrange
+        LocalDateTime noon = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(courierRepository.findById(3)).thenReturn(Optional.of(new Courier()));
+        when(assignmentRepository.findHistoryPage(3, KeysetCursor.FIRST.time(), KeysetCursor.FIRST.intId(),
+                PageRequest.of(0, 3)))
+                .thenReturn(List.of(assignment(30, noon), assignment(20, noon.minusHours(1)),
+                        assignment(10, noon.minusHours(2))));
+
+        // Act
+        CursorPageDTO<CourierOrderHistoryDTO> page = courierAssignmentService.getCourierOrderHistoryPage(3, null, 2);
+
+        // Assert
+        assertEquals(List.of(30, 20), page.getItems().stream().map(CourierOrderHistoryDTO::getAssignmentId).toList());
+        assertEquals(new KeysetCursor(noon.minusHours(1), 20), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getCourierOrderHistoryPage_ShouldContinueWithinTiedAssignedAt() {
+        // Arrange
+        LocalDateTime noon = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(courierRepository.findById(3)).thenReturn(Optional.of(new Courier()));
+        when(assignmentRepository.findHistoryPage(3, KeysetCursor.FIRST.time(), KeysetCursor.FIRST.intId(),
+                PageRequest.of(0, 2)))
+                .thenReturn(List.of(assignment(30, noon), assignment(20, noon)));
+        when(assignmentRepository.findHistoryPage(3, noon, 30, PageRequest.of(0, 2)))
+                .thenReturn(List.of(assignment(20, noon)));
+
+        // Act
+        CursorPageDTO<CourierOrderHistoryDTO> first = courierAssignmentService.getCourierOrderHistoryPage(3, null, 1);
+        CursorPageDTO<CourierOrderHistoryDTO> second =
+                courierAssignmentService.getCourierOrderHistoryPage(3, first.getNextCursor(), 1);
+
+        // Assert
+        assertEquals(30, first.getItems().get(0).getAssignmentId());
+        assertEquals(20, second.getItems().get(0).getAssignmentId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getCourierOrderHistoryPage_ShouldEndWithoutCursor_OnLastPage() {
+        // Arrange
+        LocalDateTime noon = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(courierRepository.findById(3)).thenReturn(Optional.of(new Courier()));
+        when(assignmentRepository.findHistoryPage(3, noon, 30, PageRequest.of(0, 3)))
+                .thenReturn(List.of(assignment(20, noon.minusHours(1))));
+
+        // Act
+        CursorPageDTO<CourierOrderHistoryDTO> page = courierAssignmentService.getCourierOrderHistoryPage(
+                3, new KeysetCursor(noon, 30).encode(), 2);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getCourierOrderHistoryPage_ShouldReject_InvalidCursor() {
+        // Arrange
+        when(courierRepository.findById(3)).thenReturn(Optional.of(new Courier()));
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> courierAssignmentService.getCourierOrderHistoryPage(3, "not-a-cursor", 2));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(assignmentRepository, never()).findHistoryPage(any(), any(), any(), any());
+    }
+
+    private CourierAssignment assignment(Integer assignmentId, LocalDateTime assignedAt) {
+        Order order = new Order();
+        order.setOrderId(assignmentId + 100);
+        CourierAssignment assignment = new CourierAssignment();
+        assignment.setAssignmentId(assignmentId);
+        assignment.setAssignedAt(assignedAt);
+        assignment.setOrder(order);
+        return assignment;
+    }
+
+    private CourierAssignmentRepository.PendingAssignment pending(Integer id, LocalDateTime assignedAt) {
+        return new CourierAssignmentRepository.PendingAssignment() {
+            @Override
+            public Integer getAssignmentId() {
+                return id;
+            }
+
+            @Override
+            public Integer getOrderId() {
+                return id + 100;
+            }
+
+            @Override
+            public Integer getRestaurantId() {
+                return 7;
+            }
+
+            @Override
+            public Integer getCourierId() {
+                return 3;
+            }
+
+            @Override
+            public LocalDateTime getAssignedAt() {
+                return assignedAt;
+            }
+        };
+    }
+
+    private CourierAssignmentRepository.ExpiredAssignment expired(Integer id) {
+        return new CourierAssignmentRepository.ExpiredAssignment() {
+            @Override
+            public Integer getAssignmentId() {
+                return id;
+            }
+
+            @Override
+            public Integer getOrderId() {
+                return id + 100;
+            }
+
+            @Override
+            public Integer getRestaurantId() {
+                return 7;
+            }
+
+            @Override
+            public Integer getCourierId() {
+                return 3;
+            }
+        };
+    }
+}
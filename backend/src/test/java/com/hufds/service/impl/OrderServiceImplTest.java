@@ -0,0 +1,324 @@
+package com.hufds.service.impl;
+
+import com.hufds.dto.CursorPageDTO;
+import com.hufds.dto.OrderItemRequestDTO;
+import com.hufds.dto.OrderResponseDTO;
+import com.hufds.dto.PlaceOrderRequestDTO;
+import com.hufds.entity.Address;
+import com.hufds.entity.Coupon;
+import com.hufds.entity.Customer;
+import com.hufds.entity.MenuItem;
+import com.hufds.entity.Order;
+import com.hufds.entity.Payment;
+import com.hufds.entity.Promotion;
+import com.hufds.entity.Restaurant;
+import com.hufds.exception.CustomException;
+import com.hufds.repository.AddressRepository;
+import com.hufds.repository.CustomerRepository;
+import com.hufds.repository.MenuItemRepository;
+import com.hufds.repository.OrderRepository;
+import com.hufds.repository.RestaurantRepository;
+import com.hufds.service.ActiveDiscountCache;
+import com.hufds.service.CouponService;
+import com.hufds.service.PaymentService;
+import com.hufds.util.KeysetCursor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplTest {
+
+    private static final LocalDateTime NOON = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private CouponService couponService;
+
+    @Mock
+    private ActiveDiscountCache activeDiscountCache;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
+    @Test
+    void placeOrder_ShouldPersistOrderItemsAndPaymentInOneSave() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        when(menuItemRepository.findAllById(Set.of(11, 12)))
+                .thenReturn(List.of(menuItem(11, 7, "12.50"), menuItem(12, 7, "4.00")));
+        Payment payment = new Payment();
+        when(paymentService.preparePayment(any(Order.class), eq(Payment.PaymentMethod.CREDIT_CARD))).thenReturn(payment);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Order order = orderService.placeOrder(request(item(11, 2), item(12, 1)));
+
+        // Assert
+        verify(orderRepository, times(1)).save(any(Order.class));
+        assertEquals(new BigDecimal("29.00"), order.getTotalPrice());
+        assertEquals(2, order.getOrderItems().size());
+        assertTrue(order.getOrderItems().stream().allMatch(orderItem -> orderItem.getOrder() == order));
+        assertSame(payment, order.getPayment());
+        assertEquals(Order.OrderStatus.PENDING, order.getStatus());
+    }
+
+    @Test
+    void placeOrder_ShouldApplyCouponDiscount_WhenMinimumIsMet() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        when(menuItemRepository.findAllById(Set.of(11))).thenReturn(List.of(menuItem(11, 7, "20.00")));
+        Coupon coupon = Coupon.builder().id(5L).name("SPRING").discountAmount(new BigDecimal("5.00"))
+                .minOrderAmount(new BigDecimal("30.00")).build();
+        when(activeDiscountCache.findActiveCoupon(5L)).thenReturn(Optional.of(coupon));
+        when(couponService.redeemCoupon(5L)).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PlaceOrderRequestDTO request = request(item(11, 2));
+        request.setCouponId(5L);
+
+        // Act
+        Order order = orderService.placeOrder(request);
+
+        // Assert
+        assertEquals(new BigDecimal("35.00"), order.getTotalPrice());
+    }
+
+    @Test
+    void placeOrder_ShouldNotRedeemCoupon_WhenMinimumIsNotMet() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        when(menuItemRepository.findAllById(Set.of(11))).thenReturn(List.of(menuItem(11, 7, "20.00")));
+        Coupon coupon = Coupon.builder().id(5L).name("SPRING").discountAmount(new BigDecimal("5.00"))
+                .minOrderAmount(new BigDecimal("30.00")).build();
+        when(activeDiscountCache.findActiveCoupon(5L)).thenReturn(Optional.of(coupon));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PlaceOrderRequestDTO request = request(item(11, 1));
+        request.setCouponId(5L);
+
+        // Act
+        Order order = orderService.placeOrder(request);
+
+        // Assert
+        assertEquals(new BigDecimal("20.00"), order.getTotalPrice());
+        verify(couponService, never()).redeemCoupon(any());
+    }
+
+    @Test
+    void placeOrder_ShouldApplyPromotionPercentage() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        when(menuItemRepository.findAllById(Set.of(11))).thenReturn(List.of(menuItem(11, 7, "40.00")));
+        Promotion promotion = Promotion.builder().id(3L).name("LUNCH").discountPercentage(25.0)
+                .isActive(true).endDate(LocalDate.now().plusDays(1)).build();
+        when(activeDiscountCache.findActivePromotion(3L)).thenReturn(Optional.of(promotion));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PlaceOrderRequestDTO request = request(item(11, 1));
+        request.setPromotionId(3L);
+
+        // Act
+        Order order = orderService.placeOrder(request);
+
+        // Assert
+        assertEquals(0, new BigDecimal("30.00").compareTo(order.getTotalPrice()));
+    }
+
+    @Test
+    void placeOrder_ShouldReject_ItemFromAnotherRestaurant() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        when(menuItemRepository.findAllById(Set.of(11))).thenReturn(List.of(menuItem(11, 8, "10.00")));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> orderService.placeOrder(request(item(11, 1))));
+        assertEquals("Menu item does not belong to restaurant", exception.getMessage());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void placeOrder_ShouldReject_UnavailableItem() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        MenuItem unavailable = menuItem(11, 7, "10.00");
+        unavailable.setAvailability(false);
+        when(menuItemRepository.findAllById(Set.of(11))).thenReturn(List.of(unavailable));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> orderService.placeOrder(request(item(11, 1))));
+        assertTrue(exception.getMessage().startsWith("Menu item is not available"));
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void placeOrder_ShouldReject_DeletedItem() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        MenuItem deleted = menuItem(11, 7, "10.00");
+        deleted.setDeletedAt(LocalDateTime.now());
+        when(menuItemRepository.findAllById(Set.of(11))).thenReturn(List.of(deleted));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> orderService.placeOrder(request(item(11, 1))));
+        assertEquals("Menu item not found", exception.getMessage());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void placeOrder_ShouldReject_MissingItemId() {
+        // Arrange
+        givenCustomerRestaurantAndAddress();
+        when(menuItemRepository.findAllById(Set.of(11, 99))).thenReturn(List.of(menuItem(11, 7, "10.00")));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> orderService.placeOrder(request(item(11, 1), item(99, 1))));
+        assertEquals("Menu item not found", exception.getMessage());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    void getRestaurantOrderPage_ShouldStartFromFirstCursor_AndReturnNextCursor() {
+        // Arrange
+        when(restaurantRepository.findById(7)).thenReturn(Optional.of(new Restaurant()));
+        when(orderRepository.findRestaurantHistoryPage(7, KeysetCursor.FIRST.time(), KeysetCursor.FIRST.intId(),
+                PageRequest.of(0, 3)))
+                .thenReturn(List.of(order(30, NOON), order(20, NOON.minusHours(1)), order(10, NOON.minusHours(2))));
+
+        // Act
+        CursorPageDTO<OrderResponseDTO> page = orderService.getRestaurantOrderPage(7, null, 2);
+
+        // Assert
+        assertEquals(List.of(30, 20), page.getItems().stream().map(OrderResponseDTO::getOrderId).toList());
+        assertEquals(new KeysetCursor(NOON.minusHours(1), 20), KeysetCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void getRestaurantOrderPage_ShouldContinueWithinTiedCreatedAt() {
+        // Arrange
+        when(restaurantRepository.findById(7)).thenReturn(Optional.of(new Restaurant()));
+        when(orderRepository.findRestaurantHistoryPage(7, KeysetCursor.FIRST.time(), KeysetCursor.FIRST.intId(),
+                PageRequest.of(0, 2)))
+                .thenReturn(List.of(order(30, NOON), order(20, NOON)));
+        when(orderRepository.findRestaurantHistoryPage(7, NOON, 30, PageRequest.of(0, 2)))
+                .thenReturn(List.of(order(20, NOON)));
+
+        // Act
+        CursorPageDTO<OrderResponseDTO> first = orderService.getRestaurantOrderPage(7, null, 1);
+        CursorPageDTO<OrderResponseDTO> second = orderService.getRestaurantOrderPage(7, first.getNextCursor(), 1);
+
+        // Assert
+        assertEquals(30, first.getItems().get(0).getOrderId());
+        assertEquals(20, second.getItems().get(0).getOrderId());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getRestaurantOrderPage_ShouldEndWithoutCursor_OnLastPage() {
+        // Arrange
+        String cursor = new KeysetCursor(NOON, 30).encode();
+        when(restaurantRepository.findById(7)).thenReturn(Optional.of(new Restaurant()));
+        when(orderRepository.findRestaurantHistoryPage(7, NOON, 30, PageRequest.of(0, 3)))
+                .thenReturn(List.of(order(20, NOON.minusHours(1))));
+
+        // Act
+        CursorPageDTO<OrderResponseDTO> page = orderService.getRestaurantOrderPage(7, cursor, 2);
+
+        // Assert
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getRestaurantOrderPage_ShouldReject_InvalidCursor() {
+        // Arrange
+        when(restaurantRepository.findById(7)).thenReturn(Optional.of(new Restaurant()));
+
+        // Act & Assert
+        CustomException exception = assertThrows(CustomException.class,
+                () -> orderService.getRestaurantOrderPage(7, "not-a-cursor", 2));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+        verify(orderRepository, never()).findRestaurantHistoryPage(any(), any(), any(), any());
+    }
+
+    private void givenCustomerRestaurantAndAddress() {
+        Customer customer = new Customer();
+        customer.setCustomerId(1);
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(7);
+        Address address = new Address();
+        address.setCustomer(customer);
+        when(customerRepository.findById(1)).thenReturn(Optional.of(customer));
+        when(restaurantRepository.findById(7)).thenReturn(Optional.of(restaurant));
+        when(addressRepository.findById(4)).thenReturn(Optional.of(address));
+    }
+
+    private PlaceOrderRequestDTO request(OrderItemRequestDTO... items) {
+        PlaceOrderRequestDTO request = new PlaceOrderRequestDTO();
+        request.setCustomerId(1);
+        request.setRestaurantId(7);
+        request.setAddressId(4);
+        request.setPaymentMethod(Payment.PaymentMethod.CREDIT_CARD);
+        request.setItems(List.of(items));
+        return request;
+    }
+
+    private OrderItemRequestDTO item(Integer menuItemId, Integer quantity) {
+        OrderItemRequestDTO item = new OrderItemRequestDTO();
+        item.setMenuItemId(menuItemId);
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    private MenuItem menuItem(Integer menuItemId, Integer restaurantId, String price) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setRestaurantId(restaurantId);
+        MenuItem menuItem = new MenuItem();
+        menuItem.setMenuItemId(menuItemId);
+        menuItem.setRestaurant(restaurant);
+        menuItem.setName("Item " + menuItemId);
+        menuItem.setPrice(new BigDecimal(price));
+        return menuItem;
+    }
+
+    private Order order(Integer orderId, LocalDateTime createdAt) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCreatedAt(createdAt);
+        return order;
+    }
+}
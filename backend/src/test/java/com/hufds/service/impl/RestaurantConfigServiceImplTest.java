@@ -14,9 +14,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -139,4 +144,58 @@ class RestaurantConfigServiceImplTest {
         assertDoesNotThrow(() -> restaurantConfigService.deleteBusinessHours(1, 1));
         verify(businessHoursRepository, times(1)).delete(any(BusinessHours.class));
     }
-} 
\ No newline at end of file
+
+    @Test
+    void openStatus_UsesSingleQueryAndCachesSchedules() {
+        when(businessHoursRepository.findHoursByRestaurantIds(List.of(1, 2)))
+                .thenReturn(List.of(hoursRow(1, "MONDAY", LocalTime.of(9, 0), LocalTime.of(17, 0), false)));
+
+        Map<Integer, Boolean> first = restaurantConfigService.openStatus(List.of(1, 2), mondayAt(12, 0));
+        Map<Integer, Boolean> second = restaurantConfigService.openStatus(List.of(1, 2), mondayAt(18, 0));
+
+        assertTrue(first.get(1));
+        assertFalse(first.get(2));
+        assertFalse(second.get(1));
+        verify(businessHoursRepository, times(1)).findHoursByRestaurantIds(any());
+    }
+
+    @Test
+    void openStatus_HandlesHoursPastMidnightAndClosedDays() {
+        when(businessHoursRepository.findHoursByRestaurantIds(List.of(1))).thenReturn(List.of(
+                hoursRow(1, "MONDAY", LocalTime.of(18, 0), LocalTime.of(2, 0), false),
+                hoursRow(1, "TUESDAY", LocalTime.of(9, 0), LocalTime.of(17, 0), true)));
+
+        assertTrue(restaurantConfigService.openStatus(List.of(1), mondayAt(23, 30)).get(1));
+        assertTrue(restaurantConfigService.openStatus(List.of(1), mondayAt(0, 0).plus(Duration.ofHours(25))).get(1));
+        assertFalse(restaurantConfigService.openStatus(List.of(1), mondayAt(0, 0).plus(Duration.ofHours(36))).get(1));
+    }
+
+    @Test
+    void updateBusinessHours_EvictsCachedSchedule() {
+        when(businessHoursRepository.findHoursByRestaurantIds(List.of(1)))
+                .thenReturn(List.of(hoursRow(1, "MONDAY", LocalTime.of(9, 0), LocalTime.of(17, 0), false)));
+        when(businessHoursRepository.findById(1)).thenReturn(Optional.of(testBusinessHours));
+        when(businessHoursRepository.save(any(BusinessHours.class))).thenReturn(testBusinessHours);
+
+        restaurantConfigService.openStatus(List.of(1), mondayAt(12, 0));
+        restaurantConfigService.updateBusinessHours(1, testBusinessHoursDTO, 1);
+        restaurantConfigService.openStatus(List.of(1), mondayAt(12, 0));
+
+        verify(businessHoursRepository, times(2)).findHoursByRestaurantIds(List.of(1));
+    }
+
+    private Instant mondayAt(int hour, int minute) {
+        return LocalDate.of(2024, 1, 1).atTime(hour, minute).atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private BusinessHoursRepository.HoursRow hoursRow(Integer restaurantId, String day, LocalTime open,
+                                                      LocalTime close, boolean closed) {
+        return new BusinessHoursRepository.HoursRow() {
+            public Integer getRestaurantId() { return restaurantId; }
+            public String getDayOfWeek() { return day; }
+            public LocalTime getOpenTime() { return open; }
+            public LocalTime getCloseTime() { return close; }
+            public Boolean getIsClosed() { return closed; }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.hufds.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageVariantTest {
+
+    @Test
+    void nameFor_ShouldInsertSuffixBeforeExtension() {
+        // Act
+        String url = ImageVariant.CARD.nameFor("http://localhost:8080/uploads/menu-items/abc.jpg");
+
+        // Assert
+        assertEquals("http://localhost:8080/uploads/menu-items/abc-card.jpg", url);
+    }
+
+    @Test
+    void nameFor_ShouldAppendSuffix_WhenFileHasNoExtension() {
+        // Act
+        String url = ImageVariant.THUMBNAIL.nameFor("http://localhost:8080/uploads/menu-items/abc");
+
+        // Assert
+        assertEquals("http://localhost:8080/uploads/menu-items/abc-thumbnail", url);
+    }
+
+    @Test
+    void originalNameOf_ShouldStripVariantSuffix() {
+        // Act & Assert
+        assertEquals(Optional.of("abc.png"), ImageVariant.originalNameOf("abc-detail.png"));
+        assertEquals(Optional.empty(), ImageVariant.originalNameOf("abc.png"));
+        assertEquals(Optional.empty(), ImageVariant.originalNameOf("-card.png"));
+    }
+}
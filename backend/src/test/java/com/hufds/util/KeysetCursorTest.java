@@ -0,0 +1,62 @@
+package com.hufds.util;
+
+import com.hufds.exception.CustomException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeysetCursorTest {
+
+    @Test
+    void decode_RoundTripsEncodedCursor() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123000000), 42);
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    void decode_RoundTripsIdsBeyondIntegerRange() {
+        // Arrange
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 5, 1, 12, 0), 3_000_000_000L);
+
+        // Act
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(3_000_000_000L, decoded.id());
+    }
+
+    @Test
+    void intId_CapsFirstCursorAtIntegerMax() {
+        assertEquals(Integer.MAX_VALUE, KeysetCursor.FIRST.intId());
+        assertEquals(42, new KeysetCursor(LocalDateTime.now(), 42).intId());
+    }
+
+    @Test
+    void decode_ReturnsFirstPage_WhenCursorMissing() {
+        assertEquals(KeysetCursor.FIRST, KeysetCursor.decode(null));
+        assertEquals(KeysetCursor.FIRST, KeysetCursor.decode(""));
+    }
+
+    @Test
+    void decode_RejectsMalformedCursor() {
+        CustomException exception = assertThrows(CustomException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    void pageSize_DefaultsAndCaps() {
+        assertEquals(20, KeysetCursor.pageSize(null, 20, 100));
+        assertEquals(20, KeysetCursor.pageSize(0, 20, 100));
+        assertEquals(35, KeysetCursor.pageSize(35, 20, 100));
+        assertEquals(100, KeysetCursor.pageSize(5000, 20, 100));
+    }
+}